@@ -18,4 +18,40 @@ dependencies {
 
 tasks.test {
     useJUnitPlatform()
-}
\ No newline at end of file
+    // tests assert escape codes, which plain mode and color detection drop on a redirected stdout
+    systemProperty("simpleterminal.plain", "false")
+    systemProperty("simpleterminal.color.depth", "TRUECOLOR")
+}
+
+// JMH benchmarks: ./gradlew jmh [-Pjmh.include=<regex>] [-Pjmh.args="<extra JMH options>"]
+val jmh by sourceSets.creating {
+    compileClasspath += sourceSets.main.get().output
+    runtimeClasspath += sourceSets.main.get().output
+}
+
+dependencies {
+    "jmhImplementation"("org.openjdk.jmh:jmh-core:1.37")
+    "jmhAnnotationProcessor"("org.openjdk.jmh:jmh-generator-annprocess:1.37")
+}
+
+tasks.register<JavaExec>("jmh") {
+    description = "Runs the JMH benchmarks with GC allocation profiling."
+    group = "verification"
+    classpath = jmh.runtimeClasspath
+    mainClass.set("org.openjdk.jmh.Main")
+    // benchmarks run on the JDK the project targets, the same as CI
+    javaLauncher.set(javaToolchains.launcherFor {
+        languageVersion.set(JavaLanguageVersion.of(25))
+    })
+    // benchmarks measure colored output, also when stdout is redirected
+    systemProperty("simpleterminal.plain", "false")
+    systemProperty("simpleterminal.color.depth", "TRUECOLOR")
+    val results = layout.buildDirectory.file("reports/jmh/results.json")
+    outputs.upToDateWhen { false }
+    doFirst { results.get().asFile.parentFile.mkdirs() }
+    args(
+        listOf("-prof", "gc", "-rf", "json", "-rff", results.get().asFile.path) +
+            (findProperty("jmh.args")?.toString()?.split(" ")?.filter { it.isNotBlank() } ?: listOf()) +
+            listOfNotNull(findProperty("jmh.include")?.toString())
+    )
+}
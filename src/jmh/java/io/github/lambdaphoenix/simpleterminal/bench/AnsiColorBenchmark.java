@@ -0,0 +1,62 @@
+package io.github.lambdaphoenix.simpleterminal.bench;
+
+import io.github.lambdaphoenix.simpleterminal.ansi.AnsiColor;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the color factories of {@link AnsiColor}.
+ *
+ * @author lambdaphoenix
+ * @version 2026-10-16
+ * @since 0.2.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AnsiColorBenchmark {
+  /** Counter cycling through colors. */
+  private int n;
+
+  /**
+   * Looks up the same true color repeatedly, which is served from the cache.
+   *
+   * @return the color
+   */
+  @Benchmark
+  public AnsiColor fromRgbRepeated() {
+    return AnsiColor.fromRgb(255, 128, 0);
+  }
+
+  /**
+   * Looks up a different true color on every call, which mostly misses the cache.
+   *
+   * @return the color
+   */
+  @Benchmark
+  public AnsiColor fromRgbVarying() {
+    int i = this.n++;
+    return AnsiColor.fromRgb(i & 0xFF, i >> 8 & 0xFF, i >> 16 & 0xFF);
+  }
+
+  /**
+   * Looks up palette colors.
+   *
+   * @return the color
+   */
+  @Benchmark
+  public AnsiColor from256() {
+    return AnsiColor.from256(this.n++ & 0xFF);
+  }
+}
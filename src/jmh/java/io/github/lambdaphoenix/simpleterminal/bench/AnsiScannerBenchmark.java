@@ -0,0 +1,110 @@
+package io.github.lambdaphoenix.simpleterminal.bench;
+
+import io.github.lambdaphoenix.simpleterminal.ansi.AnsiColor;
+import io.github.lambdaphoenix.simpleterminal.ansi.AnsiScanner;
+import io.github.lambdaphoenix.simpleterminal.ansi.AnsiStyle;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks stripping escape sequences from a styled log with {@link AnsiScanner} against a
+ * regular expression.
+ *
+ * @author lambdaphoenix
+ * @version 2026-10-16
+ * @since 0.2.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AnsiScannerBenchmark {
+  /** A typical expression for stripping CSI and OSC sequences. */
+  private static final Pattern ESCAPES =
+      Pattern.compile("\u001B\\[[0-?]*[ -/]*[@-~]|\u001B\\][^\u0007\u001B]*(\u0007|\u001B\\\\)");
+
+  /** About 64 KB of log lines with colored levels. */
+  private String log;
+
+  /** The log encoded as UTF-8. */
+  private ByteBuffer bytes;
+
+  /** Reusable output buffer. */
+  private final StringBuilder out = new StringBuilder();
+
+  /** Reusable output buffer for bytes. */
+  private ByteBuffer dst;
+
+  /** Scanner for byte input. */
+  private final AnsiScanner scanner = new AnsiScanner();
+
+  /** Builds the log. */
+  @Setup
+  public void setup() {
+    StringBuilder sb = new StringBuilder();
+    for (int i = 0; sb.length() < 65536; i++) {
+      sb.append(AnsiColor.BRIGHT_BLACK.fg())
+          .append("2026-10-16T12:00:00.")
+          .append(i % 1000)
+          .append(AnsiStyle.RESET_ALL)
+          .append(' ')
+          .append(i % 7 == 0 ? AnsiColor.RED.fg() + "ERROR" : AnsiColor.GREEN.fg() + "INFO ")
+          .append(AnsiStyle.RESET_ALL)
+          .append(" request ")
+          .append(i)
+          .append(" handled in ")
+          .append(i % 97)
+          .append(" ms\n");
+    }
+    this.log = sb.toString();
+    this.bytes = ByteBuffer.wrap(this.log.getBytes(StandardCharsets.UTF_8));
+    this.dst = ByteBuffer.allocate(this.bytes.capacity());
+  }
+
+  /**
+   * Strips the log with a regular expression.
+   *
+   * @return the plain log
+   */
+  @Benchmark
+  public String regex() {
+    return ESCAPES.matcher(this.log).replaceAll("");
+  }
+
+  /**
+   * Strips the log into a reused buffer with the scanner.
+   *
+   * @return the plain log buffer
+   */
+  @Benchmark
+  public StringBuilder scanner() {
+    this.out.setLength(0);
+    AnsiScanner.strip(this.log, this.out);
+    return this.out;
+  }
+
+  /**
+   * Strips the encoded log into a reused byte buffer with the scanner.
+   *
+   * @return the plain log buffer
+   */
+  @Benchmark
+  public ByteBuffer scannerBytes() {
+    this.scanner.strip(this.bytes.clear(), this.dst.clear());
+    return this.dst;
+  }
+}
@@ -0,0 +1,125 @@
+package io.github.lambdaphoenix.simpleterminal.bench;
+
+import io.github.lambdaphoenix.simpleterminal.ansi.AnsiColor;
+import io.github.lambdaphoenix.simpleterminal.ansi.AnsiStyle;
+import io.github.lambdaphoenix.simpleterminal.core.ConsoleBuilder;
+import io.github.lambdaphoenix.simpleterminal.core.FormatTemplate;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the rendering methods of {@link ConsoleBuilder}.
+ *
+ * <p>Every benchmark renders into a builder bound to a null output stream and flushes it, so the
+ * measured cost includes encoding and writing the output, but no terminal.
+ *
+ * @author lambdaphoenix
+ * @version 2026-10-16
+ * @since 0.2.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConsoleBuilderBenchmark {
+  /** Compiled format of a table-like row. */
+  private static final FormatTemplate ROW = FormatTemplate.compile("%-12s %6d %8.2f");
+
+  /** Builder writing to a null stream. */
+  private ConsoleBuilder cb;
+
+  /** Content lines of the boxed section. */
+  private List<String> lines;
+
+  /** Counter varying the formatted values. */
+  private int n;
+
+  /** Creates the builder and the box content. */
+  @Setup
+  public void setup() {
+    this.cb = ConsoleBuilder.to(OutputStream.nullOutputStream()).indent(1);
+    this.lines = new ArrayList<>();
+    for (int i = 0; i < 20; i++) this.lines.add("Line " + i + " of the boxed section");
+  }
+
+  /** Renders a box of 20 lines. */
+  @Benchmark
+  public void box() {
+    this.cb.box("Title", this.lines);
+    this.cb.flush();
+  }
+
+  /** Renders an indented line. */
+  @Benchmark
+  public void line() {
+    this.cb.line("The quick brown fox jumps over the lazy dog");
+    this.cb.flush();
+  }
+
+  /** Renders a formatted line via {@link String#format(String, Object...)}. */
+  @Benchmark
+  public void linef() {
+    int i = this.n++;
+    this.cb.linef("%-12s %6d %8.2f", "item", i, i * 0.5);
+    this.cb.flush();
+  }
+
+  /** Renders a formatted line with a compiled template and boxed arguments. */
+  @Benchmark
+  public void linefTemplate() {
+    int i = this.n++;
+    this.cb.linef(ROW, "item", i, i * 0.5);
+    this.cb.flush();
+  }
+
+  /** Renders a formatted line with a compiled template and primitive arguments. */
+  @Benchmark
+  public void formatTemplate() {
+    int i = this.n++;
+    this.cb.format(ROW).arg("item").arg(i).arg(i * 0.5).end();
+    this.cb.flush();
+  }
+
+  /** Renders a horizontal rule. */
+  @Benchmark
+  public void rule() {
+    this.cb.rule('-');
+    this.cb.flush();
+  }
+
+  /** Renders text with alternating colors and styles. */
+  @Benchmark
+  public void colorStyle() {
+    this.cb
+        .color(AnsiColor.RED)
+        .style(AnsiStyle.BOLD)
+        .text("Error: ")
+        .reset()
+        .color(AnsiColor.YELLOW)
+        .text("disk almost full")
+        .reset()
+        .newline();
+    this.cb.flush();
+  }
+
+  /** Renders cached inline markup. */
+  @Benchmark
+  public void markup() {
+    this.cb.markupLine("[bold red]Error:[/] disk [italic]almost[/] full");
+    this.cb.flush();
+  }
+}
@@ -0,0 +1,88 @@
+package io.github.lambdaphoenix.simpleterminal.bench;
+
+import io.github.lambdaphoenix.simpleterminal.core.ConsoleBuilder;
+import io.github.lambdaphoenix.simpleterminal.core.FormatTemplate;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks streaming a report of 1000 lines end to end, to a null stream and to a file.
+ *
+ * @author lambdaphoenix
+ * @version 2026-10-16
+ * @since 0.2.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OutputBenchmark {
+  /** Compiled format of a report row. */
+  private static final FormatTemplate ROW = FormatTemplate.compile("%6d  %-20s %10.3f");
+
+  /** Target of the output. */
+  @Param({"null", "file"})
+  public String sink;
+
+  /** Temporary file for the {@code file} sink. */
+  private Path file;
+
+  /** Stream the builder writes to. */
+  private OutputStream out;
+
+  /** Builder bound to the sink. */
+  private ConsoleBuilder cb;
+
+  /**
+   * Opens the sink.
+   *
+   * @throws IOException if the temporary file cannot be created
+   */
+  @Setup
+  public void setup() throws IOException {
+    if (this.sink.equals("file")) {
+      this.file = Files.createTempFile("simpleterminal-bench", ".txt");
+      this.out = Files.newOutputStream(this.file);
+    } else {
+      this.out = OutputStream.nullOutputStream();
+    }
+    this.cb = ConsoleBuilder.to(this.out).flushLineThreshold(64);
+  }
+
+  /**
+   * Closes the sink and deletes the temporary file.
+   *
+   * @throws IOException if the file cannot be deleted
+   */
+  @TearDown
+  public void tearDown() throws IOException {
+    this.out.close();
+    if (this.file != null) Files.delete(this.file);
+  }
+
+  /** Writes a ruled report of 1000 formatted rows. */
+  @Benchmark
+  public void report() {
+    this.cb.rule('=');
+    for (int i = 0; i < 1000; i++) this.cb.format(ROW).arg(i).arg("entry").arg(i / 7.0).end();
+    this.cb.rule('=');
+    this.cb.flush();
+  }
+}
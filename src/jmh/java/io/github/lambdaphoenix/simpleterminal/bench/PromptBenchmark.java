@@ -0,0 +1,75 @@
+package io.github.lambdaphoenix.simpleterminal.bench;
+
+import io.github.lambdaphoenix.simpleterminal.core.ConsoleBuilder;
+import io.github.lambdaphoenix.simpleterminal.prompt.Answers;
+import io.github.lambdaphoenix.simpleterminal.prompt.InputSource;
+import io.github.lambdaphoenix.simpleterminal.prompt.Prompt;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the parse and validation loops of {@link Prompt}.
+ *
+ * <p>Prompts render to a null writer. The interactive benchmark creates an in-memory input source
+ * per invocation, which is included in the measured time.
+ *
+ * @author lambdaphoenix
+ * @version 2026-10-16
+ * @since 0.2.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PromptBenchmark {
+  /** Builder writing to a null writer. */
+  private ConsoleBuilder cb;
+
+  /** Prompt answering from predefined answers. */
+  private Prompt batch;
+
+  /** Creates the builder and the batch prompt. */
+  @Setup
+  public void setup() {
+    this.cb = new ConsoleBuilder(Writer.nullWriter());
+    this.batch =
+        new Prompt(this.cb).withAnswers(Answers.of(Map.of("age", "42", "continue", "yes")));
+  }
+
+  /**
+   * Answers an integer and a yes/no question in batch mode.
+   *
+   * @return the answers combined
+   * @throws IOException never
+   */
+  @Benchmark
+  public int batch() throws IOException {
+    return this.batch.askInt("Age:") + (this.batch.askYesNo("Continue?") ? 1 : 0);
+  }
+
+  /**
+   * Reads an integer that is accepted after one unparsable and one invalid attempt.
+   *
+   * @return the answer
+   * @throws IOException never
+   */
+  @Benchmark
+  public int retry() throws IOException {
+    Prompt prompt = new Prompt(this.cb, InputSource.of("abc", "-1", "42"));
+    return prompt.askInt("Age:", v -> v > 0, "Must be positive");
+  }
+}
@@ -1,11 +1,20 @@
 package io.github.lambdaphoenix.simpleterminal.ansi;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
 /**
  * Represents an ANSI color with both foreground and background escape codes.
  *
  * <p>Provides constants for the 16 standard ANSI colors (8 normal and 8 bright), as well as factory
  * methods for 256-color mode and true color (24-bit RGB). Each {@code AnsiColor} instance can
- * return its foreground ({@link #fg()}) and background ({@link #bg()}) escape codes.
+ * return its foreground ({@link #fg()}) and background ({@link #bg()}) escape codes. The codes are
+ * also kept pre-encoded, so byte-oriented writers can copy them with {@link #putFg(ByteBuffer)} and
+ * {@link #putBg(ByteBuffer)} without any char-to-byte conversion.
+ *
+ * <p>Instances are immutable and shared: all 256 palette colors are precomputed, and true colors
+ * are kept in a bounded cache, so repeated lookups of the same color return the identical instance
+ * without allocating.
  *
  * <h2>Usage Example:</h2>
  *
@@ -30,106 +39,216 @@ public final class AnsiColor {
   public static final String RESET = "\u001B[0m";
 
   /** ANSI black foreground and background color. */
-  public static final AnsiColor BLACK = new AnsiColor("\u001B[30m", "\u001B[40m");
+  public static final AnsiColor BLACK = new AnsiColor("\u001B[30m", "\u001B[40m", 0);
 
   /** ANSI red foreground and background color. */
-  public static final AnsiColor RED = new AnsiColor("\u001B[31m", "\u001B[41m");
+  public static final AnsiColor RED = new AnsiColor("\u001B[31m", "\u001B[41m", 1);
 
   /** ANSI green foreground and background color. */
-  public static final AnsiColor GREEN = new AnsiColor("\u001B[32m", "\u001B[42m");
+  public static final AnsiColor GREEN = new AnsiColor("\u001B[32m", "\u001B[42m", 2);
 
   /** ANSI yellow foreground and background color. */
-  public static final AnsiColor YELLOW = new AnsiColor("\u001B[33m", "\u001B[43m");
+  public static final AnsiColor YELLOW = new AnsiColor("\u001B[33m", "\u001B[43m", 3);
 
   /** ANSI blue foreground and background color. */
-  public static final AnsiColor BLUE = new AnsiColor("\u001B[34m", "\u001B[44m");
+  public static final AnsiColor BLUE = new AnsiColor("\u001B[34m", "\u001B[44m", 4);
 
   /** ANSI magenta foreground and background color. */
-  public static final AnsiColor MAGENTA = new AnsiColor("\u001B[35m", "\u001B[45m");
+  public static final AnsiColor MAGENTA = new AnsiColor("\u001B[35m", "\u001B[45m", 5);
 
   /** ANSI cyan foreground and background color. */
-  public static final AnsiColor CYAN = new AnsiColor("\u001B[36m", "\u001B[46m");
+  public static final AnsiColor CYAN = new AnsiColor("\u001B[36m", "\u001B[46m", 6);
 
   /** ANSI white foreground and background color. */
-  public static final AnsiColor WHITE = new AnsiColor("\u001B[37m", "\u001B[47m");
+  public static final AnsiColor WHITE = new AnsiColor("\u001B[37m", "\u001B[47m", 7);
 
   /** ANSI bright black foreground and background color. */
-  public static final AnsiColor BRIGHT_BLACK = new AnsiColor("\u001B[90m", "\u001B[100m");
+  public static final AnsiColor BRIGHT_BLACK = new AnsiColor("\u001B[90m", "\u001B[100m", 8);
 
   /** ANSI bright red foreground and background color. */
-  public static final AnsiColor BRIGHT_RED = new AnsiColor("\u001B[91m", "\u001B[101m");
+  public static final AnsiColor BRIGHT_RED = new AnsiColor("\u001B[91m", "\u001B[101m", 9);
 
   /** ANSI bright green foreground and background color. */
-  public static final AnsiColor BRIGHT_GREEN = new AnsiColor("\u001B[92m", "\u001B[102m");
+  public static final AnsiColor BRIGHT_GREEN = new AnsiColor("\u001B[92m", "\u001B[102m", 10);
 
   /** ANSI bright yellow foreground and background color. */
-  public static final AnsiColor BRIGHT_YELLOW = new AnsiColor("\u001B[93m", "\u001B[103m");
+  public static final AnsiColor BRIGHT_YELLOW = new AnsiColor("\u001B[93m", "\u001B[103m", 11);
 
   /** ANSI bright blue foreground and background color. */
-  public static final AnsiColor BRIGHT_BLUE = new AnsiColor("\u001B[94m", "\u001B[104m");
+  public static final AnsiColor BRIGHT_BLUE = new AnsiColor("\u001B[94m", "\u001B[104m", 12);
 
   /** ANSI bright magenta foreground and background color. */
-  public static final AnsiColor BRIGHT_MAGENTA = new AnsiColor("\u001B[95m", "\u001B[105m");
+  public static final AnsiColor BRIGHT_MAGENTA = new AnsiColor("\u001B[95m", "\u001B[105m", 13);
 
   /** ANSI bright cyan foreground and background color. */
-  public static final AnsiColor BRIGHT_CYAN = new AnsiColor("\u001B[96m", "\u001B[106m");
+  public static final AnsiColor BRIGHT_CYAN = new AnsiColor("\u001B[96m", "\u001B[106m", 14);
 
   /** ANSI bright white foreground and background color. */
-  public static final AnsiColor BRIGHT_WHITE = new AnsiColor("\u001B[97m", "\u001B[107m");
+  public static final AnsiColor BRIGHT_WHITE = new AnsiColor("\u001B[97m", "\u001B[107m", 15);
+
+  /** Offset of palette colors in {@link #value}. */
+  private static final int PALETTE_COLOR = 256;
+
+  /** Offset of true colors in {@link #value}. */
+  private static final int TRUE_COLOR = 0x1000000;
+
+  /** Number of index bits of the true color cache (4096 slots). */
+  private static final int RGB_CACHE_BITS = 12;
+
+  /** Precomputed colors of the 256-color palette, indexed by palette code. */
+  private static final AnsiColor[] PALETTE = new AnsiColor[256];
+
+  /**
+   * Direct-mapped cache of true colors, indexed by a hash of the packed RGB value.
+   *
+   * <p>Slots are read and written without synchronization. This is safe because {@code AnsiColor}
+   * is immutable with only final fields; a race can at worst replace an entry or miss the cache.
+   */
+  private static final AnsiColor[] RGB_CACHE = new AnsiColor[1 << RGB_CACHE_BITS];
+
+  /** The 16 standard colors, indexed by their palette code. */
+  private static final AnsiColor[] STANDARD = {
+    BLACK,
+    RED,
+    GREEN,
+    YELLOW,
+    BLUE,
+    MAGENTA,
+    CYAN,
+    WHITE,
+    BRIGHT_BLACK,
+    BRIGHT_RED,
+    BRIGHT_GREEN,
+    BRIGHT_YELLOW,
+    BRIGHT_BLUE,
+    BRIGHT_MAGENTA,
+    BRIGHT_CYAN,
+    BRIGHT_WHITE
+  };
+
+  static {
+    for (int i = 0; i < PALETTE.length; i++)
+      PALETTE[i] =
+          new AnsiColor("\u001B[38;5;" + i + "m", "\u001B[48;5;" + i + "m", PALETTE_COLOR + i);
+  }
 
   private final String fgCode;
   private final String bgCode;
+  private final byte[] fgBytes;
+  private final byte[] bgBytes;
+
+  /**
+   * Kind and value of the color: 0–15 for a standard color, 256 plus the index for a 256-color
+   * palette entry and {@code 0x1000000} plus the packed {@code 0xRRGGBB} value for a true color.
+   */
+  private final int value;
 
   /**
-   * Creates a new {@code AnsiColor} with the given foreground and background codes.
+   * Creates a new {@code AnsiColor} with the given codes.
    *
    * @param fgCode the ANSI escape code for the foreground
    * @param bgCode the ANSI escape code for the background
+   * @param value the kind and value of the color
    */
-  AnsiColor(String fgCode, String bgCode) {
+  private AnsiColor(String fgCode, String bgCode, int value) {
+    this.value = value;
     this.fgCode = fgCode;
     this.bgCode = bgCode;
+    this.fgBytes = fgCode.getBytes(StandardCharsets.US_ASCII);
+    this.bgBytes = bgCode.getBytes(StandardCharsets.US_ASCII);
   }
 
   /**
    * Creates an {@code AnsiColor} from a 256-color palette index.
    *
    * @param code the color index (0–255)
-   * @return a new {@code AnsiColor} instance
+   * @return the shared {@code AnsiColor} instance for this index
    * @throws IllegalArgumentException if the code is outside 0–255
    */
   public static AnsiColor from256(int code) {
     if (code < 0 || code > 255) throw new IllegalArgumentException("256-color code must be 0–255");
-    return new AnsiColor("\u001B[38;5;" + code + "m", "\u001B[48;5;" + code + "m");
+    return PALETTE[code];
   }
 
   /**
    * Creates an {@code AnsiColor} from RGB values (true color).
    *
+   * <p>Recently used colors are served from a bounded cache, so repeated lookups usually return the
+   * identical instance without allocating.
+   *
    * @param r red component (0–255)
    * @param g green component (0–255)
    * @param b blue component (0–255)
-   * @return a new {@code AnsiColor} instance
+   * @return an {@code AnsiColor} instance for this color
    * @throws IllegalArgumentException if any component is outside 0–255
    */
   public static AnsiColor fromRgb(int r, int g, int b) {
     if (r < 0 || r > 255 || g < 0 || g > 255 || b < 0 || b > 255)
       throw new IllegalArgumentException("RGB values 0–255");
-    return new AnsiColor(
-        "\u001B[38;2;" + r + ";" + g + ";" + b + "m", "\u001B[48;2;" + r + ";" + g + ";" + b + "m");
+    int rgb = TRUE_COLOR | r << 16 | g << 8 | b;
+    int slot = (rgb * 0x9E3779B9) >>> (32 - RGB_CACHE_BITS);
+    AnsiColor cached = RGB_CACHE[slot];
+    if (cached != null && cached.value == rgb) return cached;
+    AnsiColor color =
+        new AnsiColor(
+            "\u001B[38;2;" + r + ";" + g + ";" + b + "m",
+            "\u001B[48;2;" + r + ";" + g + ";" + b + "m",
+            rgb);
+    RGB_CACHE[slot] = color;
+    return color;
   }
 
   /**
    * Creates an {@code AnsiColor} from an {@link java.awt.Color}.
    *
    * @param color the AWT color
-   * @return a new {@code AnsiColor} instance
+   * @return an {@code AnsiColor} instance for this color
    * @see #fromRgb(int, int, int)
    */
   public static AnsiColor fromRgb(java.awt.Color color) {
     return AnsiColor.fromRgb(color.getRed(), color.getGreen(), color.getBlue());
   }
 
+  /**
+   * Returns the color depth a terminal needs to display this color.
+   *
+   * @return {@link ColorDepth#ANSI16} for the standard colors, {@link ColorDepth#ANSI256} for
+   *     palette colors and {@link ColorDepth#TRUECOLOR} for RGB colors
+   */
+  public ColorDepth depth() {
+    if (this.value >= TRUE_COLOR) return ColorDepth.TRUECOLOR;
+    return this.value >= PALETTE_COLOR ? ColorDepth.ANSI256 : ColorDepth.ANSI16;
+  }
+
+  /**
+   * Returns the nearest color a terminal of the given depth can display.
+   *
+   * <p>Colors the depth supports are returned unchanged. Otherwise the nearest color is looked up
+   * in precomputed tables: true colors are quantized to 5 bits per channel and mapped to the 240
+   * non-standard palette colors or the 16 standard colors, and palette colors are mapped to the
+   * standard colors. Conversion therefore costs one array access and never allocates.
+   *
+   * @param depth the supported color depth
+   * @return the nearest supported color, or {@code null} for {@link ColorDepth#NONE}
+   */
+  public AnsiColor downsample(ColorDepth depth) {
+    return switch (depth) {
+      case NONE -> null;
+      case ANSI16 -> {
+        if (this.value < PALETTE_COLOR) yield this;
+        yield STANDARD[
+            this.value >= TRUE_COLOR
+                ? Nearest.RGB_TO_16[Nearest.quantize(this.value)]
+                : Nearest.PALETTE_TO_16[this.value - PALETTE_COLOR]];
+      }
+      case ANSI256 ->
+          this.value >= TRUE_COLOR
+              ? PALETTE[Nearest.RGB_TO_256[Nearest.quantize(this.value)] & 0xFF]
+              : this;
+      case TRUECOLOR -> this;
+    };
+  }
+
   /**
    * Returns the ANSI escape code for the foreground color.
    *
@@ -147,4 +266,181 @@ public final class AnsiColor {
   public String bg() {
     return bgCode;
   }
+
+  /**
+   * Writes the pre-encoded foreground escape code into a byte buffer.
+   *
+   * @param dst the buffer to write to
+   * @throws java.nio.BufferOverflowException if {@code dst} has insufficient space
+   */
+  public void putFg(ByteBuffer dst) {
+    dst.put(this.fgBytes);
+  }
+
+  /**
+   * Writes the pre-encoded background escape code into a byte buffer.
+   *
+   * @param dst the buffer to write to
+   * @throws java.nio.BufferOverflowException if {@code dst} has insufficient space
+   */
+  public void putBg(ByteBuffer dst) {
+    dst.put(this.bgBytes);
+  }
+
+  /**
+   * Compares this color to another object. Two colors are equal if they produce the same escape
+   * codes.
+   *
+   * @param o the object to compare with
+   * @return {@code true} if {@code o} is an equal {@code AnsiColor}
+   */
+  @Override
+  public boolean equals(Object o) {
+    return this == o || (o instanceof AnsiColor c && this.fgCode.equals(c.fgCode));
+  }
+
+  /**
+   * Returns a hash code consistent with {@link #equals(Object)}.
+   *
+   * @return the hash code
+   */
+  @Override
+  public int hashCode() {
+    return this.fgCode.hashCode();
+  }
+
+  /** Nearest-color lookup tables for {@link #downsample(ColorDepth)}, built on first use. */
+  private static final class Nearest {
+    /** Bits per channel of the quantized RGB values indexing the tables. */
+    private static final int BITS = 5;
+
+    /** Mask of one quantized channel. */
+    private static final int MASK = (1 << BITS) - 1;
+
+    /** Levels of the 6x6x6 color cube of the 256-color palette. */
+    private static final int[] CUBE = {0, 95, 135, 175, 215, 255};
+
+    /** RGB values of the standard colors, as rendered by xterm. */
+    private static final int[] STANDARD_RGB = {
+      0x000000, 0xCD0000, 0x00CD00, 0xCDCD00, 0x0000EE, 0xCD00CD, 0x00CDCD, 0xE5E5E5,
+      0x7F7F7F, 0xFF0000, 0x00FF00, 0xFFFF00, 0x5C5CFF, 0xFF00FF, 0x00FFFF, 0xFFFFFF
+    };
+
+    /** Nearest palette index (16–255) per quantized RGB value. */
+    static final byte[] RGB_TO_256 = new byte[1 << 3 * BITS];
+
+    /** Nearest standard color per quantized RGB value. */
+    static final byte[] RGB_TO_16 = new byte[1 << 3 * BITS];
+
+    /** Nearest standard color per palette index. */
+    static final byte[] PALETTE_TO_16 = new byte[256];
+
+    static {
+      int half = 1 << 7 - BITS;
+      for (int q = 0; q < RGB_TO_256.length; q++) {
+        int r = (q >> 2 * BITS) << 8 - BITS | half;
+        int g = (q >> BITS & MASK) << 8 - BITS | half;
+        int b = (q & MASK) << 8 - BITS | half;
+        RGB_TO_256[q] = (byte) nearestPalette(r, g, b);
+        RGB_TO_16[q] = (byte) nearestStandard(r << 16 | g << 8 | b);
+      }
+      for (int i = 0; i < PALETTE_TO_16.length; i++)
+        PALETTE_TO_16[i] = (byte) (i < 16 ? i : nearestStandard(paletteRgb(i)));
+    }
+
+    /** Prevents instantiation of this holder class. */
+    private Nearest() {}
+
+    /**
+     * Returns the table index of a true color.
+     *
+     * @param rgb the packed {@code 0xRRGGBB} value
+     * @return the quantized value
+     */
+    static int quantize(int rgb) {
+      return (rgb >> 16 + 8 - BITS & MASK) << 2 * BITS
+          | (rgb >> 8 + 8 - BITS & MASK) << BITS
+          | (rgb >> 8 - BITS & MASK);
+    }
+
+    /**
+     * Returns the nearest of the 240 cube and gray palette colors.
+     *
+     * <p>The cube is a grid, so its nearest point is found per channel; the gray ramp is a line, so
+     * its nearest point is the one closest to the mean of the channels.
+     *
+     * @param r the red component
+     * @param g the green component
+     * @param b the blue component
+     * @return the palette index, 16–255
+     */
+    private static int nearestPalette(int r, int g, int b) {
+      int cr = nearestLevel(r);
+      int cg = nearestLevel(g);
+      int cb = nearestLevel(b);
+      int gray = Math.clamp(Math.round(((r + g + b) / 3f - 8) / 10), 0, 23);
+      int level = 8 + 10 * gray;
+      int cube = 16 + 36 * cr + 6 * cg + cb;
+      return distance(r << 16 | g << 8 | b, paletteRgb(cube))
+              <= distance(r << 16 | g << 8 | b, level << 16 | level << 8 | level)
+          ? cube
+          : 232 + gray;
+    }
+
+    /**
+     * Returns the nearest cube level of a component.
+     *
+     * @param c the component
+     * @return the level index, 0–5
+     */
+    private static int nearestLevel(int c) {
+      int best = 0;
+      for (int i = 1; i < CUBE.length; i++)
+        if (Math.abs(CUBE[i] - c) < Math.abs(CUBE[best] - c)) best = i;
+      return best;
+    }
+
+    /**
+     * Returns the nearest standard color.
+     *
+     * @param rgb the packed {@code 0xRRGGBB} value
+     * @return the standard color index, 0–15
+     */
+    private static int nearestStandard(int rgb) {
+      int best = 0;
+      for (int i = 1; i < STANDARD_RGB.length; i++)
+        if (distance(rgb, STANDARD_RGB[i]) < distance(rgb, STANDARD_RGB[best])) best = i;
+      return best;
+    }
+
+    /**
+     * Returns the RGB value of a palette color.
+     *
+     * @param i the palette index
+     * @return the packed {@code 0xRRGGBB} value
+     */
+    private static int paletteRgb(int i) {
+      if (i < 16) return STANDARD_RGB[i];
+      if (i >= 232) {
+        int level = 8 + 10 * (i - 232);
+        return level << 16 | level << 8 | level;
+      }
+      int c = i - 16;
+      return CUBE[c / 36] << 16 | CUBE[c / 6 % 6] << 8 | CUBE[c % 6];
+    }
+
+    /**
+     * Returns the squared distance of two colors.
+     *
+     * @param a the first packed RGB value
+     * @param b the second packed RGB value
+     * @return the squared euclidean distance
+     */
+    private static int distance(int a, int b) {
+      int dr = (a >> 16 & 0xFF) - (b >> 16 & 0xFF);
+      int dg = (a >> 8 & 0xFF) - (b >> 8 & 0xFF);
+      int db = (a & 0xFF) - (b & 0xFF);
+      return dr * dr + dg * dg + db * db;
+    }
+  }
 }
@@ -0,0 +1,391 @@
+package io.github.lambdaphoenix.simpleterminal.ansi;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+
+/**
+ * Streaming scanner separating ANSI escape sequences from visible text.
+ *
+ * <p>The scanner recognizes CSI sequences ({@code ESC [} up to a final byte in {@code @}–{@code
+ * ~}), OSC sequences ({@code ESC ]} up to {@code BEL} or {@code ESC \}) and two-character escapes;
+ * {@link DisplayWidth} skips sequences with the same state machine. Input is processed in a single
+ * linear pass without regular expressions: runs of text are located by searching for the next
+ * {@code ESC}, using the intrinsic {@link String#indexOf(int, int)} for strings and a
+ * word-at-a-time search for byte buffers, and only escape sequences are examined character by
+ * character.
+ *
+ * <p>The static methods process complete text. An instance keeps its state between calls, so input
+ * can be fed in chunks, e.g. from a {@link Reader} or successive {@link ByteBuffer} reads, and
+ * sequences split across chunks are still recognized. Byte input is expected to be UTF-8 or another
+ * ASCII-compatible encoding, in which the {@code ESC} byte never occurs inside a multi-byte
+ * character. Instances are not thread-safe.
+ *
+ * <h2>Usage Example:</h2>
+ *
+ * <pre>{@code
+ * String text = AnsiScanner.strip(cb.build());
+ *
+ * try (Reader in = Files.newBufferedReader(log); Writer out = Files.newBufferedWriter(plain)) {
+ *   AnsiScanner.strip(in, out);
+ * }
+ *
+ * AnsiScanner scanner = new AnsiScanner();
+ * while (channel.read(in.clear()) >= 0) {
+ *   scanner.strip(in.flip(), out.clear());
+ *   sink.write(out.flip());
+ * }
+ * }</pre>
+ *
+ * @author lambdaphoenix
+ * @version 2026-10-16
+ * @since 0.2.0
+ */
+public final class AnsiScanner {
+  /** Receives the visible text and escape sequences of scanned input. */
+  @FunctionalInterface
+  public interface Handler {
+    /**
+     * Receives a run of visible text.
+     *
+     * @param chunk the scanned input
+     * @param from the start of the run, inclusive
+     * @param to the end of the run, exclusive
+     */
+    void text(CharSequence chunk, int from, int to);
+
+    /**
+     * Receives an escape sequence. A sequence split across chunks is received in several
+     * consecutive parts.
+     *
+     * <p>The default implementation ignores the sequence.
+     *
+     * @param chunk the scanned input
+     * @param from the start of the sequence, inclusive
+     * @param to the end of the sequence, exclusive
+     */
+    default void escape(CharSequence chunk, int from, int to) {}
+  }
+
+  /** The escape character. */
+  private static final char ESC = '\u001B';
+
+  /** State outside of escape sequences. */
+  private static final int TEXT = 0;
+
+  /** State after an escape character. */
+  private static final int ESCAPE = 1;
+
+  /** State inside a CSI sequence. */
+  private static final int CSI = 2;
+
+  /** State inside an OSC sequence. */
+  private static final int OSC = 3;
+
+  /** State after an escape character inside an OSC sequence. */
+  private static final int OSC_ESCAPE = 4;
+
+  /** {@link #ESC} repeated in every byte of a long. */
+  private static final long ESC_BYTES = 0x1B1B1B1B1B1B1B1BL;
+
+  /** The lowest bit of every byte of a long. */
+  private static final long LOW_BITS = 0x0101010101010101L;
+
+  /** The highest bit of every byte of a long. */
+  private static final long HIGH_BITS = 0x8080808080808080L;
+
+  /** Size of the buffer used to copy from a {@link Reader}. */
+  private static final int BUFFER_SIZE = 8192;
+
+  /** The current state. */
+  private int state = TEXT;
+
+  /** Creates a new {@code AnsiScanner} outside of any escape sequence. */
+  public AnsiScanner() {}
+
+  /**
+   * Returns a text without its escape sequences.
+   *
+   * @param text the text
+   * @return the visible text; the text itself if it is a string without escape characters
+   */
+  public static String strip(CharSequence text) {
+    if (text instanceof String s && s.indexOf(ESC) < 0) return s;
+    StringBuilder out = new StringBuilder(text.length());
+    strip(text, out);
+    return out.toString();
+  }
+
+  /**
+   * Appends a text without its escape sequences to a buffer.
+   *
+   * @param text the text
+   * @param out the buffer to append to
+   */
+  public static void strip(CharSequence text, StringBuilder out) {
+    new AnsiScanner().scan(text, 0, text.length(), out::append);
+  }
+
+  /**
+   * Copies text from a reader to a writer, omitting escape sequences.
+   *
+   * <p>The text is copied in chunks through a single buffer, regardless of line lengths. Neither
+   * stream is closed.
+   *
+   * @param in the reader
+   * @param out the writer
+   * @return the number of characters written
+   * @throws IOException if reading or writing fails
+   */
+  public static long strip(Reader in, Writer out) throws IOException {
+    char[] buf = new char[BUFFER_SIZE];
+    CharBuffer chunk = CharBuffer.wrap(buf);
+    AnsiScanner scanner = new AnsiScanner();
+    long[] written = {0};
+    Handler handler =
+        (_, from, to) -> {
+          try {
+            out.write(buf, from, to - from);
+          } catch (IOException e) {
+            throw new UncheckedIOException(e);
+          }
+          written[0] += to - from;
+        };
+    try {
+      for (int n = in.read(buf); n >= 0; n = in.read(buf)) scanner.scan(chunk, 0, n, handler);
+    } catch (UncheckedIOException e) {
+      throw e.getCause();
+    }
+    return written[0];
+  }
+
+  /**
+   * Returns the number of characters of a text outside of escape sequences.
+   *
+   * <p>This counts UTF-16 code units; use {@link DisplayWidth#of(CharSequence)} for the number of
+   * terminal columns.
+   *
+   * @param text the text
+   * @return the number of visible characters
+   */
+  public static int visibleLength(CharSequence text) {
+    int n = 0;
+    int i = 0;
+    while (i < text.length()) {
+      int esc = indexOfEscape(text, i, text.length());
+      n += esc - i;
+      i = esc < text.length() ? skip(text, esc + 1, text.length(), ESCAPE) : esc;
+    }
+    return n;
+  }
+
+  /**
+   * Splits a text into visible runs and escape sequences.
+   *
+   * @param text the text
+   * @param handler the receiver of the runs and sequences, in order
+   */
+  public static void split(CharSequence text, Handler handler) {
+    new AnsiScanner().scan(text, 0, text.length(), handler);
+  }
+
+  /**
+   * Scans the next chunk of input.
+   *
+   * <p>Visible runs and escape sequences are passed to the handler in order. A sequence that is not
+   * complete at the end of the chunk is continued by the next call.
+   *
+   * @param chunk the input
+   * @param from the start of the chunk, inclusive
+   * @param to the end of the chunk, exclusive
+   * @param handler the receiver of the runs and sequences
+   */
+  public void scan(CharSequence chunk, int from, int to, Handler handler) {
+    int i = from;
+    while (i < to) {
+      int start = i;
+      if (this.state == TEXT) {
+        int esc = indexOfEscape(chunk, i, to);
+        if (esc > i) handler.text(chunk, i, esc);
+        if (esc == to) return;
+        start = esc;
+        i = esc + 1;
+        this.state = ESCAPE;
+      }
+      while (i < to && this.state != TEXT) this.state = step(this.state, chunk.charAt(i++));
+      handler.escape(chunk, start, i);
+    }
+  }
+
+  /**
+   * Copies the visible bytes of the next chunk of input into a buffer.
+   *
+   * <p>Bytes are read from the position of {@code src} and written to the position of {@code dst},
+   * advancing both, until {@code src} is exhausted or {@code dst} is full. Remaining input is
+   * continued by the next call.
+   *
+   * @param src the input bytes
+   * @param dst the buffer receiving the visible bytes
+   */
+  public void strip(ByteBuffer src, ByteBuffer dst) {
+    int i = src.position();
+    int limit = src.limit();
+    while (i < limit) {
+      if (this.state == TEXT) {
+        int esc = indexOfEscape(src, i, limit);
+        int n = Math.min(esc - i, dst.remaining());
+        dst.put(dst.position(), src, i, n);
+        dst.position(dst.position() + n);
+        i += n;
+        if (i < esc || i == limit) break;
+        i++;
+        this.state = ESCAPE;
+      }
+      while (i < limit && this.state != TEXT) this.state = step(this.state, src.get(i++) & 0xFF);
+    }
+    src.position(i);
+  }
+
+  /**
+   * Counts the visible characters of the next chunk of input.
+   *
+   * <p>All remaining bytes of {@code src} are consumed. The bytes are counted as UTF-8 code points,
+   * that is, continuation bytes are not counted.
+   *
+   * @param src the input bytes
+   * @return the number of code points outside of escape sequences
+   */
+  public long measure(ByteBuffer src) {
+    long count = 0;
+    int i = src.position();
+    int limit = src.limit();
+    while (i < limit) {
+      if (this.state == TEXT) {
+        int esc = indexOfEscape(src, i, limit);
+        count += codePoints(src, i, esc);
+        if (esc == limit) break;
+        i = esc + 1;
+        this.state = ESCAPE;
+      }
+      while (i < limit && this.state != TEXT) this.state = step(this.state, src.get(i++) & 0xFF);
+    }
+    src.position(limit);
+    return count;
+  }
+
+  /**
+   * Returns whether the input scanned so far ends inside an escape sequence.
+   *
+   * @return {@code true} if the next chunk continues an escape sequence
+   */
+  public boolean inEscape() {
+    return this.state != TEXT;
+  }
+
+  /** Discards a partially scanned escape sequence, so the next chunk starts as text. */
+  public void reset() {
+    this.state = TEXT;
+  }
+
+  /**
+   * Advances the state by one character of an escape sequence.
+   *
+   * @param state the current state, not {@link #TEXT}
+   * @param c the character
+   * @return the next state; {@link #TEXT} once the sequence is complete
+   */
+  private static int step(int state, int c) {
+    return switch (state) {
+      case ESCAPE -> c == '[' ? CSI : c == ']' ? OSC : TEXT;
+      case CSI -> c >= '@' && c <= '~' ? TEXT : CSI;
+      case OSC_ESCAPE -> c == '\\' ? TEXT : step(OSC, c);
+      default -> c == '\u0007' ? TEXT : c == ESC ? OSC_ESCAPE : OSC;
+    };
+  }
+
+  /**
+   * Returns the index after the escape sequence starting at an index.
+   *
+   * <p>This is the grammar {@link DisplayWidth} uses to skip sequences while measuring.
+   *
+   * @param text the text
+   * @param i the index of the escape character
+   * @param to the end of the text
+   * @return the index of the first character after the sequence, at most {@code to}
+   */
+  static int skipEscape(CharSequence text, int i, int to) {
+    return skip(text, i + 1, to, ESCAPE);
+  }
+
+  /**
+   * Returns the index after the escape sequence continuing at an index.
+   *
+   * @param text the text
+   * @param i the index after the characters already scanned
+   * @param to the end of the text
+   * @param state the state after the characters already scanned
+   * @return the index of the first character after the sequence, at most {@code to}
+   */
+  private static int skip(CharSequence text, int i, int to, int state) {
+    while (i < to && state != TEXT) state = step(state, text.charAt(i++));
+    return i;
+  }
+
+  /**
+   * Returns the index of the next escape character.
+   *
+   * @param text the text
+   * @param from the start of the search, inclusive
+   * @param to the end of the search, exclusive
+   * @return the index of the escape character, or {@code to} if there is none
+   */
+  private static int indexOfEscape(CharSequence text, int from, int to) {
+    if (text instanceof String s) {
+      int i = s.indexOf(ESC, from);
+      return i < 0 || i > to ? to : i;
+    }
+    for (int i = from; i < to; i++) if (text.charAt(i) == ESC) return i;
+    return to;
+  }
+
+  /**
+   * Returns the index of the next escape byte, testing eight bytes at a time.
+   *
+   * @param buf the bytes
+   * @param from the start of the search, inclusive
+   * @param to the end of the search, exclusive
+   * @return the index of the escape byte, or {@code to} if there is none
+   */
+  private static int indexOfEscape(ByteBuffer buf, int from, int to) {
+    int i = from;
+    for (; i + Long.BYTES <= to; i += Long.BYTES) {
+      long x = buf.getLong(i) ^ ESC_BYTES;
+      if (((x - LOW_BITS) & ~x & HIGH_BITS) != 0) break; // some byte is ESC
+    }
+    for (; i < to; i++) if (buf.get(i) == ESC) return i;
+    return to;
+  }
+
+  /**
+   * Counts the UTF-8 code points in a range of bytes, testing eight bytes at a time.
+   *
+   * @param buf the bytes
+   * @param from the start of the range, inclusive
+   * @param to the end of the range, exclusive
+   * @return the number of bytes that are not continuation bytes
+   */
+  private static int codePoints(ByteBuffer buf, int from, int to) {
+    int n = 0;
+    int i = from;
+    for (; i + Long.BYTES <= to; i += Long.BYTES) {
+      long x = buf.getLong(i);
+      // continuation bytes have the highest bit set and the next one cleared
+      n += Long.BYTES - Long.bitCount(x & ~(x << 1) & HIGH_BITS);
+    }
+    for (; i < to; i++) if ((buf.get(i) & 0xC0) != 0x80) n++;
+    return n;
+  }
+}
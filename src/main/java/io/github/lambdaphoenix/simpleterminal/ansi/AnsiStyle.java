@@ -1,5 +1,8 @@
 package io.github.lambdaphoenix.simpleterminal.ansi;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
 /**
  * Enumeration of common ANSI text styles.
  *
@@ -48,6 +51,7 @@ public enum AnsiStyle {
   RESET_STRIKETHROUGH("\u001B[29m");
 
   private final String code;
+  private final byte[] bytes;
 
   /**
    * Creates a new {@code AnsiStyle} with the given escape code.
@@ -56,6 +60,17 @@ public enum AnsiStyle {
    */
   AnsiStyle(String code) {
     this.code = code;
+    this.bytes = code.getBytes(StandardCharsets.US_ASCII);
+  }
+
+  /**
+   * Writes the pre-encoded escape code of this style into a byte buffer.
+   *
+   * @param dst the buffer to write to
+   * @throws java.nio.BufferOverflowException if {@code dst} has insufficient space
+   */
+  public void put(ByteBuffer dst) {
+    dst.put(this.bytes);
   }
 
   /**
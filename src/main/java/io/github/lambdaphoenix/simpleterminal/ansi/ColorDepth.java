@@ -0,0 +1,30 @@
+package io.github.lambdaphoenix.simpleterminal.ansi;
+
+/**
+ * Enumeration of the color capabilities of a terminal, from none to 24-bit true color.
+ *
+ * <p>Colors deeper than the capability of the terminal are reduced with {@link
+ * AnsiColor#downsample(ColorDepth)}. The constants are ordered by depth, so a color of depth {@code
+ * d} is supported if {@code d.compareTo(depth) <= 0}.
+ *
+ * <h2>Usage Example:</h2>
+ *
+ * <pre>{@code
+ * ColorDepth depth = ConsoleConfig.detectColorDepth();
+ * System.out.println(AnsiColor.fromRgb(255, 128, 0).downsample(depth).fg() + "Orange");
+ * }</pre>
+ *
+ * @author lambdaphoenix
+ * @version 2026-10-16
+ * @since 0.2.0
+ */
+public enum ColorDepth {
+  /** No colors, e.g. when {@code NO_COLOR} is set or output is not a terminal. */
+  NONE,
+  /** The 16 standard ANSI colors. */
+  ANSI16,
+  /** The 256-color palette. */
+  ANSI256,
+  /** 24-bit RGB true color. */
+  TRUECOLOR
+}
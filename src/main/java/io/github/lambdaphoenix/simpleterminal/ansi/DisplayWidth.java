@@ -0,0 +1,311 @@
+package io.github.lambdaphoenix.simpleterminal.ansi;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Computes the number of terminal columns text occupies when displayed.
+ *
+ * <p>Unlike {@link String#length()}, the display width accounts for how terminals render text:
+ *
+ * <ul>
+ *   <li>East Asian wide and fullwidth characters and most emoji occupy two columns,
+ *   <li>combining marks, format characters and control characters occupy none; this includes tabs,
+ *       whose width depends on the column they start in, so expand them before measuring text that
+ *       contains them,
+ *   <li>grapheme clusters joined with a zero width joiner, flags made of two regional indicators
+ *       and emoji with a skin tone modifier count as a single wide character,
+ *   <li>ANSI escape sequences (CSI such as colors, and OSC such as hyperlinks) are skipped, as
+ *       recognized by {@link AnsiScanner}.
+ * </ul>
+ *
+ * <p>Widths of individual code points are looked up in a compact two-level table: the upper bits
+ * of a code point select a block of 256 widths, which is classified the first time one of its code
+ * points is measured. Blocks of only narrow or only wide characters share one array. Printable
+ * ASCII is counted without any lookup, so measuring plain text costs little more than iterating
+ * over it.
+ *
+ * <h2>Usage Example:</h2>
+ *
+ * <pre>{@code
+ * DisplayWidth.of("abc");                        // 3
+ * DisplayWidth.of("日本");                        // 4
+ * DisplayWidth.of(AnsiColor.RED.fg() + "Error"); // 5
+ * }</pre>
+ *
+ * @author lambdaphoenix
+ * @version 2026-10-16
+ * @since 0.2.0
+ */
+public final class DisplayWidth {
+  /** Escape character introducing ANSI sequences. */
+  private static final char ESC = '\u001B';
+
+  /** Zero width joiner, which joins the following code point to the preceding one. */
+  private static final int ZWJ = 0x200D;
+
+  /** Inclusive code point ranges that occupy two columns, sorted by start. */
+  private static final int[] WIDE = {
+    0x1100, 0x115F, 0x231A, 0x231B, 0x2329, 0x232A, 0x23E9, 0x23EC, 0x23F0, 0x23F0,
+    0x23F3, 0x23F3, 0x25FD, 0x25FE, 0x2614, 0x2615, 0x2648, 0x2653, 0x267F, 0x267F,
+    0x2693, 0x2693, 0x26A1, 0x26A1, 0x26AA, 0x26AB, 0x26BD, 0x26BE, 0x26C4, 0x26C5,
+    0x26CE, 0x26CE, 0x26D4, 0x26D4, 0x26EA, 0x26EA, 0x26F2, 0x26F3, 0x26F5, 0x26F5,
+    0x26FA, 0x26FA, 0x26FD, 0x26FD, 0x2705, 0x2705, 0x270A, 0x270B, 0x2728, 0x2728,
+    0x274C, 0x274C, 0x274E, 0x274E, 0x2753, 0x2755, 0x2757, 0x2757, 0x2795, 0x2797,
+    0x27B0, 0x27B0, 0x27BF, 0x27BF, 0x2B1B, 0x2B1C, 0x2B50, 0x2B50, 0x2B55, 0x2B55,
+    0x2E80, 0x303E, 0x3041, 0x33FF, 0x3400, 0x4DBF, 0x4E00, 0x9FFF, 0xA000, 0xA4CF,
+    0xA960, 0xA97F, 0xAC00, 0xD7A3, 0xF900, 0xFAFF, 0xFE10, 0xFE19, 0xFE30, 0xFE6F,
+    0xFF00, 0xFF60, 0xFFE0, 0xFFE6, 0x16FE0, 0x16FE4, 0x17000, 0x18AFF, 0x1B000, 0x1B2FF,
+    0x1F004, 0x1F004, 0x1F0CF, 0x1F0CF, 0x1F18E, 0x1F18E, 0x1F191, 0x1F19A, 0x1F1E6, 0x1F1FF,
+    0x1F200, 0x1F202, 0x1F210, 0x1F23B, 0x1F240, 0x1F248, 0x1F250, 0x1F251, 0x1F260, 0x1F265,
+    0x1F300, 0x1F320, 0x1F32D, 0x1F335, 0x1F337, 0x1F37C, 0x1F37E, 0x1F393, 0x1F3A0, 0x1F3CA,
+    0x1F3CF, 0x1F3D3, 0x1F3E0, 0x1F3F0, 0x1F3F4, 0x1F3F4, 0x1F3F8, 0x1F43E, 0x1F440, 0x1F440,
+    0x1F442, 0x1F4FC, 0x1F4FF, 0x1F53D, 0x1F54B, 0x1F54E, 0x1F550, 0x1F567, 0x1F57A, 0x1F57A,
+    0x1F595, 0x1F596, 0x1F5A4, 0x1F5A4, 0x1F5FB, 0x1F64F, 0x1F680, 0x1F6C5, 0x1F6CC, 0x1F6CC,
+    0x1F6D0, 0x1F6D2, 0x1F6D5, 0x1F6D7, 0x1F6EB, 0x1F6EC, 0x1F6F4, 0x1F6FC, 0x1F7E0, 0x1F7EB,
+    0x1F90C, 0x1F93A, 0x1F93C, 0x1F945, 0x1F947, 0x1F9FF, 0x1FA70, 0x1FAFF, 0x20000, 0x2FFFD,
+    0x30000, 0x3FFFD
+  };
+
+  /** Shared block of 256 narrow characters. */
+  private static final byte[] NARROW = filled(1);
+
+  /** Shared block of 256 wide characters. */
+  private static final byte[] WIDE_BLOCK = filled(2);
+
+  /**
+   * Widths of each group of 256 code points, indexed by {@code codePoint >>> 8}; {@code null} until
+   * the block is first used.
+   */
+  private static final AtomicReferenceArray<byte[]> BLOCKS =
+      new AtomicReferenceArray<>((Character.MAX_CODE_POINT + 1) >>> 8);
+
+  /** Prevents instantiation of this utility class. */
+  private DisplayWidth() {}
+
+  /**
+   * Returns a block with the same width for all 256 code points.
+   *
+   * @param width the width
+   * @return a new block
+   */
+  private static byte[] filled(int width) {
+    byte[] block = new byte[256];
+    Arrays.fill(block, (byte) width);
+    return block;
+  }
+
+  /**
+   * Classifies the code points of a block and stores the widths in the table.
+   *
+   * <p>Threads racing to classify the same block compute identical widths, so whichever result is
+   * stored last is as good as the others.
+   *
+   * @param b the block number, {@code codePoint >>> 8}
+   * @return the widths of the block
+   */
+  private static byte[] block(int b) {
+    byte[] block = new byte[256];
+    boolean narrow = true;
+    boolean wide = true;
+    for (int i = 0; i < 256; i++) {
+      int cp = b << 8 | i;
+      block[i] = (byte) (isWide(cp) ? 2 : narrowWidth(cp));
+      narrow &= block[i] == 1;
+      wide &= block[i] == 2;
+    }
+    if (narrow) block = NARROW;
+    else if (wide) block = WIDE_BLOCK;
+    BLOCKS.set(b, block);
+    return block;
+  }
+
+  /**
+   * Returns whether a code point lies in one of the {@link #WIDE} ranges.
+   *
+   * @param cp the code point
+   * @return {@code true} for East Asian wide and fullwidth characters and wide emoji
+   */
+  private static boolean isWide(int cp) {
+    int lo = 0;
+    int hi = WIDE.length / 2 - 1;
+    while (lo <= hi) {
+      int mid = (lo + hi) >>> 1;
+      if (WIDE[2 * mid + 1] < cp) lo = mid + 1;
+      else if (WIDE[2 * mid] > cp) hi = mid - 1;
+      else return true;
+    }
+    return false;
+  }
+
+  /**
+   * Returns the width of a code point that is not East Asian wide.
+   *
+   * @param cp the code point
+   * @return 0 for zero-width characters, 1 otherwise
+   */
+  private static int narrowWidth(int cp) {
+    if (cp == 0x00AD) return 1; // soft hyphen is rendered by most terminals
+    if (cp == 0x200B || (cp >= 0x1160 && cp <= 0x11FF)) return 0;
+    int type = Character.getType(cp);
+    return type == Character.NON_SPACING_MARK
+            || type == Character.ENCLOSING_MARK
+            || type == Character.FORMAT
+            || type == Character.CONTROL
+        ? 0
+        : 1;
+  }
+
+  /**
+   * Returns the number of columns a single code point occupies.
+   *
+   * @param codePoint the code point
+   * @return 0, 1 or 2; 0 for invalid code points
+   */
+  public static int of(int codePoint) {
+    if (codePoint < 0 || codePoint > Character.MAX_CODE_POINT) return 0;
+    byte[] block = BLOCKS.get(codePoint >>> 8);
+    if (block == null) block = block(codePoint >>> 8);
+    return block[codePoint & 0xFF];
+  }
+
+  /**
+   * Returns the number of columns a text occupies.
+   *
+   * <p>Tabs and other control characters count as zero columns.
+   *
+   * @param text the text, may contain ANSI escape sequences
+   * @return the display width
+   */
+  public static int of(CharSequence text) {
+    return of(text, 0, text.length());
+  }
+
+  /**
+   * Returns the number of columns a range of a text occupies.
+   *
+   * @param text the text, may contain ANSI escape sequences
+   * @param from the start of the range, inclusive
+   * @param to the end of the range, exclusive
+   * @return the display width
+   */
+  public static int of(CharSequence text, int from, int to) {
+    return (int) scan(text, from, to, Integer.MAX_VALUE);
+  }
+
+  /**
+   * Returns the end of the longest prefix of a range that fits into a number of columns.
+   *
+   * <p>Grapheme clusters are never split, and zero-width characters and escape sequences directly
+   * following the prefix are included in it.
+   *
+   * @param text the text, may contain ANSI escape sequences
+   * @param from the start of the range, inclusive
+   * @param to the end of the range, exclusive
+   * @param columns the number of available columns
+   * @return the index after the prefix, between {@code from} and {@code to}
+   */
+  public static int fit(CharSequence text, int from, int to, int columns) {
+    return (int) (scan(text, from, to, columns) >>> 32);
+  }
+
+  /**
+   * Returns the end of the line starting at {@code from}, i.e. the index of the next line break.
+   *
+   * <p>Line breaks are the same as matched by the regular expression {@code \\R}. Together with
+   * {@link #nextLine(CharSequence, int)} this splits text into lines without a regular expression
+   * or substrings, for laying out boxes:
+   *
+   * <pre>{@code
+   * for (int from = 0, to; ; from = DisplayWidth.nextLine(s, to)) {
+   *   to = DisplayWidth.lineEnd(s, from);
+   *   // line from..to
+   *   if (to == s.length()) break;
+   * }
+   * }</pre>
+   *
+   * @param s the text
+   * @param from the start of the line
+   * @return the index of the next line break, or the length of {@code s} if there is none
+   */
+  public static int lineEnd(CharSequence s, int from) {
+    for (int i = from; i < s.length(); i++) {
+      char c = s.charAt(i);
+      if ((c >= '\n' && c <= '\r') || c == '\u0085' || c == '\u2028' || c == '\u2029') return i;
+    }
+    return s.length();
+  }
+
+  /**
+   * Returns the start of the line following the line break at {@code end}.
+   *
+   * @param s the text
+   * @param end the index of a line break
+   * @return the index after the line break
+   */
+  public static int nextLine(CharSequence s, int end) {
+    return s.charAt(end) == '\r' && end + 1 < s.length() && s.charAt(end + 1) == '\n'
+        ? end + 2
+        : end + 1;
+  }
+
+  /**
+   * Measures a range of a text, stopping before the first character that exceeds a column limit.
+   *
+   * @param text the text
+   * @param from the start of the range, inclusive
+   * @param to the end of the range, exclusive
+   * @param columns the maximum width
+   * @return the index where scanning stopped in the upper 32 bits, the width in the lower 32 bits
+   */
+  private static long scan(CharSequence text, int from, int to, int columns) {
+    int width = 0;
+    int prev = -1;
+    int i = from;
+    while (i < to) {
+      char c = text.charAt(i);
+      if (c >= ' ' && c < 0x7F) {
+        if (width == columns) break;
+        width++;
+        prev = c;
+        i++;
+        continue;
+      }
+      if (c == ESC) {
+        i = AnsiScanner.skipEscape(text, i, to);
+        continue;
+      }
+
+      int cp = c;
+      if (Character.isHighSurrogate(c)
+          && i + 1 < to
+          && Character.isLowSurrogate(text.charAt(i + 1)))
+        cp = Character.toCodePoint(c, text.charAt(i + 1));
+
+      if (prev == ZWJ) {
+        prev = cp; // joined to the preceding cluster
+      } else if (isRegionalIndicator(cp) && isRegionalIndicator(prev)) {
+        prev = -1; // second half of a flag
+      } else if (cp >= 0x1F3FB && cp <= 0x1F3FF && of(prev) == 2) {
+        prev = cp; // skin tone modifier of the preceding emoji
+      } else {
+        int w = of(cp);
+        if (width + w > columns) break;
+        width += w;
+        prev = cp;
+      }
+      i += Character.charCount(cp);
+    }
+    return (long) i << 32 | width;
+  }
+
+  /**
+   * Returns whether a code point is a regional indicator symbol, two of which form a flag.
+   *
+   * @param cp the code point
+   * @return {@code true} for regional indicators
+   */
+  private static boolean isRegionalIndicator(int cp) {
+    return cp >= 0x1F1E6 && cp <= 0x1F1FF;
+  }
+}
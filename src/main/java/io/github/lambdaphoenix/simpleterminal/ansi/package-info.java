@@ -12,6 +12,12 @@
  *       colors
  *   <li>{@link io.github.lambdaphoenix.simpleterminal.ansi.AnsiStyle} – text styles such as bold,
  *       italic, underline
+ *   <li>{@link io.github.lambdaphoenix.simpleterminal.ansi.AnsiScanner} – streaming stripping,
+ *       measuring and splitting of escape sequences in text and bytes
+ *   <li>{@link io.github.lambdaphoenix.simpleterminal.ansi.ColorDepth} – color capabilities of a
+ *       terminal that colors are reduced to
+ *   <li>{@link io.github.lambdaphoenix.simpleterminal.ansi.DisplayWidth} – number of terminal
+ *       columns occupied by text
  * </ul>
  *
  * <h2>Usage Example:</h2>
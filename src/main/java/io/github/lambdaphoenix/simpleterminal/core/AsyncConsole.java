@@ -0,0 +1,361 @@
+package io.github.lambdaphoenix.simpleterminal.core;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Writes console output asynchronously from a single background thread.
+ *
+ * <p>Finished output fragments are published into a bounded, lock-free ring buffer and drained by
+ * one virtual thread, which batches consecutive fragments into a single write to the target.
+ * Producers therefore never block on a slow terminal or a full pipe; only when the ring buffer is
+ * full does the configured {@link Backpressure} policy decide what happens. Each fragment is
+ * written as a whole, so fragments from different threads never interleave. Producers waiting for
+ * room and threads waiting in {@link #flush()} sleep on a condition that the writer thread signals
+ * after each batch, instead of polling.
+ *
+ * <p>Builders obtained from {@link #builder()} publish their buffer as one fragment on every {@link
+ * ConsoleBuilder#print()}. Call {@link #flush()} to wait until everything published so far has been
+ * written, and {@link #close()} on shutdown.
+ *
+ * <h2>Usage Example:</h2>
+ *
+ * <pre>{@code
+ * try (AsyncConsole console = new AsyncConsole(System.out)) {
+ *   ConsoleBuilder cb = console.builder();
+ *   cb.color(AnsiColor.GREEN).text("done").reset().println();
+ * }
+ * }</pre>
+ *
+ * @author lambdaphoenix
+ * @version 2026-10-16
+ * @since 0.2.0
+ */
+public final class AsyncConsole implements Flushable, Closeable {
+  /** Default number of fragments the ring buffer can hold. */
+  private static final int DEFAULT_CAPACITY = 1024;
+
+  /** Number of characters after which a batch is written even if more fragments are queued. */
+  private static final int MAX_BATCH = 64 * 1024;
+
+  /** Maximum time the writer thread sleeps before checking for work again. */
+  private static final long IDLE_NANOS = 10_000_000L;
+
+  /** Policy applied when a fragment is published while the ring buffer is full. */
+  public enum Backpressure {
+    /** Wait until the writer thread has made room. */
+    BLOCK,
+    /** Discard the new fragment. */
+    DROP,
+    /** Discard the oldest queued fragment, so the most recent output always gets through. */
+    DROP_OLDEST
+  }
+
+  /** Destination of all written output. */
+  private final Appendable target;
+
+  /** Queue of fragments waiting to be written. */
+  private final RingBuffer<String> ring;
+
+  /** Policy applied when the ring buffer is full. */
+  private final Backpressure backpressure;
+
+  /** Background thread draining the ring buffer. */
+  private final Thread writer;
+
+  /** Number of fragments discarded because of backpressure. */
+  private final AtomicLong dropped = new AtomicLong();
+
+  /** Guards {@link #progress}. */
+  private final ReentrantLock lock = new ReentrantLock();
+
+  /** Signalled by the writer thread when it has consumed or written fragments, or stopped. */
+  private final Condition progress = this.lock.newCondition();
+
+  /** Number of threads waiting for {@link #progress}; the writer only signals if positive. */
+  private final AtomicInteger waiters = new AtomicInteger();
+
+  /** Consumer position up to which every fragment has been written or discarded. */
+  private volatile long completed;
+
+  /** Whether the writer thread is parked waiting for work. */
+  private volatile boolean idle;
+
+  /** Whether {@link #close()} has been called. */
+  private volatile boolean closed;
+
+  /** Whether the writer thread has stopped. */
+  private volatile boolean stopped;
+
+  /** First error raised by the target, reported on the next flush or close. */
+  private volatile IOException failure;
+
+  /**
+   * Creates a new {@code AsyncConsole} with a capacity of 1024 fragments that blocks producers when
+   * full.
+   *
+   * @param target the destination of all output, e.g. {@code System.out}
+   * @throws NullPointerException if {@code target} is null
+   */
+  public AsyncConsole(Appendable target) {
+    this(target, DEFAULT_CAPACITY, Backpressure.BLOCK);
+  }
+
+  /**
+   * Creates a new {@code AsyncConsole} and starts its writer thread.
+   *
+   * @param target the destination of all output, e.g. {@code System.out}
+   * @param capacity the number of fragments that can be queued, rounded up to a power of two of at
+   *     least 2
+   * @param backpressure the policy applied when the queue is full
+   * @throws NullPointerException if {@code target} or {@code backpressure} is null
+   * @throws IllegalArgumentException if {@code capacity} is not positive
+   */
+  public AsyncConsole(Appendable target, int capacity, Backpressure backpressure) {
+    this.target = Objects.requireNonNull(target);
+    this.backpressure = Objects.requireNonNull(backpressure);
+    this.ring = new RingBuffer<>(capacity);
+    this.writer = Thread.ofVirtual().name("simpleterminal-async").start(this::drain);
+  }
+
+  /**
+   * Creates a new {@link ConsoleBuilder} that publishes its output to this console.
+   *
+   * <p>Every {@link ConsoleBuilder#print()} or automatic flush of the builder publishes the
+   * buffered output as one fragment and returns without waiting for it to be written.
+   *
+   * @return a new builder bound to this console
+   */
+  public ConsoleBuilder builder() {
+    return new ConsoleBuilder(new Publisher()).shared();
+  }
+
+  /**
+   * Publishes a fragment of output to be written by the background thread.
+   *
+   * <p>A fragment queued while another thread closes this console is still written, by the
+   * publishing thread if the writer thread has already stopped.
+   *
+   * @param fragment the output to write as a whole
+   * @return {@code true} if the fragment was queued, {@code false} if it was dropped
+   * @throws IllegalStateException if this console has been closed
+   */
+  public boolean publish(CharSequence fragment) {
+    if (this.closed) throw new IllegalStateException("Console is closed");
+    if (fragment.isEmpty()) return true;
+    String s = fragment.toString();
+    while (!this.ring.offer(s)) {
+      switch (this.backpressure) {
+        case DROP -> {
+          this.dropped.incrementAndGet();
+          return false;
+        }
+        case DROP_OLDEST -> {
+          if (this.ring.poll() != null) this.dropped.incrementAndGet();
+        }
+        case BLOCK -> {
+          if (this.stopped) this.drainClosed();
+          else this.await(this::hasRoom);
+        }
+      }
+    }
+    if (this.closed) this.drainClosed(); // the writer may have stopped before seeing s
+    else if (this.idle) this.wakeWriter();
+    return true;
+  }
+
+  /**
+   * Returns the number of fragments discarded so far because the queue was full.
+   *
+   * @return the number of dropped fragments
+   */
+  public long dropped() {
+    return this.dropped.get();
+  }
+
+  /**
+   * Waits until every fragment published before this call has been written and the target has been
+   * flushed.
+   *
+   * @throws UncheckedIOException if writing to the target has failed
+   */
+  @Override
+  public void flush() {
+    long published = this.ring.produced();
+    this.await(() -> this.completed >= published);
+    this.checkFailure();
+  }
+
+  /**
+   * Writes all pending fragments, stops the writer thread and rejects further output. Calling this
+   * method more than once has no effect.
+   *
+   * @throws UncheckedIOException if writing to the target has failed
+   */
+  @Override
+  public void close() {
+    this.closed = true;
+    this.awaitWriter();
+    this.checkFailure();
+  }
+
+  /** Wakes the writer thread and waits until it has stopped. */
+  private void awaitWriter() {
+    this.wakeWriter();
+    boolean interrupted = false;
+    while (this.writer.isAlive()) {
+      try {
+        this.writer.join();
+      } catch (InterruptedException _) {
+        interrupted = true;
+      }
+    }
+    if (interrupted) Thread.currentThread().interrupt();
+  }
+
+  /**
+   * Writes the fragments left in the queue after the writer thread has stopped. Called by producers
+   * that queued a fragment while this console was being closed.
+   */
+  private synchronized void drainClosed() {
+    this.awaitWriter();
+    StringBuilder batch = new StringBuilder();
+    for (String fragment = this.ring.poll(); fragment != null; fragment = this.ring.poll())
+      batch.append(fragment);
+    if (!batch.isEmpty()) this.write(batch);
+    this.completed = this.ring.consumed();
+  }
+
+  /**
+   * Wakes the writer thread and sleeps until a condition holds or the writer thread has stopped.
+   *
+   * @param done the condition, checked whenever the writer thread signals progress
+   */
+  private void await(BooleanSupplier done) {
+    this.waiters.incrementAndGet();
+    this.lock.lock();
+    try {
+      while (!done.getAsBoolean() && !this.stopped) {
+        this.wakeWriter();
+        this.progress.awaitUninterruptibly();
+      }
+    } finally {
+      this.lock.unlock();
+      this.waiters.decrementAndGet();
+    }
+  }
+
+  /**
+   * Wakes all threads waiting in {@link #await(BooleanSupplier)}, if there are any. Called by the
+   * writer thread after its state changed.
+   */
+  private void signalProgress() {
+    if (this.waiters.get() == 0) return;
+    this.lock.lock();
+    try {
+      this.progress.signalAll();
+    } finally {
+      this.lock.unlock();
+    }
+  }
+
+  /**
+   * Returns whether the queue has room for another fragment.
+   *
+   * @return {@code true} if fewer fragments are queued than the capacity
+   */
+  private boolean hasRoom() {
+    return this.ring.produced() - this.ring.consumed() < this.ring.capacity();
+  }
+
+  /** Unparks the writer thread. */
+  private void wakeWriter() {
+    LockSupport.unpark(this.writer);
+  }
+
+  /**
+   * Rethrows the first error raised by the target, if any.
+   *
+   * @throws UncheckedIOException if writing to the target has failed
+   */
+  private void checkFailure() {
+    IOException e = this.failure;
+    if (e != null) throw new UncheckedIOException(e);
+  }
+
+  /** Main loop of the writer thread: batches queued fragments and writes them to the target. */
+  private void drain() {
+    StringBuilder batch = new StringBuilder();
+    try {
+      while (true) {
+        String fragment = this.ring.poll();
+        if (fragment == null) {
+          // everything consumed so far was either written or discarded by a producer
+          this.completed = this.ring.consumed();
+          this.signalProgress();
+          if (this.closed && this.ring.isEmpty()) return;
+          this.idle = true;
+          if (this.ring.isEmpty() && !this.closed) LockSupport.parkNanos(IDLE_NANOS);
+          this.idle = false;
+          continue;
+        }
+        do {
+          batch.append(fragment);
+        } while (batch.length() < MAX_BATCH && (fragment = this.ring.poll()) != null);
+        this.signalProgress(); // the polled fragments made room for blocked producers
+        this.write(batch);
+        batch.setLength(0);
+        this.completed = this.ring.consumed();
+        this.signalProgress();
+      }
+    } finally {
+      this.stopped = true;
+      this.signalProgress();
+    }
+  }
+
+  /**
+   * Writes a batch to the target and flushes it, recording the first error.
+   *
+   * @param batch the output to write
+   */
+  private void write(StringBuilder batch) {
+    if (this.failure != null) return;
+    try {
+      this.target.append(batch);
+      if (this.target instanceof Flushable f) f.flush();
+    } catch (IOException e) {
+      this.failure = e;
+    }
+  }
+
+  /** Sink for {@link ConsoleBuilder}s that publishes each write as one fragment. */
+  private final class Publisher implements Appendable {
+    @Override
+    public Appendable append(CharSequence csq) {
+      AsyncConsole.this.publish(csq);
+      return this;
+    }
+
+    @Override
+    public Appendable append(CharSequence csq, int start, int end) {
+      AsyncConsole.this.publish(csq.subSequence(start, end));
+      return this;
+    }
+
+    @Override
+    public Appendable append(char c) {
+      AsyncConsole.this.publish(String.valueOf(c));
+      return this;
+    }
+  }
+}
@@ -0,0 +1,734 @@
+package io.github.lambdaphoenix.simpleterminal.core;
+
+import io.github.lambdaphoenix.simpleterminal.ansi.AnsiColor;
+import io.github.lambdaphoenix.simpleterminal.ansi.AnsiStyle;
+import io.github.lambdaphoenix.simpleterminal.ansi.ColorDepth;
+import io.github.lambdaphoenix.simpleterminal.ansi.DisplayWidth;
+import io.github.lambdaphoenix.simpleterminal.box.BoxStyle;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * Provides a fluent API for building styled console output directly as UTF-8 bytes.
+ *
+ * <p>The {@code ByteConsoleBuilder} is the byte-oriented counterpart of {@link ConsoleBuilder}.
+ * Instead of accumulating a {@code String} that is encoded again on every print, output is encoded
+ * straight into a reusable {@link ByteBuffer}, which is drained to an {@link OutputStream} or
+ * {@link WritableByteChannel} whenever it fills up. Escape codes of {@link AnsiColor} and {@link
+ * AnsiStyle} as well as {@link BoxStyle} glyphs are copied from pre-encoded byte arrays, so styling
+ * and borders involve no char-to-byte conversion at all.
+ *
+ * <p>Unlike {@link ConsoleBuilder}, escape codes are written exactly as requested without tracking
+ * the terminal state, keeping every call a plain byte copy.
+ *
+ * <h2>Usage Example:</h2>
+ *
+ * <pre>{@code
+ * ByteConsoleBuilder out = new ByteConsoleBuilder(System.out);
+ * for (LogEntry e : entries) {
+ *   out.color(AnsiColor.CYAN).text(e.time()).reset().space().text(e.message()).newline();
+ * }
+ * out.flush();
+ * }</pre>
+ *
+ * @author lambdaphoenix
+ * @version 2026-10-16
+ * @since 0.2.0
+ */
+public class ByteConsoleBuilder implements Flushable {
+  /** Default capacity of the output buffer in bytes. */
+  private static final int DEFAULT_CAPACITY = 8192;
+
+  /** Minimum capacity of the output buffer in bytes. */
+  private static final int MIN_CAPACITY = 64;
+
+  /** Free space reserved before writing a single escape code (the longest one has 19 bytes). */
+  private static final int ESCAPE_ROOM = 32;
+
+  /** Pre-encoded platform line separator. */
+  private static final byte[] LINE_SEPARATOR =
+      System.lineSeparator().getBytes(StandardCharsets.US_ASCII);
+
+  /** Pre-encoded glyphs per box style, in the order of the {@link BoxStyle} components. */
+  private static final Map<BoxStyle, byte[][]> GLYPHS = new ConcurrentHashMap<>();
+
+  /** Reusable buffer holding encoded output that has not been written yet. */
+  private final ByteBuffer buf;
+
+  /** Target stream, or {@code null} if writing to a channel. */
+  private final OutputStream out;
+
+  /** Target channel, or {@code null} if writing to a stream. */
+  private final WritableByteChannel channel;
+
+  /** Current rule width for horizontal separators. */
+  private int ruleWidth;
+
+  /** Current unit of indentation, UTF-8 encoded. */
+  private byte[] indentUnit;
+
+  /** Current default box style for framed content. */
+  private BoxStyle boxStyle;
+
+  /** Color depth that colors are reduced to. */
+  private ColorDepth colorDepth;
+
+  /** Whether colors and styles are omitted. */
+  private boolean plain;
+
+  /** Whether boxes and rules use ASCII glyphs in plain mode. */
+  private boolean asciiFallback;
+
+  /** Current indentation level (non-negative). */
+  private int indent = 0;
+
+  /**
+   * Creates a new {@code ByteConsoleBuilder} writing to a stream with the default buffer capacity.
+   *
+   * @param out the output stream, e.g. {@code System.out}
+   * @throws NullPointerException if {@code out} is null
+   */
+  public ByteConsoleBuilder(OutputStream out) {
+    this(Objects.requireNonNull(out), null, DEFAULT_CAPACITY);
+  }
+
+  /**
+   * Creates a new {@code ByteConsoleBuilder} writing to a channel with the default buffer capacity.
+   *
+   * @param channel the writable channel
+   * @throws NullPointerException if {@code channel} is null
+   */
+  public ByteConsoleBuilder(WritableByteChannel channel) {
+    this(channel, DEFAULT_CAPACITY);
+  }
+
+  /**
+   * Creates a new {@code ByteConsoleBuilder} writing to a channel.
+   *
+   * <p>The buffer is allocated directly, so channels backed by files or sockets can be written
+   * without an intermediate copy.
+   *
+   * @param channel the writable channel
+   * @param capacity the buffer capacity in bytes, at least 64
+   * @throws NullPointerException if {@code channel} is null
+   * @throws IllegalArgumentException if {@code capacity} is less than 64
+   */
+  public ByteConsoleBuilder(WritableByteChannel channel, int capacity) {
+    this(null, Objects.requireNonNull(channel), capacity);
+  }
+
+  /**
+   * Creates a new {@code ByteConsoleBuilder} for exactly one of the given targets.
+   *
+   * @param out the target stream, or {@code null}
+   * @param channel the target channel, or {@code null}
+   * @param capacity the buffer capacity in bytes
+   */
+  private ByteConsoleBuilder(OutputStream out, WritableByteChannel channel, int capacity) {
+    if (capacity < MIN_CAPACITY) throw new IllegalArgumentException("Capacity must be >= 64");
+    this.out = out;
+    this.channel = channel;
+    this.buf = out != null ? ByteBuffer.allocate(capacity) : ByteBuffer.allocateDirect(capacity);
+    this.ruleWidth = ConsoleConfig.DEFAULT_RULE_WIDTH;
+    this.indentUnit = ConsoleConfig.DEFAULT_INDENT_UNIT.getBytes(StandardCharsets.UTF_8);
+    this.boxStyle = ConsoleConfig.DEFAULT_BOX_STYLE;
+    this.colorDepth = ConsoleConfig.DEFAULT_COLOR_DEPTH;
+    this.plain = ConsoleConfig.DEFAULT_PLAIN;
+    this.asciiFallback = ConsoleConfig.DEFAULT_ASCII_FALLBACK;
+  }
+
+  /**
+   * Returns the pre-encoded glyphs of a box style, encoding them on first use.
+   *
+   * @param style the box style
+   * @return the UTF-8 encoded glyphs in component order
+   */
+  private static byte[][] glyphs(BoxStyle style) {
+    byte[][] glyphs = GLYPHS.get(style);
+    if (glyphs != null) return glyphs;
+    return GLYPHS.computeIfAbsent(
+        style,
+        s ->
+            new byte[][] {
+              s.topLeft().getBytes(StandardCharsets.UTF_8),
+              s.topRight().getBytes(StandardCharsets.UTF_8),
+              s.bottomLeft().getBytes(StandardCharsets.UTF_8),
+              s.bottomRight().getBytes(StandardCharsets.UTF_8),
+              s.horizontal().getBytes(StandardCharsets.UTF_8),
+              s.vertical().getBytes(StandardCharsets.UTF_8),
+              s.junctionLeft().getBytes(StandardCharsets.UTF_8),
+              s.junctionRight().getBytes(StandardCharsets.UTF_8),
+              s.junctionHorizontal().getBytes(StandardCharsets.UTF_8)
+            });
+  }
+
+  /**
+   * Sets the default rule width for horizontal separators.
+   *
+   * @param ruleWidth the rule width, must be greater than 0
+   * @return this builder for chaining
+   * @throws IllegalArgumentException if {@code ruleWidth} is not positive
+   */
+  public ByteConsoleBuilder ruleWidth(int ruleWidth) {
+    if (ruleWidth <= 0) throw new IllegalArgumentException("Width must be > 0");
+    this.ruleWidth = ruleWidth;
+    return this;
+  }
+
+  /**
+   * Sets the unit of indentation.
+   *
+   * @param indentUnit the string used for one indentation level
+   * @return this builder for chaining
+   * @throws IllegalArgumentException if {@code indentUnit} is null or empty
+   */
+  public ByteConsoleBuilder indentUnit(String indentUnit) {
+    if (indentUnit == null || indentUnit.isEmpty())
+      throw new IllegalArgumentException("Indent unit cannot be empty");
+    this.indentUnit = indentUnit.getBytes(StandardCharsets.UTF_8);
+    return this;
+  }
+
+  /**
+   * Sets the current indentation level.
+   *
+   * @param levels the number of indentation levels (non-negative)
+   * @return this builder for chaining
+   */
+  public ByteConsoleBuilder indent(int levels) {
+    this.indent = Math.max(0, levels);
+    return this;
+  }
+
+  /**
+   * Sets the default box style for framed content.
+   *
+   * @param boxStyle the box style to use
+   * @return this builder for chaining
+   */
+  public ByteConsoleBuilder boxStyle(BoxStyle boxStyle) {
+    this.boxStyle = boxStyle;
+    return this;
+  }
+
+  /**
+   * Sets the color depth of the terminal.
+   *
+   * <p>Colors deeper than the given depth are replaced by the nearest supported color; with {@link
+   * ColorDepth#NONE}, {@link #color(AnsiColor)} and {@link #bg(AnsiColor)} are ignored.
+   *
+   * @param colorDepth the supported color depth
+   * @return this builder for chaining
+   * @see ConsoleConfig#detectColorDepth()
+   */
+  public ByteConsoleBuilder colorDepth(ColorDepth colorDepth) {
+    this.colorDepth = Objects.requireNonNull(colorDepth);
+    return this;
+  }
+
+  /**
+   * Switches plain mode on or off.
+   *
+   * <p>In plain mode, {@link #color(AnsiColor)}, {@link #bg(AnsiColor)}, {@link #style(AnsiStyle)}
+   * and {@link #reset()} return immediately without writing anything, so output for files, pipes
+   * and logs contains only text.
+   *
+   * @param plain {@code true} to omit colors and styles
+   * @return this builder for chaining
+   * @see ConsoleConfig#DEFAULT_PLAIN
+   */
+  public ByteConsoleBuilder plain(boolean plain) {
+    this.plain = plain;
+    return this;
+  }
+
+  /**
+   * Sets whether boxes and rules fall back to ASCII glyphs in plain mode.
+   *
+   * <p>If enabled and plain mode is on, boxes are drawn with {@link BoxStyle#ASCII} regardless of
+   * their style, and rules of non-ASCII characters use its horizontal glyph.
+   *
+   * @param asciiFallback {@code true} to draw boxes and rules with ASCII glyphs in plain mode
+   * @return this builder for chaining
+   */
+  public ByteConsoleBuilder asciiFallback(boolean asciiFallback) {
+    this.asciiFallback = asciiFallback;
+    return this;
+  }
+
+  /**
+   * Appends a foreground color escape code.
+   *
+   * @param color the ANSI color
+   * @return this builder for chaining
+   */
+  public ByteConsoleBuilder color(AnsiColor color) {
+    if (this.plain) return this;
+    color = color.downsample(this.colorDepth);
+    if (color == null) return this;
+    this.ensure(ESCAPE_ROOM);
+    color.putFg(this.buf);
+    return this;
+  }
+
+  /**
+   * Appends a background color escape code.
+   *
+   * @param bgColor the ANSI background color
+   * @return this builder for chaining
+   */
+  public ByteConsoleBuilder bg(AnsiColor bgColor) {
+    if (this.plain) return this;
+    bgColor = bgColor.downsample(this.colorDepth);
+    if (bgColor == null) return this;
+    this.ensure(ESCAPE_ROOM);
+    bgColor.putBg(this.buf);
+    return this;
+  }
+
+  /**
+   * Appends a text style escape code.
+   *
+   * @param style the ANSI style
+   * @return this builder for chaining
+   */
+  public ByteConsoleBuilder style(AnsiStyle style) {
+    if (this.plain) return this;
+    this.ensure(ESCAPE_ROOM);
+    style.put(this.buf);
+    return this;
+  }
+
+  /**
+   * Resets all colors and styles.
+   *
+   * @return this builder for chaining
+   */
+  public ByteConsoleBuilder reset() {
+    return this.style(AnsiStyle.RESET_ALL);
+  }
+
+  /**
+   * Appends plain text, encoded as UTF-8.
+   *
+   * @param text the text to append
+   * @return this builder for chaining
+   */
+  public ByteConsoleBuilder text(CharSequence text) {
+    this.putText(text);
+    return this;
+  }
+
+  /**
+   * Appends a fragment with its slots filled in.
+   *
+   * <p>The literal parts of the fragment are copied from their pre-encoded bytes; only the values
+   * are encoded, padded with spaces or cut to the width of their slot.
+   *
+   * @param fragment the fragment
+   * @param values the slot values in the order of {@link Fragment#slots()}; missing or {@code null}
+   *     values leave their slot blank
+   * @return this builder for chaining
+   */
+  public ByteConsoleBuilder fragment(Fragment fragment, CharSequence... values) {
+    this.putBytes(fragment.part(0));
+    for (int i = 0; i < fragment.occurrences(); i++) {
+      int slot = fragment.occurrence(i);
+      CharSequence v = Fragment.value(values, slot);
+      int end = fragment.fit(v, slot);
+      this.putText(v, 0, end);
+      for (int pad = fragment.padding(v, end, slot); pad > 0; pad--) this.space();
+      this.putBytes(fragment.part(i + 1));
+    }
+    return this;
+  }
+
+  /**
+   * Appends a single space.
+   *
+   * @return this builder for chaining
+   */
+  public ByteConsoleBuilder space() {
+    this.ensure(1);
+    this.buf.put((byte) ' ');
+    return this;
+  }
+
+  /**
+   * Appends a newline.
+   *
+   * @return this builder for chaining
+   */
+  public ByteConsoleBuilder newline() {
+    this.putBytes(LINE_SEPARATOR);
+    return this;
+  }
+
+  /**
+   * Appends a line of text with current indentation.
+   *
+   * @param text the text to append
+   * @return this builder for chaining
+   */
+  public ByteConsoleBuilder line(CharSequence text) {
+    this.putIndent();
+    this.putText(text);
+    return this.newline();
+  }
+
+  /**
+   * Appends a horizontal rule using the default width.
+   *
+   * @param ch the character to repeat
+   * @return this builder for chaining
+   */
+  public ByteConsoleBuilder rule(char ch) {
+    return this.rule(ch, this.ruleWidth);
+  }
+
+  /**
+   * Appends a horizontal rule with a specified width.
+   *
+   * @param ch the character to repeat
+   * @param width the width of the rule
+   * @return this builder for chaining
+   */
+  public ByteConsoleBuilder rule(char ch, int width) {
+    ch = this.ruleGlyph(ch);
+    this.putIndent();
+    for (int i = Math.max(1, width); i > 0; i--) this.putChar(ch);
+    return this.newline();
+  }
+
+  /**
+   * Returns the character to draw a rule with, honoring the ASCII fallback of plain mode.
+   *
+   * @param ch the requested character
+   * @return the character to draw
+   */
+  private char ruleGlyph(char ch) {
+    if (!this.plain || !this.asciiFallback || ch < 0x80) return ch;
+    return BoxStyle.ASCII.horizontal().charAt(0);
+  }
+
+  /**
+   * Returns the style to draw a box with, honoring the ASCII fallback of plain mode.
+   *
+   * @param style the requested style
+   * @return the style to draw
+   */
+  private BoxStyle boxGlyphs(BoxStyle style) {
+    return this.plain && this.asciiFallback ? BoxStyle.ASCII : style;
+  }
+
+  /**
+   * Appends a boxed section with a title and content using the default box style.
+   *
+   * @param title the box title (may be null or blank)
+   * @param content the box content
+   * @return this builder for chaining
+   */
+  public ByteConsoleBuilder box(String title, String content) {
+    return this.box(title, content, this.boxStyle);
+  }
+
+  /**
+   * Appends a boxed section with a title and content using a specific box style.
+   *
+   * <p>The layout is identical to {@link ConsoleBuilder#box(String, String, BoxStyle)}.
+   *
+   * @param title the box title (may be null or blank)
+   * @param content the box content
+   * @param style the box style to use
+   * @return this builder for chaining
+   */
+  public ByteConsoleBuilder box(String title, String content, BoxStyle style) {
+    return this.box(title, List.of(content), style);
+  }
+
+  /**
+   * Appends a boxed section with a title and content lines using the default box style.
+   *
+   * @param title the box title (may be null or blank)
+   * @param lines the content lines; line breaks inside an element start a new line
+   * @return this builder for chaining
+   * @see #box(String, Iterable, BoxStyle)
+   */
+  public ByteConsoleBuilder box(String title, Iterable<? extends CharSequence> lines) {
+    return this.box(title, lines, this.boxStyle);
+  }
+
+  /**
+   * Appends a boxed section with a title and content lines using a specific box style.
+   *
+   * <p>The layout is identical to {@link ConsoleBuilder#box(String, Iterable, BoxStyle)}. The lines
+   * are iterated twice, once to measure the width of the box and once to encode it, and are split
+   * at line breaks without creating substrings.
+   *
+   * @param title the box title (may be null or blank)
+   * @param lines the content lines; line breaks inside an element start a new line
+   * @param style the box style to use
+   * @return this builder for chaining
+   */
+  public ByteConsoleBuilder box(
+      String title, Iterable<? extends CharSequence> lines, BoxStyle style) {
+    byte[][] g = ByteConsoleBuilder.glyphs(this.boxGlyphs(style));
+    boolean hasTitle = title != null && !title.isBlank();
+    int inner = hasTitle ? DisplayWidth.of(title) : 0;
+    for (CharSequence l : lines) {
+      for (int from = 0, to; ; from = DisplayWidth.nextLine(l, to)) {
+        to = DisplayWidth.lineEnd(l, from);
+        inner = Math.max(inner, DisplayWidth.of(l, from, to));
+        if (to == l.length()) break;
+      }
+    }
+
+    this.border(g[0], g[4], g[1], inner);
+    if (hasTitle) {
+      this.boxLine(g[5], title, 0, title.length(), inner);
+      this.border(g[6], g[8], g[7], inner);
+    }
+    for (CharSequence l : lines) {
+      for (int from = 0, to; ; from = DisplayWidth.nextLine(l, to)) {
+        to = DisplayWidth.lineEnd(l, from);
+        this.boxLine(g[5], l, from, to, inner);
+        if (to == l.length()) break;
+      }
+    }
+    this.border(g[2], g[4], g[3], inner);
+    return this;
+  }
+
+  /**
+   * Appends a boxed section with a title and streamed content lines using the default box style.
+   *
+   * @param title the box title (may be null or blank)
+   * @param lines the content lines; line breaks inside an element start a new line
+   * @return this builder for chaining
+   * @see #box(String, Stream, BoxStyle)
+   */
+  public ByteConsoleBuilder box(String title, Stream<? extends CharSequence> lines) {
+    return this.box(title, lines, this.boxStyle);
+  }
+
+  /**
+   * Appends a boxed section with a title and streamed content lines using a specific box style.
+   *
+   * <p>The box width depends on the longest line, so the stream is collected into a list before
+   * encoding; the line elements themselves are not copied.
+   *
+   * @param title the box title (may be null or blank)
+   * @param lines the content lines; line breaks inside an element start a new line
+   * @param style the box style to use
+   * @return this builder for chaining
+   */
+  public ByteConsoleBuilder box(
+      String title, Stream<? extends CharSequence> lines, BoxStyle style) {
+    return this.box(title, lines.toList(), style);
+  }
+
+  /**
+   * Appends a horizontal box border.
+   *
+   * @param left the left corner or junction glyph
+   * @param horizontal the horizontal glyph
+   * @param right the right corner or junction glyph
+   * @param inner the inner width of the box
+   */
+  private void border(byte[] left, byte[] horizontal, byte[] right, int inner) {
+    this.putIndent();
+    this.putBytes(left);
+    for (int i = inner + 2; i > 0; i--) this.putBytes(horizontal);
+    this.putBytes(right);
+    this.newline();
+  }
+
+  /**
+   * Appends a padded content line of a box.
+   *
+   * @param vertical the vertical border glyph
+   * @param text the text containing the line
+   * @param from the start of the line in {@code text}
+   * @param to the end of the line in {@code text}
+   * @param inner the inner width of the box
+   */
+  private void boxLine(byte[] vertical, CharSequence text, int from, int to, int inner) {
+    this.putIndent();
+    this.putBytes(vertical);
+    this.space();
+    this.putText(text, from, to);
+    for (int i = inner - DisplayWidth.of(text, from, to); i > 0; i--) this.space();
+    this.space();
+    this.putBytes(vertical);
+    this.newline();
+  }
+
+  /** Appends the indentation for the current level. */
+  private void putIndent() {
+    for (int i = 0; i < this.indent; i++) this.putBytes(this.indentUnit);
+  }
+
+  /**
+   * Appends a pre-encoded byte sequence, writing it directly if it exceeds the buffer capacity.
+   *
+   * @param bytes the bytes to append
+   */
+  private void putBytes(byte[] bytes) {
+    if (this.buf.remaining() < bytes.length) {
+      this.drain();
+      if (bytes.length > this.buf.capacity()) {
+        this.write(ByteBuffer.wrap(bytes));
+        return;
+      }
+    }
+    this.buf.put(bytes);
+  }
+
+  /**
+   * Encodes text as UTF-8 into the buffer. Unpaired surrogates are replaced with {@code '?'}.
+   *
+   * @param text the text to encode
+   */
+  private void putText(CharSequence text) {
+    this.putText(text, 0, text.length());
+  }
+
+  /**
+   * Encodes a range of a text as UTF-8 into the buffer. Unpaired surrogates are replaced with
+   * {@code '?'}.
+   *
+   * @param text the text to encode
+   * @param from the start of the range, inclusive
+   * @param to the end of the range, exclusive
+   */
+  private void putText(CharSequence text, int from, int to) {
+    for (int i = from; i < to; i++) {
+      char c = text.charAt(i);
+      if (Character.isHighSurrogate(c)
+          && i + 1 < to
+          && Character.isLowSurrogate(text.charAt(i + 1))) {
+        this.putCodePoint(Character.toCodePoint(c, text.charAt(++i)));
+      } else {
+        this.putChar(c);
+      }
+    }
+  }
+
+  /**
+   * Encodes a single BMP character as UTF-8 into the buffer.
+   *
+   * @param c the character
+   */
+  private void putChar(char c) {
+    if (this.buf.remaining() < 3) this.drain();
+    if (c < 0x80) {
+      this.buf.put((byte) c);
+    } else if (c < 0x800) {
+      this.buf.put((byte) (0xC0 | c >> 6)).put((byte) (0x80 | c & 0x3F));
+    } else if (Character.isSurrogate(c)) {
+      this.buf.put((byte) '?');
+    } else {
+      this.buf
+          .put((byte) (0xE0 | c >> 12))
+          .put((byte) (0x80 | c >> 6 & 0x3F))
+          .put((byte) (0x80 | c & 0x3F));
+    }
+  }
+
+  /**
+   * Encodes a supplementary code point as UTF-8 into the buffer.
+   *
+   * @param cp the code point
+   */
+  private void putCodePoint(int cp) {
+    if (this.buf.remaining() < 4) this.drain();
+    this.buf
+        .put((byte) (0xF0 | cp >> 18))
+        .put((byte) (0x80 | cp >> 12 & 0x3F))
+        .put((byte) (0x80 | cp >> 6 & 0x3F))
+        .put((byte) (0x80 | cp & 0x3F));
+  }
+
+  /**
+   * Drains the buffer if fewer than the given number of bytes are free.
+   *
+   * @param bytes the number of bytes required
+   */
+  private void ensure(int bytes) {
+    if (this.buf.remaining() < bytes) this.drain();
+  }
+
+  /** Writes all buffered bytes to the target and clears the buffer. */
+  private void drain() {
+    this.buf.flip();
+    this.write(this.buf);
+    this.buf.clear();
+  }
+
+  /**
+   * Writes the remaining bytes of a buffer to the target.
+   *
+   * @param src the bytes to write
+   * @throws UncheckedIOException if writing fails
+   */
+  private void write(ByteBuffer src) {
+    try {
+      if (this.out != null) {
+        // stream targets always use heap buffers
+        this.out.write(src.array(), src.arrayOffset() + src.position(), src.remaining());
+        src.position(src.limit());
+      } else {
+        while (src.hasRemaining()) this.channel.write(src);
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * Writes all buffered bytes to the target and flushes it.
+   *
+   * @throws UncheckedIOException if writing fails
+   */
+  @Override
+  public void flush() {
+    this.drain();
+    if (this.out != null) {
+      try {
+        this.out.flush();
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+  }
+
+  /**
+   * Writes the buffered output to the target.
+   *
+   * @throws UncheckedIOException if writing fails
+   * @see #flush()
+   */
+  public void print() {
+    this.flush();
+  }
+
+  /**
+   * Appends a newline and writes the buffered output to the target.
+   *
+   * @throws UncheckedIOException if writing fails
+   */
+  public void println() {
+    this.newline();
+    this.print();
+  }
+}
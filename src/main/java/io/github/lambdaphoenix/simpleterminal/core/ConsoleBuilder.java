@@ -2,10 +2,24 @@ package io.github.lambdaphoenix.simpleterminal.core;
 
 import io.github.lambdaphoenix.simpleterminal.ansi.AnsiColor;
 import io.github.lambdaphoenix.simpleterminal.ansi.AnsiStyle;
+import io.github.lambdaphoenix.simpleterminal.ansi.ColorDepth;
+import io.github.lambdaphoenix.simpleterminal.ansi.DisplayWidth;
 import io.github.lambdaphoenix.simpleterminal.box.BoxStyle;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Locale;
-import java.util.ResourceBundle;
+import java.util.Objects;
 import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 /**
  * Provides a fluent API for building styled console output.
@@ -14,6 +28,17 @@ import java.util.function.Supplier;
  * styles, indentation, rules, and boxed content. Output can be accumulated in an internal buffer
  * and then printed to the console.
  *
+ * <p>A builder can also be bound to a sink ({@link Appendable}, {@link OutputStream} or {@link
+ * WritableByteChannel}). Together with {@link #flushThreshold(int)} and {@link
+ * #flushLineThreshold(int)} the buffer is then drained automatically while content is appended, so
+ * arbitrarily large documents stream out with bounded memory.
+ *
+ * <p>Color and style changes are tracked rather than appended blindly. They take effect when the
+ * next content is appended, at which point all pending changes are merged into a single escape
+ * sequence (e.g. {@code ESC[1;31;44m}) and changes that would not alter the current state, such as
+ * a repeated color or a second reset, are dropped. The state is kept across {@link #print()} calls;
+ * {@link #clear()} forgets it. Escape codes appended via {@link #text(String)} are not tracked.
+ *
  * <h2>Usage Example:</h2>
  *
  * <pre>{@code
@@ -25,14 +50,42 @@ import java.util.function.Supplier;
  *   .println();
  * }</pre>
  *
+ * <h2>Streaming Example:</h2>
+ *
+ * <pre>{@code
+ * try (OutputStream out = Files.newOutputStream(report)) {
+ *   ConsoleBuilder cb = ConsoleBuilder.to(out).flushLineThreshold(1000);
+ *   rows.forEach(cb::line);
+ *   cb.flush();
+ * }
+ * }</pre>
+ *
  * @author lambdaphoenix
  * @version 2025-09-25
  * @since 0.1.0
  */
-public class ConsoleBuilder {
+public class ConsoleBuilder implements Flushable {
   /** Internal buffer used to accumulate console output before printing or returning as a string. */
   private final StringBuilder buf = new StringBuilder();
 
+  /** Target the buffer is written to, or {@code null} to use {@code System.out}. */
+  private Appendable sink;
+
+  /** Buffered character count that triggers an automatic flush, or 0 if disabled. */
+  private int flushThreshold = 0;
+
+  /** Buffered line count that triggers an automatic flush, or 0 if disabled. */
+  private int flushLineThreshold = 0;
+
+  /** Number of line separators appended since the last flush. */
+  private int bufferedLines = 0;
+
+  /** Whether other writers share the sink, so the terminal state is unknown after a flush. */
+  private boolean shared = false;
+
+  /** Tracks emitted and pending colors and styles to elide redundant escape codes. */
+  private final SgrState sgr = new SgrState();
+
   /** Current rule width for horizontal separators. */
   private int ruleWidth;
 
@@ -42,15 +95,33 @@ public class ConsoleBuilder {
   /** Current locale for message lookup. */
   private Locale locale;
 
-  /** Resource bundle for localized messages. */
-  private ResourceBundle resources;
+  /** Catalog of localized messages for the current locale. */
+  private MessageCatalog messages;
 
   /** Current default box style for framed content. */
   private BoxStyle boxStyle;
 
+  /** Color depth that colors are reduced to. */
+  private ColorDepth colorDepth;
+
+  /** Whether colors and styles are omitted. */
+  private boolean plain;
+
+  /** Whether boxes and rules use ASCII glyphs in plain mode. */
+  private boolean asciiFallback;
+
   /** Current indentation level (non-negative). */
   private int indent = 0;
 
+  /** Indentation strings by level, built on first use for the current indent unit. */
+  private String[] indents = new String[8];
+
+  /** Reusable state of the line being formatted by {@link #format(FormatTemplate)}. */
+  private FormattedLine formatted;
+
+  /** Slots placed in the buffered output for {@link #toFragment()}. */
+  private final List<Fragment.Slot> slots = new ArrayList<>();
+
   /**
    * Creates a new {@code ConsoleBuilder} with default configuration values.
    */
@@ -59,30 +130,79 @@ public class ConsoleBuilder {
     this.indentUnit = ConsoleConfig.DEFAULT_INDENT_UNIT;
     this.locale(ConsoleConfig.DEFAULT_LOCALE);
     this.boxStyle = ConsoleConfig.DEFAULT_BOX_STYLE;
+    this.colorDepth = ConsoleConfig.DEFAULT_COLOR_DEPTH;
+    this.plain = ConsoleConfig.DEFAULT_PLAIN;
+    this.asciiFallback = ConsoleConfig.DEFAULT_ASCII_FALLBACK;
+  }
+
+  /**
+   * Creates a new {@code ConsoleBuilder} with default configuration values that writes to the given
+   * sink instead of {@code System.out}.
+   *
+   * <p>If the sink also implements {@link Flushable}, it is flushed whenever this builder is.
+   *
+   * @param sink the target for {@link #print()} and {@link #flush()}, e.g. a {@link java.io.Writer}
+   * @throws NullPointerException if {@code sink} is null
+   */
+  public ConsoleBuilder(Appendable sink) {
+    this();
+    this.sink = Objects.requireNonNull(sink);
   }
 
   /**
-   * Returns the maximum string length in an array of lines.
+   * Creates a new {@code ConsoleBuilder} that writes UTF-8 encoded output to a stream.
    *
-   * @param lines the array of strings
-   * @return the maximum length among the strings, or 0 if empty
+   * <p>The stream is not closed by the builder; call {@link #flush()} before closing it.
+   *
+   * @param out the output stream
+   * @return a new builder bound to {@code out}
+   * @throws NullPointerException if {@code out} is null
+   * @see #ConsoleBuilder(Appendable)
    */
-  private static int maxLen(String[] lines) {
-    int m = 0;
-    for (String s : lines) m = Math.max(m, s.length());
-    return m;
+  public static ConsoleBuilder to(OutputStream out) {
+    return new ConsoleBuilder(new OutputStreamWriter(out, StandardCharsets.UTF_8));
   }
 
   /**
-   * Pads a string with trailing spaces to reach a given length.
+   * Creates a new {@code ConsoleBuilder} that writes UTF-8 encoded output to a channel.
+   *
+   * <p>The channel is not closed by the builder; call {@link #flush()} before closing it.
    *
-   * @param s the string to pad
-   * @param len the target length
-   * @return the padded string, or the original string if already long enough
+   * @param channel the writable channel
+   * @return a new builder bound to {@code channel}
+   * @throws NullPointerException if {@code channel} is null
+   * @see #ConsoleBuilder(Appendable)
    */
-  private static String pad(String s, int len) {
-    int diff = len - s.length();
-    return diff > 0 ? s + " ".repeat(diff) : s;
+  public static ConsoleBuilder to(WritableByteChannel channel) {
+    return new ConsoleBuilder(Channels.newWriter(channel, StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Appends a number of spaces to a buffer.
+   *
+   * @param out the buffer
+   * @param count the number of spaces, may be negative
+   */
+  private static void spaces(StringBuilder out, int count) {
+    for (int i = 0; i < count; i++) out.append(' ');
+  }
+
+  /**
+   * Appends a glyph a number of times to a buffer, without building the repeated string.
+   *
+   * @param out the buffer
+   * @param glyph the glyph, e.g. a box border
+   * @param count the number of repetitions, may be negative
+   * @return the buffer
+   */
+  private static StringBuilder repeat(StringBuilder out, String glyph, int count) {
+    if (glyph.length() == 1) {
+      char ch = glyph.charAt(0);
+      for (int i = 0; i < count; i++) out.append(ch);
+    } else {
+      for (int i = 0; i < count; i++) out.append(glyph);
+    }
+    return out;
   }
 
   /**
@@ -92,7 +212,33 @@ public class ConsoleBuilder {
    * @return the localized message
    */
   public String msg(String key) {
-    return resources.getString(key);
+    return this.messages.get(MessageCatalog.key(key));
+  }
+
+  /**
+   * Returns a localized message with its placeholders {@code {0}}, {@code {1}}, ... replaced by
+   * arguments.
+   *
+   * @param key the message key
+   * @param args the arguments for the placeholders
+   * @return the formatted localized message
+   */
+  public String msg(String key, Object... args) {
+    return this.messages.format(MessageCatalog.key(key), args);
+  }
+
+  /**
+   * Returns a localized message by key index, with its placeholders replaced by arguments.
+   *
+   * <p>Unlike {@link #msg(String, Object...)}, this does not look up the key by name on every call;
+   * see {@link MessageCatalog#key(String)}.
+   *
+   * @param key the key index
+   * @param args the arguments for the placeholders
+   * @return the formatted localized message
+   */
+  public String msg(int key, Object... args) {
+    return this.messages.format(key, args);
   }
 
   /**
@@ -108,15 +254,61 @@ public class ConsoleBuilder {
     return this;
   }
 
+  /**
+   * Sets the number of buffered characters after which the buffer is flushed automatically.
+   *
+   * @param chars the threshold in characters, or 0 to disable
+   * @return this builder for chaining
+   * @throws IllegalArgumentException if {@code chars} is negative
+   * @see #flush()
+   */
+  public ConsoleBuilder flushThreshold(int chars) {
+    if (chars < 0) throw new IllegalArgumentException("Threshold must be >= 0");
+    this.flushThreshold = chars;
+    return this;
+  }
+
+  /**
+   * Sets the number of buffered lines after which the buffer is flushed automatically.
+   *
+   * <p>Lines are counted for every line separator appended by this builder, e.g. by {@link
+   * #line(String)}, {@link #newline()}, rules and boxes. Line breaks inside plain text are not
+   * counted.
+   *
+   * @param lines the threshold in lines, or 0 to disable
+   * @return this builder for chaining
+   * @throws IllegalArgumentException if {@code lines} is negative
+   * @see #flush()
+   */
+  public ConsoleBuilder flushLineThreshold(int lines) {
+    if (lines < 0) throw new IllegalArgumentException("Threshold must be >= 0");
+    this.flushLineThreshold = lines;
+    return this;
+  }
+
+  /**
+   * Marks the sink as shared with other writers. After every flush the builder then assumes that
+   * the terminal state is unknown and writes the current colors and styles again before further
+   * content.
+   *
+   * @return this builder for chaining
+   */
+  ConsoleBuilder shared() {
+    this.shared = true;
+    return this;
+  }
+
   /**
    * Sets the locale for message lookup.
    *
+   * <p>The messages of each locale are loaded only once per process, see {@link MessageCatalog}.
+   *
    * @param locale the locale to use
    * @return this builder for chaining
    */
   public ConsoleBuilder locale(Locale locale) {
+    this.messages = MessageCatalog.of(locale);
     this.locale = locale;
-    this.resources = ResourceBundle.getBundle("messages", this.locale);
     return this;
   }
 
@@ -130,7 +322,10 @@ public class ConsoleBuilder {
   public ConsoleBuilder indentUnit(String indentUnit) {
     if (indentUnit == null || indentUnit.isEmpty())
       throw new IllegalArgumentException("Indent unit cannot be empty");
-    this.indentUnit = indentUnit;
+    if (!indentUnit.equals(this.indentUnit)) {
+      this.indentUnit = indentUnit;
+      Arrays.fill(this.indents, null);
+    }
     return this;
   }
 
@@ -156,48 +351,151 @@ public class ConsoleBuilder {
     return this;
   }
 
+  /**
+   * Sets the color depth of the terminal.
+   *
+   * <p>Colors deeper than the given depth are replaced by the nearest supported color; with {@link
+   * ColorDepth#NONE}, {@link #color(AnsiColor)} and {@link #bg(AnsiColor)} are ignored.
+   *
+   * @param colorDepth the supported color depth
+   * @return this builder for chaining
+   * @see ConsoleConfig#detectColorDepth()
+   */
+  public ConsoleBuilder colorDepth(ColorDepth colorDepth) {
+    this.colorDepth = Objects.requireNonNull(colorDepth);
+    return this;
+  }
+
+  /**
+   * Switches plain mode on or off.
+   *
+   * <p>In plain mode, {@link #color(AnsiColor)}, {@link #bg(AnsiColor)}, {@link #style(AnsiStyle)},
+   * {@link #reset()}, the cursor methods such as {@link #cursorUp(int)} and {@link #eraseLine()}
+   * return immediately without writing anything, so output for files, pipes and logs contains only
+   * text.
+   *
+   * @param plain {@code true} to omit colors and styles
+   * @return this builder for chaining
+   * @see ConsoleConfig#DEFAULT_PLAIN
+   */
+  public ConsoleBuilder plain(boolean plain) {
+    this.plain = plain;
+    return this;
+  }
+
+  /**
+   * Returns whether plain mode is on.
+   *
+   * <p>Components that redraw output in place, such as progress displays and interactive prompts,
+   * use this to fall back to output that only appends lines.
+   *
+   * @return {@code true} if colors, styles and cursor movement are omitted
+   * @see #plain(boolean)
+   */
+  public boolean isPlain() {
+    return this.plain;
+  }
+
+  /**
+   * Sets whether boxes and rules fall back to ASCII glyphs in plain mode.
+   *
+   * <p>If enabled and plain mode is on, boxes are drawn with {@link BoxStyle#ASCII} regardless of
+   * their style, and rules of non-ASCII characters use its horizontal glyph.
+   *
+   * @param asciiFallback {@code true} to draw boxes and rules with ASCII glyphs in plain mode
+   * @return this builder for chaining
+   */
+  public ConsoleBuilder asciiFallback(boolean asciiFallback) {
+    this.asciiFallback = asciiFallback;
+    return this;
+  }
+
   /**
    * Returns the current indentation string.
    *
    * <p>The indentation is computed by repeating the configured {@code indentUnit} for the current
-   * {@code indent} level.
+   * {@code indent} level. The string of each level is computed once and cached until the unit
+   * changes, so indented lines do not allocate.
    *
    * @return the current indentation string
    */
   private String currentIndent() {
-    return this.indentUnit.repeat(this.indent);
+    if (this.indent == 0) return "";
+    if (this.indent >= this.indents.length)
+      this.indents = Arrays.copyOf(this.indents, this.indent + 8);
+    String s = this.indents[this.indent];
+    if (s == null) this.indents[this.indent] = s = this.indentUnit.repeat(this.indent);
+    return s;
   }
 
   /**
-   * Appends a foreground color escape code.
+   * Appends a line separator and counts it towards the line threshold.
+   *
+   * @return this builder for chaining
+   */
+  private ConsoleBuilder endLine() {
+    this.out().append(System.lineSeparator());
+    this.bufferedLines++;
+    return this.checkFlush();
+  }
+
+  /**
+   * Returns the buffer for appending content, writing any pending color and style changes first.
+   *
+   * @return the internal buffer
+   */
+  private StringBuilder out() {
+    this.sgr.writeTo(this.buf);
+    return this.buf;
+  }
+
+  /**
+   * Flushes the buffer if one of the configured thresholds has been reached.
+   *
+   * @return this builder for chaining
+   */
+  private ConsoleBuilder checkFlush() {
+    if ((this.flushThreshold > 0 && this.buf.length() >= this.flushThreshold)
+        || (this.flushLineThreshold > 0 && this.bufferedLines >= this.flushLineThreshold))
+      this.flush();
+    return this;
+  }
+
+  /**
+   * Sets the foreground color for subsequent content.
    *
    * @param color the ANSI color
    * @return this builder for chaining
    */
   public ConsoleBuilder color(AnsiColor color) {
-    this.buf.append(color.fg());
+    if (this.plain) return this;
+    color = color.downsample(this.colorDepth);
+    if (color != null) this.sgr.fg(color);
     return this;
   }
 
   /**
-   * Appends a background color escape code.
+   * Sets the background color for subsequent content.
    *
    * @param bgColor the ANSI background color
    * @return this builder for chaining
    */
   public ConsoleBuilder bg(AnsiColor bgColor) {
-    this.buf.append(bgColor.bg());
+    if (this.plain) return this;
+    bgColor = bgColor.downsample(this.colorDepth);
+    if (bgColor != null) this.sgr.bg(bgColor);
     return this;
   }
 
   /**
-   * Appends a text style escape code.
+   * Applies a text style (or style reset) to subsequent content.
    *
    * @param style the ANSI style
    * @return this builder for chaining
    */
   public ConsoleBuilder style(AnsiStyle style) {
-    this.buf.append(style);
+    if (this.plain) return this;
+    this.sgr.style(style);
     return this;
   }
 
@@ -207,7 +505,64 @@ public class ConsoleBuilder {
    * @return this builder for chaining
    */
   public ConsoleBuilder reset() {
-    this.buf.append(AnsiColor.RESET);
+    if (this.plain) return this;
+    this.sgr.reset();
+    return this;
+  }
+
+  /**
+   * Moves the cursor up, keeping its column.
+   *
+   * <p>Like colors and styles, cursor movement is omitted in plain mode.
+   *
+   * @param lines the number of lines; nothing is written if not positive
+   * @return this builder for chaining
+   */
+  public ConsoleBuilder cursorUp(int lines) {
+    if (this.plain || lines <= 0) return this;
+    this.out().append("\u001B[").append(lines).append('A');
+    return this;
+  }
+
+  /**
+   * Moves the cursor down, keeping its column.
+   *
+   * <p>Like colors and styles, cursor movement is omitted in plain mode.
+   *
+   * @param lines the number of lines; nothing is written if not positive
+   * @return this builder for chaining
+   */
+  public ConsoleBuilder cursorDown(int lines) {
+    if (this.plain || lines <= 0) return this;
+    this.out().append("\u001B[").append(lines).append('B');
+    return this;
+  }
+
+  /**
+   * Moves the cursor to a position on the screen.
+   *
+   * <p>Like colors and styles, cursor movement is omitted in plain mode.
+   *
+   * @param row the row, starting at 1
+   * @param column the column, starting at 1
+   * @return this builder for chaining
+   */
+  public ConsoleBuilder cursorTo(int row, int column) {
+    if (this.plain) return this;
+    this.out().append("\u001B[").append(row).append(';').append(column).append('H');
+    return this;
+  }
+
+  /**
+   * Erases the line from the cursor to its end.
+   *
+   * <p>Omitted in plain mode.
+   *
+   * @return this builder for chaining
+   */
+  public ConsoleBuilder eraseLine() {
+    if (this.plain) return this;
+    this.out().append("\u001B[K");
     return this;
   }
 
@@ -218,18 +573,54 @@ public class ConsoleBuilder {
    * @return this builder for chaining
    */
   public ConsoleBuilder text(String text) {
-    this.buf.append(text);
+    this.out().append(text);
+    return this.checkFlush();
+  }
+
+  /**
+   * Appends text written in inline markup such as {@code "[bold red]Error:[/] message"}.
+   *
+   * <p>The markup is compiled on first use and cached, see {@link Markup}.
+   *
+   * @param markup the markup
+   * @return this builder for chaining
+   */
+  public ConsoleBuilder markup(String markup) {
+    return this.markup(Markup.of(markup));
+  }
+
+  /**
+   * Appends compiled markup.
+   *
+   * @param markup the compiled markup
+   * @return this builder for chaining
+   */
+  public ConsoleBuilder markup(Markup markup) {
+    markup.render(this);
     return this;
   }
 
+  /**
+   * Appends a line of text written in inline markup, with current indentation.
+   *
+   * @param markup the markup
+   * @return this builder for chaining
+   * @see #markup(String)
+   */
+  public ConsoleBuilder markupLine(String markup) {
+    this.out().append(this.currentIndent());
+    Markup.of(markup).render(this);
+    return this.endLine();
+  }
+
   /**
    * Appends a single space.
    *
    * @return this builder for chaining
    */
   public ConsoleBuilder space() {
-    this.buf.append(' ');
-    return this;
+    this.out().append(' ');
+    return this.checkFlush();
   }
 
   /**
@@ -238,8 +629,7 @@ public class ConsoleBuilder {
    * @return this builder for chaining
    */
   public ConsoleBuilder newline() {
-    this.buf.append(System.lineSeparator());
-    return this;
+    return this.endLine();
   }
 
   /**
@@ -249,13 +639,17 @@ public class ConsoleBuilder {
    * @return this builder for chaining
    */
   public ConsoleBuilder line(String text) {
-    this.buf.append(this.currentIndent()).append(text).append(System.lineSeparator());
-    return this;
+    this.out().append(this.currentIndent()).append(text);
+    return this.endLine();
   }
 
   /**
    * Appends a formatted line of text with current indentation.
    *
+   * <p>The format string is parsed on every call; in loops, prefer a compiled {@link
+   * FormatTemplate} with {@link #linef(FormatTemplate, Object...)} or {@link
+   * #format(FormatTemplate)}.
+   *
    * @param format the format string
    * @param args the arguments for the format string
    * @return this builder for chaining
@@ -264,6 +658,37 @@ public class ConsoleBuilder {
     return this.line(String.format(format, args));
   }
 
+  /**
+   * Appends a line formatted with a compiled template, with current indentation.
+   *
+   * @param template the compiled format
+   * @param args the arguments, one per format specifier
+   * @return this builder for chaining
+   * @throws IllegalArgumentException if the number or types of the arguments do not match
+   */
+  public ConsoleBuilder linef(FormatTemplate template, Object... args) {
+    template.appendTo(this.out().append(this.currentIndent()), args);
+    return this.endLine();
+  }
+
+  /**
+   * Starts a line formatted with a compiled template, with current indentation.
+   *
+   * <p>The arguments are passed one by one with the {@code arg} methods of the returned {@link
+   * FormattedLine}, which format primitives without boxing, and {@link FormattedLine#end()}
+   * completes the line. The returned object belongs to this builder and is reused for every line.
+   *
+   * @param template the compiled format
+   * @return the line being formatted
+   */
+  public FormattedLine format(FormatTemplate template) {
+    if (this.formatted == null) this.formatted = new FormattedLine();
+    this.out().append(this.currentIndent());
+    this.formatted.template = Objects.requireNonNull(template);
+    this.formatted.next = 0;
+    return this.formatted;
+  }
+
   /**
    * Appends a horizontal rule using the default width.
    *
@@ -282,11 +707,31 @@ public class ConsoleBuilder {
    * @return this builder for chaining
    */
   public ConsoleBuilder rule(char ch, int width) {
-    this.buf
-        .append(this.currentIndent())
-        .append(String.valueOf(ch).repeat(Math.max(1, width)))
-        .append(System.lineSeparator());
-    return this;
+    ch = this.ruleGlyph(ch);
+    StringBuilder out = this.out().append(this.currentIndent());
+    for (int i = Math.max(1, width); i > 0; i--) out.append(ch);
+    return this.endLine();
+  }
+
+  /**
+   * Returns the character to draw a rule with, honoring the ASCII fallback of plain mode.
+   *
+   * @param ch the requested character
+   * @return the character to draw
+   */
+  private char ruleGlyph(char ch) {
+    if (!this.plain || !this.asciiFallback || ch < 0x80) return ch;
+    return BoxStyle.ASCII.horizontal().charAt(0);
+  }
+
+  /**
+   * Returns the style to draw a box with, honoring the ASCII fallback of plain mode.
+   *
+   * @param style the requested style
+   * @return the style to draw
+   */
+  private BoxStyle boxGlyphs(BoxStyle style) {
+    return this.plain && this.asciiFallback ? BoxStyle.ASCII : style;
   }
 
   /**
@@ -309,55 +754,124 @@ public class ConsoleBuilder {
    * @return this builder for chaining
    */
   public ConsoleBuilder box(String title, String content, BoxStyle style) {
-    String[] lines = content.split("\\R", -1);
-    int max =
-        title != null && !title.isBlank() ? Math.max(title.length(), maxLen(lines)) : maxLen(lines);
-    int inner = Math.max(0, max);
-    String horizontalLine = style.horizontal().repeat(inner + 2);
-    this.buf
-        .append(this.currentIndent())
-        .append(style.topLeft())
-        .append(horizontalLine)
-        .append(style.topRight())
-        .append(System.lineSeparator());
-
-    if (title != null && !title.isBlank()) {
-      this.buf
-          .append(this.currentIndent())
-          .append(style.vertical())
-          .append(" ")
-          .append(ConsoleBuilder.pad(title, inner))
-          .append(" ")
-          .append(style.vertical())
-          .append(System.lineSeparator());
-
-      this.buf
-          .append(this.currentIndent())
-          .append(style.junctionLeft())
-          .append(style.junctionHorizontal().repeat(inner + 2))
-          .append(style.junctionRight())
-          .append(System.lineSeparator());
+    return this.box(title, List.of(content), style);
+  }
+
+  /**
+   * Appends a boxed section with a title and content lines using the default box style.
+   *
+   * @param title the box title (may be null or blank)
+   * @param lines the content lines; line breaks inside an element start a new line
+   * @return this builder for chaining
+   * @see #box(String, Iterable, BoxStyle)
+   */
+  public ConsoleBuilder box(String title, Iterable<? extends CharSequence> lines) {
+    return this.box(title, lines, this.boxStyle);
+  }
+
+  /**
+   * Appends a boxed section with a title and content lines using a specific box style.
+   *
+   * <p>The box is sized by the {@link DisplayWidth display width} of the title and lines, so wide
+   * characters and embedded escape codes keep the borders aligned. The lines are iterated twice:
+   * once to measure the width of the box and once to render it.
+   * No intermediate strings are created, so large listings can be boxed without joining them into
+   * one content string first. Together with a sink and a flush threshold the box is streamed line
+   * by line.
+   *
+   * <p>Tabs count as zero columns, see {@link DisplayWidth}; expand them in the lines first.
+   *
+   * @param title the box title (may be null or blank)
+   * @param lines the content lines; line breaks inside an element start a new line
+   * @param style the box style to use
+   * @return this builder for chaining
+   */
+  public ConsoleBuilder box(String title, Iterable<? extends CharSequence> lines, BoxStyle style) {
+    style = this.boxGlyphs(style);
+    boolean hasTitle = title != null && !title.isBlank();
+    int inner = hasTitle ? DisplayWidth.of(title) : 0;
+    for (CharSequence l : lines) {
+      for (int from = 0, to; ; from = DisplayWidth.nextLine(l, to)) {
+        to = DisplayWidth.lineEnd(l, from);
+        inner = Math.max(inner, DisplayWidth.of(l, from, to));
+        if (to == l.length()) break;
+      }
     }
 
-    for (String l : lines) {
-      this.buf
-          .append(this.currentIndent())
-          .append(style.vertical())
-          .append(" ")
-          .append(ConsoleBuilder.pad(l, inner))
-          .append(" ")
-          .append(style.vertical())
-          .append(System.lineSeparator());
+    String indent = this.currentIndent();
+    ConsoleBuilder.repeat(
+            this.out().append(indent).append(style.topLeft()), style.horizontal(), inner + 2)
+        .append(style.topRight());
+    this.endLine();
+
+    if (hasTitle) {
+      this.boxLine(indent, style.vertical(), title, 0, title.length(), inner);
+      ConsoleBuilder.repeat(
+              this.out().append(indent).append(style.junctionLeft()),
+              style.junctionHorizontal(),
+              inner + 2)
+          .append(style.junctionRight());
+      this.endLine();
     }
 
-    this.buf
-        .append(this.currentIndent())
-        .append(style.bottomLeft())
-        .append(horizontalLine)
-        .append(style.bottomRight())
-        .append(System.lineSeparator());
+    for (CharSequence l : lines) {
+      for (int from = 0, to; ; from = DisplayWidth.nextLine(l, to)) {
+        to = DisplayWidth.lineEnd(l, from);
+        this.boxLine(indent, style.vertical(), l, from, to, inner);
+        if (to == l.length()) break;
+      }
+    }
 
-    return this;
+    ConsoleBuilder.repeat(
+            this.out().append(indent).append(style.bottomLeft()), style.horizontal(), inner + 2)
+        .append(style.bottomRight());
+    return this.endLine();
+  }
+
+  /**
+   * Appends a boxed section with a title and streamed content lines using the default box style.
+   *
+   * @param title the box title (may be null or blank)
+   * @param lines the content lines; line breaks inside an element start a new line
+   * @return this builder for chaining
+   * @see #box(String, Stream, BoxStyle)
+   */
+  public ConsoleBuilder box(String title, Stream<? extends CharSequence> lines) {
+    return this.box(title, lines, this.boxStyle);
+  }
+
+  /**
+   * Appends a boxed section with a title and streamed content lines using a specific box style.
+   *
+   * <p>The box width depends on the longest line, so the stream is collected into a list before
+   * rendering; the line elements themselves are not copied.
+   *
+   * @param title the box title (may be null or blank)
+   * @param lines the content lines; line breaks inside an element start a new line
+   * @param style the box style to use
+   * @return this builder for chaining
+   */
+  public ConsoleBuilder box(String title, Stream<? extends CharSequence> lines, BoxStyle style) {
+    return this.box(title, lines.toList(), style);
+  }
+
+  /**
+   * Appends one padded content line of a box.
+   *
+   * @param indent the current indentation
+   * @param vertical the vertical border glyph
+   * @param text the text containing the line
+   * @param from the start of the line in {@code text}
+   * @param to the end of the line in {@code text}
+   * @param inner the inner width of the box
+   */
+  private void boxLine(
+      String indent, String vertical, CharSequence text, int from, int to, int inner) {
+    StringBuilder out =
+        this.out().append(indent).append(vertical).append(' ').append(text, from, to);
+    ConsoleBuilder.spaces(out, inner - DisplayWidth.of(text, from, to));
+    out.append(' ').append(vertical);
+    this.endLine();
   }
 
   /**
@@ -375,36 +889,248 @@ public class ConsoleBuilder {
     return this;
   }
 
+  /**
+   * Returns the placeholder of a named slot for a fragment recorded by this builder.
+   *
+   * <p>The placeholder is text of exactly {@code width} columns and can be passed to any method
+   * accepting text, e.g. as part of a box line. {@link #toFragment()} turns each occurrence into a
+   * slot that is filled in when the fragment is emitted. Requesting the same name again returns the
+   * same placeholder.
+   *
+   * @param name the slot name
+   * @param width the display width of the slot, greater than 0
+   * @return the placeholder
+   * @throws IllegalArgumentException if {@code width} is not positive, differs from the width the
+   *     slot was created with, or the fragment already has 32 slots
+   */
+  public String slot(String name, int width) {
+    Objects.requireNonNull(name);
+    if (width <= 0) throw new IllegalArgumentException("Width must be > 0");
+    int index = 0;
+    while (index < this.slots.size() && !this.slots.get(index).name().equals(name)) index++;
+    if (index == this.slots.size()) {
+      if (index == Fragment.MAX_SLOTS)
+        throw new IllegalArgumentException("A fragment has at most 32 slots");
+      this.slots.add(new Fragment.Slot(name, width));
+    } else if (this.slots.get(index).width() != width) {
+      throw new IllegalArgumentException("Slot " + name + " already has a different width");
+    }
+    return Fragment.placeholder(index, width);
+  }
+
+  /**
+   * Compiles the accumulated output into a reusable fragment and clears the buffer.
+   *
+   * <p>Output that has already been flushed to the sink is not included, so a builder recording a
+   * fragment should not have a flush threshold.
+   *
+   * @return the fragment with the slots placed since the buffer was last cleared
+   */
+  public Fragment toFragment() {
+    Fragment fragment = Fragment.compile(this.out(), this.slots);
+    this.clear();
+    return fragment;
+  }
+
+  /**
+   * Appends a fragment with its slots filled in.
+   *
+   * <p>The escape codes of the fragment are copied as they are; the tracked color and style are
+   * emitted again before the next text.
+   *
+   * @param fragment the fragment
+   * @param values the slot values in the order of {@link Fragment#slots()}; missing or {@code null}
+   *     values leave their slot blank
+   * @return this builder for chaining
+   */
+  public ConsoleBuilder fragment(Fragment fragment, CharSequence... values) {
+    fragment.appendTo(this.out(), values);
+    this.sgr.forget();
+    this.bufferedLines += fragment.lines();
+    return this.checkFlush();
+  }
+
   /**
    * Builds the accumulated output as a string.
    *
+   * <p>Output that has already been flushed to the sink is not included.
+   *
    * @return the built string
    */
   public String build() {
-    return this.buf.toString();
+    return this.out().toString();
   }
 
   /**
-   * Clears the internal buffer.
+   * Clears the internal buffer and forgets the tracked color and style state.
    *
    * @return this builder for chaining
    */
   public ConsoleBuilder clear() {
     this.buf.setLength(0);
+    this.bufferedLines = 0;
+    this.sgr.invalidate();
+    this.slots.clear();
     return this;
   }
 
-  /** Prints the accumulated output to {@code System.out} and clears the buffer. */
+  /**
+   * Writes the accumulated output to the sink, flushes the sink and clears the buffer.
+   *
+   * <p>Without an explicit sink the output is written to {@code System.out}.
+   *
+   * @throws UncheckedIOException if writing to the sink fails
+   */
+  @Override
+  public void flush() {
+    Appendable target = this.sink != null ? this.sink : System.out;
+    try {
+      if (!this.out().isEmpty()) target.append(this.buf);
+      if (target instanceof Flushable f) f.flush();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    this.buf.setLength(0);
+    this.bufferedLines = 0;
+    if (this.shared) this.sgr.forget();
+  }
+
+  /**
+   * Prints the accumulated output to the sink ({@code System.out} by default) and clears the
+   * buffer.
+   *
+   * @throws UncheckedIOException if writing to the sink fails
+   * @see #flush()
+   */
   public void print() {
-    System.out.print(this.build());
-    this.clear();
+    this.flush();
   }
 
   /**
-   * Appends a newline, prints the accumulated output to {@code System.out}, and clears the buffer.
+   * Appends a newline, prints the accumulated output to the sink ({@code System.out} by default),
+   * and clears the buffer.
+   *
+   * @throws UncheckedIOException if writing to the sink fails
    */
   public void println() {
     this.newline();
     this.print();
   }
+
+  /**
+   * A line being formatted with a {@link FormatTemplate}, receiving one argument at a time.
+   *
+   * <p>Each {@code arg} call formats the next argument directly into the builder's buffer.
+   *
+   * @see ConsoleBuilder#format(FormatTemplate)
+   */
+  public final class FormattedLine {
+    /** The template of the line. */
+    private FormatTemplate template;
+
+    /** Index of the next argument. */
+    private int next;
+
+    /** Creates the reusable line state of a builder. */
+    private FormattedLine() {}
+
+    /**
+     * Returns the index of the next argument after checking that there is one.
+     *
+     * @return the argument index
+     * @throws IllegalArgumentException if all arguments have been given
+     */
+    private int index() {
+      if (this.next >= this.template.arguments())
+        throw new IllegalArgumentException(
+            "Expected " + this.template.arguments() + " arguments, got more");
+      return this.next++;
+    }
+
+    /**
+     * Formats the next argument.
+     *
+     * @param v the argument
+     * @return this line for chaining
+     * @throws IllegalArgumentException if the argument does not match its conversion
+     */
+    public FormattedLine arg(int v) {
+      this.template.append(ConsoleBuilder.this.buf, this.index(), v);
+      return this;
+    }
+
+    /**
+     * Formats the next argument.
+     *
+     * @param v the argument
+     * @return this line for chaining
+     * @throws IllegalArgumentException if the argument does not match its conversion
+     */
+    public FormattedLine arg(long v) {
+      this.template.append(ConsoleBuilder.this.buf, this.index(), v);
+      return this;
+    }
+
+    /**
+     * Formats the next argument.
+     *
+     * @param v the argument
+     * @return this line for chaining
+     * @throws IllegalArgumentException if the argument does not match its conversion
+     */
+    public FormattedLine arg(double v) {
+      this.template.append(ConsoleBuilder.this.buf, this.index(), v);
+      return this;
+    }
+
+    /**
+     * Formats the next argument.
+     *
+     * @param v the argument
+     * @return this line for chaining
+     * @throws IllegalArgumentException if the argument does not match its conversion
+     */
+    public FormattedLine arg(char v) {
+      this.template.append(ConsoleBuilder.this.buf, this.index(), v);
+      return this;
+    }
+
+    /**
+     * Formats the next argument.
+     *
+     * @param v the argument
+     * @return this line for chaining
+     * @throws IllegalArgumentException if the argument does not match its conversion
+     */
+    public FormattedLine arg(boolean v) {
+      this.template.append(ConsoleBuilder.this.buf, this.index(), v);
+      return this;
+    }
+
+    /**
+     * Formats the next argument.
+     *
+     * @param v the argument
+     * @return this line for chaining
+     * @throws IllegalArgumentException if the argument does not match its conversion
+     */
+    public FormattedLine arg(Object v) {
+      this.template.append(ConsoleBuilder.this.buf, this.index(), v);
+      return this;
+    }
+
+    /**
+     * Completes the line.
+     *
+     * @return the builder for chaining
+     * @throws IllegalArgumentException if not all arguments have been given
+     */
+    public ConsoleBuilder end() {
+      if (this.next != this.template.arguments())
+        throw new IllegalArgumentException(
+            "Expected " + this.template.arguments() + " arguments, got " + this.next);
+      this.template.end(ConsoleBuilder.this.buf);
+      return ConsoleBuilder.this.endLine();
+    }
+  }
 }
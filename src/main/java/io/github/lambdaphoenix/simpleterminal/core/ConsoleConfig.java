@@ -1,9 +1,14 @@
 package io.github.lambdaphoenix.simpleterminal.core;
 
+import io.github.lambdaphoenix.simpleterminal.ansi.ColorDepth;
 import io.github.lambdaphoenix.simpleterminal.box.BoxStyle;
+import java.io.Console;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Properties;
 
 /**
@@ -60,6 +65,51 @@ public final class ConsoleConfig {
    */
   public static BoxStyle DEFAULT_BOX_STYLE = BoxStyle.UNICODE;
 
+  /**
+   * Name of the system property selecting the color depth: the name of a {@link ColorDepth} or
+   * {@code auto}.
+   *
+   * <p>The system property takes precedence over the {@code color.depth} key of {@code
+   * simpleterminal.properties}.
+   */
+  public static final String COLOR_DEPTH_PROPERTY = "simpleterminal.color.depth";
+
+  /**
+   * The default color depth of the terminal.
+   *
+   * <p>Colors deeper than this are reduced to the nearest supported color by {@code
+   * ConsoleBuilder}; {@link ColorDepth#NONE} omits colors entirely. By default, the color depth is
+   * {@link #detectColorDepth() detected} from the environment; the system property {@value
+   * #COLOR_DEPTH_PROPERTY} overrides this.
+   */
+  public static ColorDepth DEFAULT_COLOR_DEPTH =
+      colorDepth(System.getProperty(COLOR_DEPTH_PROPERTY, "auto"));
+
+  /**
+   * Name of the system property selecting plain mode: {@code true}, {@code false} or {@code auto}.
+   *
+   * <p>The system property takes precedence over the {@code plain} key of {@code
+   * simpleterminal.properties}.
+   */
+  public static final String PLAIN_PROPERTY = "simpleterminal.plain";
+
+  /**
+   * Whether builders start in plain mode.
+   *
+   * <p>In plain mode, color, style and cursor methods of {@code ConsoleBuilder} write nothing. By
+   * default, plain mode is on whenever standard output is not a {@link #isTerminal() terminal}, so
+   * no escape codes end up in files or pipes; the system property {@value #PLAIN_PROPERTY}
+   * overrides this.
+   */
+  public static boolean DEFAULT_PLAIN = plain(System.getProperty(PLAIN_PROPERTY, "auto"));
+
+  /**
+   * Whether builders in plain mode draw boxes and rules with ASCII glyphs.
+   *
+   * <p>If set, {@link BoxStyle#ASCII} replaces the requested box style while plain mode is on.
+   */
+  public static boolean DEFAULT_ASCII_FALLBACK = false;
+
   /** Private constructor to prevent instantiation. */
   private ConsoleConfig() {}
 
@@ -73,11 +123,19 @@ public final class ConsoleConfig {
    *   <li>{@code indent.unit} - string value for indentation unit
    *   <li>{@code locale} - BCP 47 language tag (e.g. {@code en}, {@code de-DE})
    *   <li>{@code box.style} - name of a predefined {@link BoxStyle}
+   *   <li>{@code color.depth} - name of a {@link ColorDepth}, or {@code auto} to {@link
+   *       #detectColorDepth() detect} it; ignored if {@value #COLOR_DEPTH_PROPERTY} is set
+   *   <li>{@code plain} - {@code true}, {@code false}, or {@code auto} for plain mode whenever
+   *       standard output is not a terminal; ignored if {@value #PLAIN_PROPERTY} is set
+   *   <li>{@code plain.ascii} - {@code true} to draw boxes and rules with ASCII glyphs in plain
+   *       mode
    * </ul>
    *
    * If the file is not found, defaults remain unchanged.
    *
    * @throws NumberFormatException if {@code rule.width} is not a valid integer
+   * @throws IllegalArgumentException if {@code color.depth} or {@value #COLOR_DEPTH_PROPERTY} is
+   *     not a valid color depth
    */
   public static void loadDefaults() {
     try (InputStream in = ConsoleConfig.class.getResourceAsStream("/simpleterminal.properties")) {
@@ -93,7 +151,112 @@ public final class ConsoleConfig {
       if (props.containsKey("box.style")) {
         DEFAULT_BOX_STYLE = BoxStyle.fromName(props.getProperty("box.style"));
       }
+      String depth = System.getProperty(COLOR_DEPTH_PROPERTY, props.getProperty("color.depth"));
+      if (depth != null) DEFAULT_COLOR_DEPTH = colorDepth(depth);
+      String plain = System.getProperty(PLAIN_PROPERTY, props.getProperty("plain"));
+      if (plain != null) DEFAULT_PLAIN = plain(plain);
+      if (props.containsKey("plain.ascii"))
+        DEFAULT_ASCII_FALLBACK = Boolean.parseBoolean(props.getProperty("plain.ascii").trim());
     } catch (IOException _) {
     }
   }
+
+  /**
+   * Parses a plain mode setting.
+   *
+   * @param value {@code true}, {@code false} or {@code auto}, ignoring case
+   * @return whether plain mode is on; for {@code auto}, whether standard output is not a terminal
+   */
+  private static boolean plain(String value) {
+    value = value.trim();
+    return value.equalsIgnoreCase("auto") ? !isTerminal() : Boolean.parseBoolean(value);
+  }
+
+  /**
+   * Parses a color depth setting.
+   *
+   * @param value the name of a {@link ColorDepth} or {@code auto}, ignoring case
+   * @return the color depth; for {@code auto}, the {@link #detectColorDepth() detected} one
+   * @throws IllegalArgumentException if {@code value} is not a valid color depth
+   */
+  private static ColorDepth colorDepth(String value) {
+    value = value.trim().toUpperCase(Locale.ROOT);
+    return value.equals("AUTO") ? detectColorDepth() : ColorDepth.valueOf(value);
+  }
+
+  /**
+   * Detects the color depth supported by the standard output of this process.
+   *
+   * <p>The detection follows common conventions:
+   *
+   * <ul>
+   *   <li>no colors if {@code NO_COLOR} is set to a non-empty value, standard output is not a
+   *       terminal or {@code TERM} is {@code dumb},
+   *   <li>true color if {@code COLORTERM} is {@code truecolor} or {@code 24bit}, {@code TERM}
+   *       mentions {@code truecolor}, {@code 24bit} or {@code direct}, or the process runs in
+   *       Windows Terminal ({@code WT_SESSION}),
+   *   <li>256 colors if {@code TERM} mentions {@code 256color},
+   *   <li>the 16 standard colors otherwise.
+   * </ul>
+   *
+   * @return the detected color depth
+   */
+  public static ColorDepth detectColorDepth() {
+    return detectColorDepth(System.getenv(), isTerminal());
+  }
+
+  /**
+   * Returns whether the standard output of this process is an interactive terminal.
+   *
+   * <p>Where {@code /proc/self/fd/1} exists (Linux), the target of standard output decides, so
+   * redirecting only standard input keeps colors on. Elsewhere {@code Console.isTerminal()} decides,
+   * which also returns {@code false} if only standard input is redirected.
+   *
+   * @return {@code false} if output is redirected to a file or pipe
+   */
+  public static boolean isTerminal() {
+    Boolean terminal = isTerminal(Path.of("/proc/self/fd/1"));
+    if (terminal != null) return terminal;
+    Console c = System.console();
+    return c != null && c.isTerminal();
+  }
+
+  /**
+   * Returns whether a file descriptor link points to a terminal device.
+   *
+   * @param fd the file descriptor link, such as {@code /proc/self/fd/1}
+   * @return whether the link points to a terminal device, or {@code null} if it cannot be read
+   * @see #isTerminal()
+   */
+  static Boolean isTerminal(Path fd) {
+    try {
+      String target = Files.readSymbolicLink(fd).toString();
+      return target.startsWith("/dev/pts/") || target.startsWith("/dev/tty");
+    } catch (IOException | UnsupportedOperationException | SecurityException _) {
+      return null;
+    }
+  }
+
+  /**
+   * Detects the color depth from environment variables.
+   *
+   * @param env the environment variables
+   * @param terminal whether standard output is a terminal
+   * @return the detected color depth
+   * @see #detectColorDepth()
+   */
+  static ColorDepth detectColorDepth(Map<String, String> env, boolean terminal) {
+    String noColor = env.get("NO_COLOR");
+    String term = env.getOrDefault("TERM", "").toLowerCase(Locale.ROOT);
+    if ((noColor != null && !noColor.isEmpty()) || !terminal || term.equals("dumb"))
+      return ColorDepth.NONE;
+    String colorTerm = env.getOrDefault("COLORTERM", "").toLowerCase(Locale.ROOT);
+    if (colorTerm.equals("truecolor")
+        || colorTerm.equals("24bit")
+        || term.contains("truecolor")
+        || term.contains("24bit")
+        || term.contains("direct")
+        || env.containsKey("WT_SESSION")) return ColorDepth.TRUECOLOR;
+    return term.contains("256color") ? ColorDepth.ANSI256 : ColorDepth.ANSI16;
+  }
 }
@@ -0,0 +1,473 @@
+package io.github.lambdaphoenix.simpleterminal.core;
+
+import io.github.lambdaphoenix.simpleterminal.ansi.DisplayWidth;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A format string parsed once and reused for formatting many lines.
+ *
+ * <p>{@link String#format(String, Object...)} parses its format string and creates a {@link
+ * java.util.Formatter} on every call. A {@code FormatTemplate} is parsed once by {@link
+ * #compile(String)}; formatting then appends literal text and arguments directly to the target
+ * buffer. With {@link ConsoleBuilder#format(FormatTemplate)}, {@code int}, {@code long} and {@code
+ * double} arguments are passed without boxing, so formatting a line allocates nothing.
+ *
+ * <p>A template supports the following subset of {@link java.util.Formatter} syntax, {@code
+ * %[flags][width][.precision]conversion}:
+ *
+ * <ul>
+ *   <li>{@code s} - any value via {@link String#valueOf(Object)}; the precision cuts it to that
+ *       many characters,
+ *   <li>{@code d} - a decimal integer ({@code byte}, {@code short}, {@code int} or {@code long}),
+ *   <li>{@code x}, {@code X} - a hexadecimal integer, negative values in two's complement,
+ *   <li>{@code f} - a decimal floating point number ({@code float} or {@code double}) with the
+ *       given number of fraction digits, 6 by default,
+ *   <li>{@code c} - a character or code point, {@code b} - a boolean,
+ *   <li>{@code %%} - a literal percent sign.
+ * </ul>
+ *
+ * <p>Supported flags are {@code -} (left-align within the width), {@code 0} (pad numbers with
+ * zeros) and {@code +} (always show the sign of numbers). Unlike {@code String.format}, output does
+ * not depend on the default locale: numbers use ASCII digits and a dot as decimal separator. Widths
+ * are measured with {@link DisplayWidth}, so wide characters keep columns aligned. Fraction digits
+ * are rounded half up from the binary value of the number, which for values such as {@code 1.005}
+ * may differ from {@code String.format} in the last digit.
+ *
+ * <p>Templates are immutable and can be shared between threads.
+ *
+ * <h2>Usage Example:</h2>
+ *
+ * <pre>{@code
+ * private static final FormatTemplate ROW = FormatTemplate.compile("%-20s %8d %6.2f%%");
+ *
+ * for (Stat s : stats) {
+ *   cb.format(ROW).arg(s.name()).arg(s.count()).arg(s.ratio() * 100).end();
+ * }
+ * }</pre>
+ *
+ * @author lambdaphoenix
+ * @version 2026-10-16
+ * @since 0.2.0
+ */
+public final class FormatTemplate {
+  /** Flag for left alignment. */
+  private static final int LEFT = 1;
+
+  /** Flag for zero padding. */
+  private static final int ZERO = 2;
+
+  /** Flag for an explicit plus sign. */
+  private static final int PLUS = 4;
+
+  /** Powers of ten up to the largest supported fixed precision. */
+  private static final double[] POW10 = {
+    1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15, 1e16,
+    1e17, 1e18
+  };
+
+  /** Lowercase hexadecimal digits. */
+  private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+  /** The format string this template was compiled from. */
+  private final String source;
+
+  /** Literal text before each argument, and after the last one. */
+  private final String[] literals;
+
+  /** Conversion character of each argument. */
+  private final char[] conversions;
+
+  /** Flags of each argument. */
+  private final int[] flags;
+
+  /** Minimum width of each argument, or 0. */
+  private final int[] widths;
+
+  /** Precision of each argument, or -1 if none was given. */
+  private final int[] precisions;
+
+  /**
+   * Creates a new {@code FormatTemplate}.
+   *
+   * @param source the format string
+   * @param literals the literal parts
+   * @param specs the parsed specifiers as {conversion, flags, width, precision}
+   */
+  private FormatTemplate(String source, List<String> literals, List<int[]> specs) {
+    this.source = source;
+    this.literals = literals.toArray(String[]::new);
+    int n = specs.size();
+    this.conversions = new char[n];
+    this.flags = new int[n];
+    this.widths = new int[n];
+    this.precisions = new int[n];
+    for (int i = 0; i < n; i++) {
+      int[] spec = specs.get(i);
+      this.conversions[i] = (char) spec[0];
+      this.flags[i] = spec[1];
+      this.widths[i] = spec[2];
+      this.precisions[i] = spec[3];
+    }
+  }
+
+  /**
+   * Parses a format string into a template.
+   *
+   * @param format the format string
+   * @return the compiled template
+   * @throws IllegalArgumentException if the format string is malformed or uses unsupported syntax
+   */
+  public static FormatTemplate compile(String format) {
+    List<String> literals = new ArrayList<>();
+    List<int[]> specs = new ArrayList<>();
+    StringBuilder literal = new StringBuilder();
+    int i = 0;
+    while (i < format.length()) {
+      char c = format.charAt(i++);
+      if (c != '%') {
+        literal.append(c);
+        continue;
+      }
+      int flags = 0;
+      for (; i < format.length(); i++) {
+        int f = "-0+".indexOf(format.charAt(i));
+        if (f < 0) break;
+        flags |= 1 << f;
+      }
+      int width = 0;
+      while (i < format.length() && isDigit(format.charAt(i)))
+        width = width * 10 + format.charAt(i++) - '0';
+      int precision = -1;
+      if (i < format.length() && format.charAt(i) == '.') {
+        precision = 0;
+        int start = ++i;
+        while (i < format.length() && isDigit(format.charAt(i)))
+          precision = precision * 10 + format.charAt(i++) - '0';
+        if (i == start) throw malformed(format, "missing precision");
+      }
+      if (i == format.length()) throw malformed(format, "missing conversion");
+      char conversion = format.charAt(i++);
+      if (conversion == '%' && flags == 0 && width == 0 && precision < 0) {
+        literal.append('%');
+        continue;
+      }
+      if ("sdxXfcb".indexOf(conversion) < 0)
+        throw malformed(format, "unsupported conversion '" + conversion + "'");
+      if ((flags & LEFT) != 0 && width == 0) throw malformed(format, "'-' requires a width");
+      if ((flags & LEFT) != 0 && (flags & ZERO) != 0)
+        throw malformed(format, "'-' and '0' are exclusive");
+      if (conversion == 'f' && precision > 18 || precision >= 0 && "sf".indexOf(conversion) < 0)
+        throw malformed(format, "unsupported precision");
+      literals.add(literal.toString());
+      literal.setLength(0);
+      specs.add(new int[] {conversion, flags, width, precision});
+    }
+    literals.add(literal.toString());
+    return new FormatTemplate(format, literals, specs);
+  }
+
+  /**
+   * Returns whether a character is an ASCII digit.
+   *
+   * @param c the character
+   * @return {@code true} for {@code 0..9}
+   */
+  private static boolean isDigit(char c) {
+    return c >= '0' && c <= '9';
+  }
+
+  /**
+   * Creates the exception for a malformed format string.
+   *
+   * @param format the format string
+   * @param reason what is wrong
+   * @return the exception
+   */
+  private static IllegalArgumentException malformed(String format, String reason) {
+    return new IllegalArgumentException("Invalid format \"" + format + "\": " + reason);
+  }
+
+  /**
+   * Returns the number of arguments the template expects.
+   *
+   * @return the number of format specifiers
+   */
+  public int arguments() {
+    return this.conversions.length;
+  }
+
+  /**
+   * Formats arguments into a new string.
+   *
+   * @param args the arguments, one per format specifier
+   * @return the formatted text
+   * @throws IllegalArgumentException if the number or types of the arguments do not match
+   */
+  public String format(Object... args) {
+    StringBuilder sb = new StringBuilder();
+    this.appendTo(sb, args);
+    return sb.toString();
+  }
+
+  /**
+   * Appends the formatted arguments to a buffer.
+   *
+   * @param out the target buffer
+   * @param args the arguments, one per format specifier
+   * @throws IllegalArgumentException if the number or types of the arguments do not match
+   */
+  public void appendTo(StringBuilder out, Object... args) {
+    if (args.length != this.arguments())
+      throw new IllegalArgumentException(
+          "Expected " + this.arguments() + " arguments, got " + args.length);
+    for (int i = 0; i < args.length; i++) this.append(out, i, args[i]);
+    out.append(this.literals[args.length]);
+  }
+
+  /**
+   * Appends the literal preceding an argument and the argument itself.
+   *
+   * @param out the target buffer
+   * @param i the index of the argument
+   * @param arg the argument
+   * @throws IllegalArgumentException if the argument does not match its conversion
+   */
+  void append(StringBuilder out, int i, Object arg) {
+    switch (arg) {
+      case Integer v when this.conversions[i] != 's' -> this.append(out, i, v.intValue());
+      case Long v when this.conversions[i] != 's' -> this.append(out, i, v.longValue());
+      case Short v when this.conversions[i] != 's' -> this.append(out, i, v.intValue());
+      case Byte v when this.conversions[i] != 's' -> this.append(out, i, v.intValue());
+      case Double v when this.conversions[i] != 's' -> this.append(out, i, v.doubleValue());
+      case Float v when this.conversions[i] != 's' -> this.append(out, i, v.doubleValue());
+      case Character v when this.conversions[i] != 's' -> this.append(out, i, v.charValue());
+      case Boolean v when this.conversions[i] != 's' -> this.append(out, i, v.booleanValue());
+      case null, default -> {
+        if (this.conversions[i] != 's') throw this.mismatch(i, arg);
+        int start = this.begin(out, i);
+        out.append(arg);
+        int precision = this.precisions[i];
+        if (precision >= 0 && out.length() - start > precision) out.setLength(start + precision);
+        this.pad(out, i, start, start);
+      }
+    }
+  }
+
+  /**
+   * Appends the literal preceding an argument and an {@code int} argument.
+   *
+   * @param out the target buffer
+   * @param i the index of the argument
+   * @param v the argument
+   * @throws IllegalArgumentException if the argument does not match its conversion
+   */
+  void append(StringBuilder out, int i, int v) {
+    if (this.conversions[i] == 'c') {
+      int start = this.begin(out, i);
+      out.appendCodePoint(v);
+      this.pad(out, i, start, start);
+    } else if (this.conversions[i] == 'x' || this.conversions[i] == 'X') {
+      this.hex(out, i, v & 0xFFFF_FFFFL);
+    } else {
+      this.append(out, i, (long) v);
+    }
+  }
+
+  /**
+   * Appends the literal preceding an argument and a {@code long} argument.
+   *
+   * @param out the target buffer
+   * @param i the index of the argument
+   * @param v the argument
+   * @throws IllegalArgumentException if the argument does not match its conversion
+   */
+  void append(StringBuilder out, int i, long v) {
+    switch (this.conversions[i]) {
+      case 'd' -> {
+        int start = this.begin(out, i);
+        boolean plus = v >= 0 && (this.flags[i] & PLUS) != 0;
+        if (plus) out.append('+');
+        out.append(v);
+        this.pad(out, i, start, start + (v < 0 || plus ? 1 : 0));
+      }
+      case 'x', 'X' -> this.hex(out, i, v);
+      case 's' -> {
+        int start = this.begin(out, i);
+        out.append(v);
+        this.pad(out, i, start, start);
+      }
+      default -> throw this.mismatch(i, v);
+    }
+  }
+
+  /**
+   * Appends the literal preceding an argument and a {@code double} argument.
+   *
+   * @param out the target buffer
+   * @param i the index of the argument
+   * @param v the argument
+   * @throws IllegalArgumentException if the argument does not match its conversion
+   */
+  void append(StringBuilder out, int i, double v) {
+    char conversion = this.conversions[i];
+    if (conversion == 's') {
+      int start = this.begin(out, i);
+      out.append(v);
+      this.pad(out, i, start, start);
+      return;
+    }
+    if (conversion != 'f') throw this.mismatch(i, v);
+    int start = this.begin(out, i);
+    if (Double.isNaN(v) || Double.isInfinite(v)) {
+      if (v > 0 && (this.flags[i] & PLUS) != 0) out.append('+');
+      out.append(Double.isNaN(v) ? "NaN" : v > 0 ? "Infinity" : "-Infinity");
+      this.pad(out, i, start, start);
+      return;
+    }
+    int precision = this.precisions[i] < 0 ? 6 : this.precisions[i];
+    boolean negative = v < 0 || v == 0 && 1 / v < 0;
+    double abs = Math.abs(v);
+    double scaled = abs * POW10[precision];
+    if (negative) out.append('-');
+    else if ((this.flags[i] & PLUS) != 0) out.append('+');
+    int sign = out.length();
+    if (scaled < 0x1p53) {
+      long units = (long) (scaled + 0.5);
+      long factor = (long) POW10[precision];
+      out.append(units / factor);
+      if (precision > 0) {
+        out.append('.');
+        long fraction = units % factor;
+        for (long f = factor / 10; f > 1 && fraction < f; f /= 10) out.append('0');
+        out.append(fraction);
+      }
+    } else {
+      // too large for exact scaling; rare enough to go through BigDecimal
+      out.append(new BigDecimal(abs).setScale(precision, RoundingMode.HALF_UP));
+    }
+    this.pad(out, i, start, sign);
+  }
+
+  /**
+   * Appends the literal preceding an argument and a {@code char} argument.
+   *
+   * @param out the target buffer
+   * @param i the index of the argument
+   * @param v the argument
+   * @throws IllegalArgumentException if the argument does not match its conversion
+   */
+  void append(StringBuilder out, int i, char v) {
+    if (this.conversions[i] != 'c' && this.conversions[i] != 's') throw this.mismatch(i, v);
+    int start = this.begin(out, i);
+    out.append(v);
+    this.pad(out, i, start, start);
+  }
+
+  /**
+   * Appends the literal preceding an argument and a {@code boolean} argument.
+   *
+   * @param out the target buffer
+   * @param i the index of the argument
+   * @param v the argument
+   * @throws IllegalArgumentException if the argument does not match its conversion
+   */
+  void append(StringBuilder out, int i, boolean v) {
+    if (this.conversions[i] != 'b' && this.conversions[i] != 's') throw this.mismatch(i, v);
+    int start = this.begin(out, i);
+    out.append(v);
+    this.pad(out, i, start, start);
+  }
+
+  /**
+   * Appends the literal following the last argument.
+   *
+   * @param out the target buffer
+   */
+  void end(StringBuilder out) {
+    out.append(this.literals[this.literals.length - 1]);
+  }
+
+  /**
+   * Appends a hexadecimal integer.
+   *
+   * @param out the target buffer
+   * @param i the index of the argument
+   * @param v the value, interpreted as unsigned
+   */
+  private void hex(StringBuilder out, int i, long v) {
+    int start = this.begin(out, i);
+    int nibbles = Math.max(1, (67 - Long.numberOfLeadingZeros(v)) / 4);
+    boolean upper = this.conversions[i] == 'X';
+    for (int n = nibbles - 1; n >= 0; n--) {
+      char c = HEX[(int) (v >>> (n * 4)) & 0xF];
+      out.append(upper ? Character.toUpperCase(c) : c);
+    }
+    this.pad(out, i, start, start);
+  }
+
+  /**
+   * Appends the literal preceding an argument.
+   *
+   * @param out the target buffer
+   * @param i the index of the argument
+   * @return the position where the argument starts
+   */
+  private int begin(StringBuilder out, int i) {
+    out.append(this.literals[i]);
+    return out.length();
+  }
+
+  /**
+   * Pads a formatted argument to its width.
+   *
+   * @param out the target buffer ending with the argument
+   * @param i the index of the argument
+   * @param start the position where the argument starts
+   * @param digits the position where zero padding is inserted, after any sign
+   */
+  private void pad(StringBuilder out, int i, int start, int digits) {
+    int width = this.widths[i];
+    if (width == 0) return;
+    int missing = width - DisplayWidth.of(out, start, out.length());
+    if (missing <= 0) return;
+    int flags = this.flags[i];
+    if ((flags & LEFT) != 0) {
+      for (int k = 0; k < missing; k++) out.append(' ');
+    } else {
+      boolean zero = (flags & ZERO) != 0 && "dxXf".indexOf(this.conversions[i]) >= 0;
+      int at = zero ? digits : start;
+      char c = zero ? '0' : ' ';
+      // shift the argument right once, then fill the gap
+      out.setLength(out.length() + missing);
+      for (int k = out.length() - 1; k >= at + missing; k--)
+        out.setCharAt(k, out.charAt(k - missing));
+      for (int k = at; k < at + missing; k++) out.setCharAt(k, c);
+    }
+  }
+
+  /**
+   * Creates the exception for an argument that does not match its conversion.
+   *
+   * @param i the index of the argument
+   * @param arg the argument
+   * @return the exception
+   */
+  private IllegalArgumentException mismatch(int i, Object arg) {
+    String type = arg == null ? "null" : arg.getClass().getSimpleName();
+    return new IllegalArgumentException(
+        "Argument " + (i + 1) + " of type " + type + " does not match %" + this.conversions[i]);
+  }
+
+  /**
+   * Returns the format string this template was compiled from.
+   *
+   * @return the format string
+   */
+  @Override
+  public String toString() {
+    return this.source;
+  }
+}
@@ -0,0 +1,270 @@
+package io.github.lambdaphoenix.simpleterminal.core;
+
+import io.github.lambdaphoenix.simpleterminal.ansi.DisplayWidth;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Output of a {@link ConsoleBuilder} compiled once and emitted many times with different values.
+ *
+ * <p>A fragment is recorded with the ordinary builder methods. Variable text is represented by
+ * named slots of a fixed display width: {@link ConsoleBuilder#slot(String, int)} returns a
+ * placeholder that can be used wherever text is accepted, including box and table content, so the
+ * layout around it is computed with the final width. {@link ConsoleBuilder#toFragment()} then
+ * splits the recorded output at the placeholders and encodes the literal parts, escape codes
+ * included, as UTF-8 bytes.
+ *
+ * <p>Emitting a fragment with {@link ByteConsoleBuilder#fragment(Fragment, CharSequence...)} copies
+ * the pre-encoded parts in bulk and writes the slot values in between, so neither the layout nor
+ * the escape codes are computed again. {@link ConsoleBuilder#fragment(Fragment, CharSequence...)}
+ * does the same for character output. Each value is padded with spaces or cut to the width of its
+ * slot, keeping borders aligned.
+ *
+ * <p>A fragment is immutable and can be shared between threads.
+ *
+ * <h2>Usage Example:</h2>
+ *
+ * <pre>{@code
+ * ConsoleBuilder cb = new ConsoleBuilder();
+ * cb.box("Status", List.of("CPU " + cb.slot("cpu", 6), "Mem " + cb.slot("mem", 6)));
+ * Fragment panel = cb.toFragment();
+ *
+ * ByteConsoleBuilder out = new ByteConsoleBuilder(System.out);
+ * out.fragment(panel, cpu + "%", mem + " MB").flush();
+ * }</pre>
+ *
+ * @author lambdaphoenix
+ * @version 2026-10-16
+ * @since 0.2.0
+ */
+public final class Fragment {
+  /** Placeholder character of the first slot; slot {@code i} uses {@code FIRST_SLOT + i}. */
+  static final char FIRST_SLOT = '\uFDD0';
+
+  /** Maximum number of slots, limited by the 32 noncharacters starting at {@link #FIRST_SLOT}. */
+  static final int MAX_SLOTS = 32;
+
+  /** A named slot of a fragment. */
+  record Slot(String name, int width) {}
+
+  /** Slots in the order they were created. */
+  private final Slot[] slots;
+
+  /** Literal parts, one more than there are slot occurrences. */
+  private final String[] texts;
+
+  /** UTF-8 encoded literal parts. */
+  private final byte[][] parts;
+
+  /** Slot index of each occurrence between two parts. */
+  private final int[] occurrences;
+
+  /** Number of line separators in the literal parts. */
+  private final int lines;
+
+  /**
+   * Creates a new {@code Fragment}.
+   *
+   * @param slots the slots
+   * @param texts the literal parts
+   * @param occurrences the slot index between each two parts
+   */
+  private Fragment(Slot[] slots, String[] texts, int[] occurrences) {
+    this.slots = slots;
+    this.texts = texts;
+    this.occurrences = occurrences;
+    this.parts = new byte[texts.length][];
+    int lines = 0;
+    String separator = System.lineSeparator();
+    for (int i = 0; i < texts.length; i++) {
+      this.parts[i] = texts[i].getBytes(StandardCharsets.UTF_8);
+      for (int at = texts[i].indexOf(separator); at >= 0; at = texts[i].indexOf(separator, at + 1))
+        lines++;
+    }
+    this.lines = lines;
+  }
+
+  /**
+   * Returns the placeholder of a slot.
+   *
+   * @param index the slot index
+   * @param width the slot width
+   * @return the placeholder, {@code width} characters long
+   */
+  static String placeholder(int index, int width) {
+    return String.valueOf((char) (FIRST_SLOT + index)).repeat(width);
+  }
+
+  /**
+   * Compiles recorded output into a fragment.
+   *
+   * @param output the output containing slot placeholders
+   * @param slots the slots whose placeholders may occur in the output
+   * @return the fragment
+   */
+  static Fragment compile(CharSequence output, List<Slot> slots) {
+    List<String> texts = new ArrayList<>();
+    List<Integer> occurrences = new ArrayList<>();
+    int start = 0;
+    int i = 0;
+    while (i < output.length()) {
+      int slot = output.charAt(i) - FIRST_SLOT;
+      if (slot < 0 || slot >= slots.size()) {
+        i++;
+        continue;
+      }
+      // adjacent occurrences of the same slot form one run of a multiple of its width
+      int end = i;
+      while (end < output.length() && output.charAt(end) == output.charAt(i)) end++;
+      texts.add(output.subSequence(start, i).toString());
+      occurrences.add(slot);
+      for (int n = (end - i) / slots.get(slot).width(); n > 1; n--) {
+        texts.add("");
+        occurrences.add(slot);
+      }
+      start = i = end;
+    }
+    texts.add(output.subSequence(start, output.length()).toString());
+    return new Fragment(
+        slots.toArray(Slot[]::new),
+        texts.toArray(String[]::new),
+        occurrences.stream().mapToInt(Integer::intValue).toArray());
+  }
+
+  /**
+   * Returns the names of the slots, in the order their values are passed.
+   *
+   * @return the slot names
+   */
+  public List<String> slots() {
+    List<String> names = new ArrayList<>(this.slots.length);
+    for (Slot s : this.slots) names.add(s.name());
+    return List.copyOf(names);
+  }
+
+  /**
+   * Returns the position of a slot in the value list.
+   *
+   * @param name the slot name
+   * @return the index of the slot
+   * @throws IllegalArgumentException if the fragment has no slot with this name
+   */
+  public int slot(String name) {
+    for (int i = 0; i < this.slots.length; i++) if (this.slots[i].name().equals(name)) return i;
+    throw new IllegalArgumentException("Unknown slot: " + name);
+  }
+
+  /**
+   * Returns the fragment with the slots filled in.
+   *
+   * @param values the slot values in the order of {@link #slots()}; missing or {@code null} values
+   *     leave their slot blank
+   * @return the output
+   */
+  public String format(CharSequence... values) {
+    StringBuilder out = new StringBuilder();
+    this.appendTo(out, values);
+    return out.toString();
+  }
+
+  /**
+   * Appends the fragment with the slots filled in to a buffer.
+   *
+   * @param out the buffer
+   * @param values the slot values
+   */
+  void appendTo(StringBuilder out, CharSequence... values) {
+    out.append(this.texts[0]);
+    for (int i = 0; i < this.occurrences.length; i++) {
+      int slot = this.occurrences[i];
+      CharSequence v = value(values, slot);
+      int end = this.fit(v, slot);
+      out.append(v, 0, end);
+      for (int pad = this.padding(v, end, slot); pad > 0; pad--) out.append(' ');
+      out.append(this.texts[i + 1]);
+    }
+  }
+
+  /**
+   * Returns the number of slot occurrences.
+   *
+   * @return the number of occurrences, one less than there are parts
+   */
+  int occurrences() {
+    return this.occurrences.length;
+  }
+
+  /**
+   * Returns a pre-encoded literal part.
+   *
+   * @param i the part index
+   * @return the UTF-8 bytes of the part; must not be modified
+   */
+  byte[] part(int i) {
+    return this.parts[i];
+  }
+
+  /**
+   * Returns the slot filled in at an occurrence.
+   *
+   * @param i the occurrence index
+   * @return the slot index
+   */
+  int occurrence(int i) {
+    return this.occurrences[i];
+  }
+
+  /**
+   * Returns the number of line separators in the literal parts.
+   *
+   * @return the number of lines
+   */
+  int lines() {
+    return this.lines;
+  }
+
+  /**
+   * Returns the value of a slot.
+   *
+   * @param values the passed values
+   * @param slot the slot index
+   * @return the value, empty if missing
+   */
+  static CharSequence value(CharSequence[] values, int slot) {
+    return slot < values.length && values[slot] != null ? values[slot] : "";
+  }
+
+  /**
+   * Returns the end of the part of a value that fits into a slot.
+   *
+   * @param value the value
+   * @param slot the slot index
+   * @return the end of the fitting prefix
+   */
+  int fit(CharSequence value, int slot) {
+    return DisplayWidth.fit(value, 0, value.length(), this.slots[slot].width());
+  }
+
+  /**
+   * Returns the number of spaces that pad a fitted value to the width of its slot.
+   *
+   * @param value the value
+   * @param end the end of the fitted prefix
+   * @param slot the slot index
+   * @return the number of spaces
+   */
+  int padding(CharSequence value, int end, int slot) {
+    return this.slots[slot].width() - DisplayWidth.of(value, 0, end);
+  }
+
+  /**
+   * Returns the fragment with all slots blank.
+   *
+   * @return the output without values
+   */
+  @Override
+  public String toString() {
+    return this.format();
+  }
+}
@@ -0,0 +1,331 @@
+package io.github.lambdaphoenix.simpleterminal.core;
+
+import io.github.lambdaphoenix.simpleterminal.ansi.AnsiColor;
+import io.github.lambdaphoenix.simpleterminal.ansi.AnsiStyle;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Styled text written in an inline markup language, compiled once and rendered by a {@link
+ * ConsoleBuilder}.
+ *
+ * <p>Text in square brackets sets the style of the following text until the matching closing tag
+ * {@code [/]}; tags can be nested. A tag consists of space-separated words:
+ *
+ * <ul>
+ *   <li>styles: {@code bold}, {@code dim}, {@code italic}, {@code underline}, {@code
+ *       double_underline}, {@code invert}, {@code strikethrough},
+ *   <li>foreground colors: {@code red}, {@code bright_red} and the other names of the {@link
+ *       AnsiColor} constants in lowercase, {@code #rrggbb} for true colors and {@code color(n)} for
+ *       the 256-color palette,
+ *   <li>background colors: {@code on} followed by a color.
+ * </ul>
+ *
+ * <p>Brackets that do not form a valid tag, such as {@code [1/3]}, are kept as text, and {@code \[}
+ * produces a literal bracket. Any closing tag such as {@code [/]} or {@code [/bold]} ends the
+ * innermost open tag; tags still open at the end are closed implicitly.
+ *
+ * <p>Parsing produces a list of text segments, each with the complete style it is rendered in.
+ * {@link #of(String)} caches compiled markup by its source string, so a message rendered repeatedly
+ * is parsed only once. Markup with tags starts from and returns to the default style; markup
+ * without tags is plain text that keeps the current style.
+ *
+ * <h2>Usage Example:</h2>
+ *
+ * <pre>{@code
+ * cb.markupLine("[bold red]Error:[/] file [italic]" + name + "[/] not found");
+ *
+ * Markup done = Markup.of("[green]✔[/] done");
+ * cb.markup(done).newline();
+ * }</pre>
+ *
+ * @author lambdaphoenix
+ * @version 2026-10-16
+ * @since 0.2.0
+ */
+public final class Markup {
+  /** Maximum number of cached compiled markups before the cache is cleared. */
+  private static final int CACHE_SIZE = 1024;
+
+  /** Compiled markups by source string. */
+  private static final Map<String, Markup> CACHE = new ConcurrentHashMap<>();
+
+  /** Colors by markup name. */
+  private static final Map<String, AnsiColor> COLORS =
+      Map.ofEntries(
+          Map.entry("black", AnsiColor.BLACK),
+          Map.entry("red", AnsiColor.RED),
+          Map.entry("green", AnsiColor.GREEN),
+          Map.entry("yellow", AnsiColor.YELLOW),
+          Map.entry("blue", AnsiColor.BLUE),
+          Map.entry("magenta", AnsiColor.MAGENTA),
+          Map.entry("cyan", AnsiColor.CYAN),
+          Map.entry("white", AnsiColor.WHITE),
+          Map.entry("bright_black", AnsiColor.BRIGHT_BLACK),
+          Map.entry("bright_red", AnsiColor.BRIGHT_RED),
+          Map.entry("bright_green", AnsiColor.BRIGHT_GREEN),
+          Map.entry("bright_yellow", AnsiColor.BRIGHT_YELLOW),
+          Map.entry("bright_blue", AnsiColor.BRIGHT_BLUE),
+          Map.entry("bright_magenta", AnsiColor.BRIGHT_MAGENTA),
+          Map.entry("bright_cyan", AnsiColor.BRIGHT_CYAN),
+          Map.entry("bright_white", AnsiColor.BRIGHT_WHITE));
+
+  /** Styles that can be switched on, by markup name. */
+  private static final Map<String, AnsiStyle> STYLES =
+      Map.of(
+          "bold", AnsiStyle.BOLD,
+          "dim", AnsiStyle.DIM,
+          "italic", AnsiStyle.ITALIC,
+          "underline", AnsiStyle.UNDERLINE,
+          "double_underline", AnsiStyle.DOUBLE_UNDERLINE,
+          "invert", AnsiStyle.INVERT,
+          "strikethrough", AnsiStyle.STRIKETHROUGH);
+
+  /** Style of a segment. */
+  private record Style(AnsiColor fg, AnsiColor bg, AnsiStyle[] styles) {
+    /** The default style. */
+    static final Style PLAIN = new Style(null, null, new AnsiStyle[0]);
+
+    /**
+     * Returns whether a style is switched on.
+     *
+     * @param style the style
+     * @return {@code true} if this style includes it
+     */
+    boolean has(AnsiStyle style) {
+      for (AnsiStyle s : this.styles) if (s == style) return true;
+      return false;
+    }
+
+    /**
+     * Returns whether this style equals another one.
+     *
+     * @param other the other style
+     * @return {@code true} if both render the same
+     */
+    boolean same(Style other) {
+      return Objects.equals(this.fg, other.fg)
+          && Objects.equals(this.bg, other.bg)
+          && Arrays.equals(this.styles, other.styles);
+    }
+  }
+
+  /** The markup this was compiled from. */
+  private final String source;
+
+  /** Text of each segment. */
+  private final String[] texts;
+
+  /** Style of each segment, or {@code null} if the markup has no tags. */
+  private final Style[] styles;
+
+  /**
+   * Creates a new {@code Markup}.
+   *
+   * @param source the markup source
+   * @param texts the text segments
+   * @param styles the segment styles, or {@code null} for plain text
+   */
+  private Markup(String source, String[] texts, Style[] styles) {
+    this.source = source;
+    this.texts = texts;
+    this.styles = styles;
+  }
+
+  /**
+   * Returns the compiled form of a markup string, parsing it only if it is not cached yet.
+   *
+   * @param markup the markup
+   * @return the compiled markup
+   */
+  public static Markup of(String markup) {
+    Markup m = CACHE.get(markup);
+    if (m != null) return m;
+    if (CACHE.size() >= CACHE_SIZE) CACHE.clear();
+    m = compile(markup);
+    CACHE.put(markup, m);
+    return m;
+  }
+
+  /**
+   * Parses a markup string without caching it.
+   *
+   * @param markup the markup
+   * @return the compiled markup
+   */
+  public static Markup compile(String markup) {
+    List<String> texts = new ArrayList<>();
+    List<Style> styles = new ArrayList<>();
+    Deque<Style> open = new ArrayDeque<>();
+    Style current = Style.PLAIN;
+    boolean tagged = false;
+    StringBuilder text = new StringBuilder();
+
+    int i = 0;
+    while (i < markup.length()) {
+      char c = markup.charAt(i);
+      if (c == '\\' && i + 1 < markup.length() && markup.charAt(i + 1) == '[') {
+        text.append('[');
+        i += 2;
+        continue;
+      }
+      int close = c == '[' ? markup.indexOf(']', i + 1) : -1;
+      Style next = null;
+      if (close > i + 1) {
+        String tag = markup.substring(i + 1, close);
+        if (tag.charAt(0) == '/') {
+          if (!open.isEmpty()) next = open.pop();
+        } else {
+          next = parse(tag, current);
+          if (next != null) open.push(current);
+        }
+      }
+      if (next == null) {
+        text.append(c);
+        i++;
+        continue;
+      }
+      tagged = true;
+      if (!next.same(current)) {
+        if (!text.isEmpty()) {
+          texts.add(text.toString());
+          styles.add(current);
+          text.setLength(0);
+        }
+        current = next;
+      }
+      i = close + 1;
+    }
+    if (!text.isEmpty()) {
+      texts.add(text.toString());
+      styles.add(current);
+    }
+    return new Markup(
+        markup, texts.toArray(String[]::new), tagged ? styles.toArray(Style[]::new) : null);
+  }
+
+  /**
+   * Parses the words of an opening tag.
+   *
+   * @param tag the text between the brackets
+   * @param base the style the tag is applied to
+   * @return the resulting style, or {@code null} if the tag is not valid
+   */
+  private static Style parse(String tag, Style base) {
+    AnsiColor fg = base.fg();
+    AnsiColor bg = base.bg();
+    List<AnsiStyle> on = new ArrayList<>(Arrays.asList(base.styles()));
+    String[] words = tag.trim().toLowerCase(Locale.ROOT).split(" +");
+    if (words[0].isEmpty()) return null;
+    for (int w = 0; w < words.length; w++) {
+      AnsiStyle style = STYLES.get(words[w]);
+      if (style != null) {
+        if (!on.contains(style)) on.add(style);
+        continue;
+      }
+      boolean background = words[w].equals("on") && w + 1 < words.length;
+      AnsiColor color = color(background ? words[++w] : words[w]);
+      if (color == null) return null;
+      if (background) bg = color;
+      else fg = color;
+    }
+    on.sort(null);
+    return new Style(fg, bg, on.toArray(AnsiStyle[]::new));
+  }
+
+  /**
+   * Parses a color word.
+   *
+   * @param word the lowercase word
+   * @return the color, or {@code null} if the word is not a color
+   */
+  private static AnsiColor color(String word) {
+    AnsiColor named = COLORS.get(word);
+    if (named != null) return named;
+    try {
+      if (word.length() == 7 && word.charAt(0) == '#') {
+        int rgb = Integer.parseInt(word, 1, 7, 16);
+        return AnsiColor.fromRgb(rgb >> 16, rgb >> 8 & 0xFF, rgb & 0xFF);
+      }
+      if (word.startsWith("color(") && word.endsWith(")")) {
+        int code = Integer.parseInt(word, 6, word.length() - 1, 10);
+        return code >= 0 && code <= 255 ? AnsiColor.from256(code) : null;
+      }
+    } catch (NumberFormatException _) {
+      // not a color
+    }
+    return null;
+  }
+
+  /**
+   * Returns the text without markup.
+   *
+   * @return the plain text
+   */
+  public String plain() {
+    return String.join("", this.texts);
+  }
+
+  /**
+   * Appends the styled text to a builder.
+   *
+   * @param cb the builder
+   */
+  void render(ConsoleBuilder cb) {
+    if (this.styles == null) {
+      for (String t : this.texts) cb.text(t);
+      return;
+    }
+    Style prev = null;
+    for (int i = 0; i < this.texts.length; i++) {
+      Style s = this.styles[i];
+      if (prev == null
+          || prev.fg() != null && s.fg() == null
+          || prev.bg() != null && s.bg() == null) {
+        cb.reset();
+      } else {
+        for (AnsiStyle on : prev.styles()) if (!s.has(on)) cb.style(off(on));
+      }
+      if (s.fg() != null) cb.color(s.fg());
+      if (s.bg() != null) cb.bg(s.bg());
+      for (AnsiStyle on : s.styles()) cb.style(on);
+      cb.text(this.texts[i]);
+      prev = s;
+    }
+    cb.reset();
+  }
+
+  /**
+   * Returns the style that switches a style off.
+   *
+   * @param on the style
+   * @return the matching reset style
+   */
+  private static AnsiStyle off(AnsiStyle on) {
+    return switch (on) {
+      case BOLD, DIM -> AnsiStyle.RESET_BOLD_DIM;
+      case ITALIC -> AnsiStyle.RESET_ITALIC;
+      case UNDERLINE, DOUBLE_UNDERLINE -> AnsiStyle.RESET_UNDERLINE;
+      case INVERT -> AnsiStyle.RESET_INVERT;
+      case STRIKETHROUGH -> AnsiStyle.RESET_STRIKETHROUGH;
+      default -> AnsiStyle.RESET_ALL;
+    };
+  }
+
+  /**
+   * Returns the markup source this was compiled from.
+   *
+   * @return the markup
+   */
+  @Override
+  public String toString() {
+    return this.source;
+  }
+}
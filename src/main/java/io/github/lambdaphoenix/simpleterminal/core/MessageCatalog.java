@@ -0,0 +1,218 @@
+package io.github.lambdaphoenix.simpleterminal.core;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.MissingResourceException;
+import java.util.Objects;
+import java.util.ResourceBundle;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Localized messages of one locale, loaded once and shared by all builders.
+ *
+ * <p>Catalogs are cached process-wide: {@link #of(Locale)} loads the {@code messages} resource
+ * bundle of a locale the first time it is requested and returns the same catalog afterwards, so
+ * creating builders or switching their locale does not touch the resource bundle machinery again.
+ *
+ * <p>Message keys are resolved to compact indices with {@link #key(String)}; an index is valid for
+ * every locale and looking it up is a plain array access. Code that formats a message repeatedly
+ * should resolve its key once, typically into a {@code static final} field.
+ *
+ * <p>Every message is compiled into a template when the catalog is loaded. Placeholders {@code
+ * {0}}, {@code {1}}, ... are replaced by the corresponding arguments converted with {@link
+ * String#valueOf(Object)}; any other text, including braces that do not enclose a number, is copied
+ * literally. Formatting therefore only appends the precomputed parts and arguments, without parsing
+ * the message or going through {@link String#format(String, Object...)}.
+ *
+ * <h2>Usage Example:</h2>
+ *
+ * <pre>{@code
+ * private static final int MATCHES = MessageCatalog.key("prompt.matches");
+ *
+ * MessageCatalog messages = MessageCatalog.of(Locale.GERMAN);
+ * String text = messages.format(MATCHES, 42); // "42 Treffer"
+ * }</pre>
+ *
+ * @author lambdaphoenix
+ * @version 2026-10-16
+ * @since 0.2.0
+ */
+public final class MessageCatalog {
+  /** Base name of the resource bundle holding the messages. */
+  private static final String BUNDLE = "messages";
+
+  /** Loaded catalogs by locale. */
+  private static final Map<Locale, MessageCatalog> CATALOGS = new ConcurrentHashMap<>();
+
+  /** Indices of the keys of all loaded bundles, shared by all locales. */
+  private static final Map<String, Integer> KEYS = new ConcurrentHashMap<>();
+
+  /** The locale of this catalog. */
+  private final Locale locale;
+
+  /** Compiled messages by key index; {@code null} where the locale has no message. */
+  private final Template[] templates;
+
+  /**
+   * Creates a new {@code MessageCatalog} from a resource bundle.
+   *
+   * @param locale the locale of the catalog
+   * @param bundle the bundle holding the messages
+   */
+  private MessageCatalog(Locale locale, ResourceBundle bundle) {
+    this.locale = locale;
+    Template[] templates = new Template[0];
+    for (String name : bundle.keySet()) {
+      int index = index(name);
+      if (index >= templates.length) templates = Arrays.copyOf(templates, index + 8);
+      templates[index] = compile(bundle.getString(name));
+    }
+    this.templates = templates;
+  }
+
+  /**
+   * Returns the catalog of a locale, loading it on first use.
+   *
+   * @param locale the locale
+   * @return the shared catalog of the locale
+   * @throws MissingResourceException if no messages exist for the locale or its fallbacks
+   */
+  public static MessageCatalog of(Locale locale) {
+    Objects.requireNonNull(locale);
+    MessageCatalog catalog = CATALOGS.get(locale);
+    if (catalog != null) return catalog;
+    return CATALOGS.computeIfAbsent(
+        locale, l -> new MessageCatalog(l, ResourceBundle.getBundle(BUNDLE, l)));
+  }
+
+  /**
+   * Returns the index of a message key.
+   *
+   * <p>The index stays the same for the lifetime of the process and can be used with the catalogs
+   * of all locales. Only keys of the base bundle, which every locale falls back to, and of loaded
+   * catalogs have an index; unknown keys are not remembered.
+   *
+   * @param name the message key, e.g. {@code "error.invalidInt"}
+   * @return the index of the key, or {@code -1} if no bundle has the key
+   */
+  public static int key(String name) {
+    Integer index = KEYS.get(name);
+    if (index != null) return index;
+    of(Locale.ROOT); // assigns indices to the keys of the base bundle
+    index = KEYS.get(name);
+    return index != null ? index : -1;
+  }
+
+  /**
+   * Returns the index of a key of a loaded bundle, assigning the next free index on first use.
+   *
+   * @param name the message key
+   * @return the index of the key
+   */
+  private static int index(String name) {
+    Integer index = KEYS.get(name);
+    if (index != null) return index;
+    synchronized (KEYS) {
+      return KEYS.computeIfAbsent(name, _ -> KEYS.size());
+    }
+  }
+
+  /**
+   * Returns the locale of this catalog.
+   *
+   * @return the locale
+   */
+  public Locale locale() {
+    return this.locale;
+  }
+
+  /**
+   * Returns a message without arguments.
+   *
+   * @param key the key index from {@link #key(String)}
+   * @return the message
+   * @throws MissingResourceException if the locale has no message for the key
+   */
+  public String get(int key) {
+    return this.template(key).format();
+  }
+
+  /**
+   * Returns a message with its placeholders replaced by arguments.
+   *
+   * @param key the key index from {@link #key(String)}
+   * @param args the arguments for the placeholders {@code {0}}, {@code {1}}, ...
+   * @return the formatted message
+   * @throws MissingResourceException if the locale has no message for the key
+   */
+  public String format(int key, Object... args) {
+    return this.template(key).format(args);
+  }
+
+  /**
+   * Returns the compiled message of a key.
+   *
+   * @param key the key index
+   * @return the template
+   * @throws MissingResourceException if the locale has no message for the key
+   */
+  private Template template(int key) {
+    Template t = key >= 0 && key < this.templates.length ? this.templates[key] : null;
+    if (t == null)
+      throw new MissingResourceException("No message for key index " + key, BUNDLE, "");
+    return t;
+  }
+
+  /**
+   * Compiles a message into a template.
+   *
+   * @param message the message with {@code {n}} placeholders
+   * @return the template
+   */
+  static Template compile(String message) {
+    List<String> parts = new ArrayList<>();
+    List<Integer> args = new ArrayList<>();
+    int start = 0;
+    for (int i = message.indexOf('{'); i >= 0; i = message.indexOf('{', i + 1)) {
+      int j = i + 1;
+      while (j < message.length() && Character.isDigit(message.charAt(j)) && j - i <= 3) j++;
+      if (j == i + 1 || j >= message.length() || message.charAt(j) != '}') continue;
+      parts.add(message.substring(start, i));
+      args.add(Integer.parseInt(message, i + 1, j, 10));
+      start = j + 1;
+      i = j;
+    }
+    parts.add(message.substring(start));
+    return new Template(
+        parts.toArray(String[]::new), args.stream().mapToInt(Integer::intValue).toArray());
+  }
+
+  /**
+   * A precompiled message: literal parts interleaved with argument positions.
+   *
+   * @param parts the literal parts, one more than there are placeholders
+   * @param args the argument position of each placeholder
+   */
+  record Template(String[] parts, int[] args) {
+    /**
+     * Formats the message.
+     *
+     * @param values the arguments; missing arguments leave their placeholder in place
+     * @return the formatted message
+     */
+    String format(Object... values) {
+      if (this.args.length == 0) return this.parts[0];
+      StringBuilder sb = new StringBuilder(this.parts[0]);
+      for (int i = 0; i < this.args.length; i++) {
+        int a = this.args[i];
+        if (a < values.length) sb.append(values[a]);
+        else sb.append('{').append(a).append('}');
+        sb.append(this.parts[i + 1]);
+      }
+      return sb.toString();
+    }
+  }
+}
@@ -0,0 +1,140 @@
+package io.github.lambdaphoenix.simpleterminal.core;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A bounded, lock-free multi-producer multi-consumer queue backed by a ring of slots.
+ *
+ * <p>Each slot carries a sequence number that tells producers and consumers whether the slot is
+ * free for the current lap or holds an element. Producers and consumers claim positions with a
+ * single compare-and-set on their respective counter, so neither side ever blocks the other. The
+ * capacity is rounded up to the next power of two.
+ *
+ * @param <E> the type of elements held in the queue
+ * @author lambdaphoenix
+ * @version 2026-10-16
+ * @since 0.2.0
+ */
+final class RingBuffer<E> {
+  /** Slots holding the queued elements. */
+  private final Object[] slots;
+
+  /** Sequence number per slot; equals the position when free, position + 1 when filled. */
+  private final AtomicLongArray sequences;
+
+  /** Mask for mapping positions to slot indices. */
+  private final int mask;
+
+  /** Next position to be claimed by a producer. */
+  private final AtomicLong tail = new AtomicLong();
+
+  /** Next position to be claimed by a consumer. */
+  private final AtomicLong head = new AtomicLong();
+
+  /**
+   * Creates a new empty {@code RingBuffer}.
+   *
+   * @param capacity the minimum number of elements the queue can hold, must be greater than 0
+   * @throws IllegalArgumentException if {@code capacity} is not in {@code 1..2^30}
+   */
+  RingBuffer(int capacity) {
+    if (capacity <= 0 || capacity > 1 << 30)
+      throw new IllegalArgumentException("Capacity must be > 0");
+    // one slot cannot tell a filled position from the next free one, so use at least two
+    int size = capacity <= 2 ? 2 : Integer.highestOneBit(capacity - 1) << 1;
+    this.slots = new Object[size];
+    this.sequences = new AtomicLongArray(size);
+    this.mask = size - 1;
+    for (int i = 0; i < size; i++) this.sequences.set(i, i);
+  }
+
+  /**
+   * Returns the number of slots.
+   *
+   * @return the capacity
+   */
+  int capacity() {
+    return this.slots.length;
+  }
+
+  /**
+   * Inserts an element if there is room.
+   *
+   * @param e the element, must not be null
+   * @return {@code true} if the element was added, {@code false} if the queue is full
+   */
+  boolean offer(E e) {
+    long pos = this.tail.get();
+    while (true) {
+      int idx = (int) pos & this.mask;
+      long diff = this.sequences.get(idx) - pos;
+      if (diff == 0) {
+        if (this.tail.compareAndSet(pos, pos + 1)) {
+          this.slots[idx] = e;
+          this.sequences.set(idx, pos + 1);
+          return true;
+        }
+        pos = this.tail.get();
+      } else if (diff < 0) {
+        return false;
+      } else {
+        pos = this.tail.get();
+      }
+    }
+  }
+
+  /**
+   * Removes and returns the oldest element.
+   *
+   * @return the oldest element, or {@code null} if the queue is empty
+   */
+  @SuppressWarnings("unchecked")
+  E poll() {
+    long pos = this.head.get();
+    while (true) {
+      int idx = (int) pos & this.mask;
+      long diff = this.sequences.get(idx) - (pos + 1);
+      if (diff == 0) {
+        if (this.head.compareAndSet(pos, pos + 1)) {
+          E e = (E) this.slots[idx];
+          this.slots[idx] = null;
+          this.sequences.set(idx, pos + this.mask + 1);
+          return e;
+        }
+        pos = this.head.get();
+      } else if (diff < 0) {
+        return null;
+      } else {
+        pos = this.head.get();
+      }
+    }
+  }
+
+  /**
+   * Returns the number of positions claimed by producers so far.
+   *
+   * @return the total number of offered elements
+   */
+  long produced() {
+    return this.tail.get();
+  }
+
+  /**
+   * Returns the number of positions claimed by consumers so far.
+   *
+   * @return the total number of polled elements
+   */
+  long consumed() {
+    return this.head.get();
+  }
+
+  /**
+   * Returns whether the queue is currently empty.
+   *
+   * @return {@code true} if no element is queued
+   */
+  boolean isEmpty() {
+    return this.head.get() >= this.tail.get();
+  }
+}
@@ -0,0 +1,251 @@
+package io.github.lambdaphoenix.simpleterminal.core;
+
+import io.github.lambdaphoenix.simpleterminal.ansi.AnsiColor;
+import io.github.lambdaphoenix.simpleterminal.ansi.AnsiStyle;
+import java.util.Objects;
+
+/**
+ * Tracks the SGR (Select Graphic Rendition) state of a terminal to avoid redundant escape codes.
+ *
+ * <p>Color and style changes are recorded as a pending target state and only written once content
+ * follows. At that point the difference between the target and the state already emitted is written
+ * as a single combined sequence such as {@code ESC[1;31;44m}. Changes that do not alter the emitted
+ * state, such as a repeated color or a reset of an already reset terminal, produce no output at
+ * all.
+ *
+ * <p>The initial state is unknown: until an attribute has been set or reset by this tracker, a
+ * change to it is always written. Escape codes written by other means are not tracked; {@link
+ * #invalidate()} forgets everything known about the terminal.
+ *
+ * @author lambdaphoenix
+ * @version 2026-10-16
+ * @since 0.2.0
+ */
+final class SgrState {
+  /** Attribute bit for bold text. */
+  private static final int BOLD = 1;
+
+  /** Attribute bit for dim text. */
+  private static final int DIM = 1 << 1;
+
+  /** Attribute bit for italic text. */
+  private static final int ITALIC = 1 << 2;
+
+  /** Attribute bit for underlined text. */
+  private static final int UNDERLINE = 1 << 3;
+
+  /** Attribute bit for inverted colors. */
+  private static final int INVERT = 1 << 4;
+
+  /** Attribute bit for strikethrough text. */
+  private static final int STRIKETHROUGH = 1 << 5;
+
+  /** Attribute bit for double underlined text. */
+  private static final int DOUBLE_UNDERLINE = 1 << 6;
+
+  /** Knowledge bit for the foreground color. */
+  private static final int FG = 1 << 7;
+
+  /** Knowledge bit for the background color. */
+  private static final int BG = 1 << 8;
+
+  /** Knowledge mask with every attribute and both colors known. */
+  private static final int ALL = (1 << 9) - 1;
+
+  /** SGR parameters switching the attribute bits on, indexed by bit position. */
+  private static final String[] ON = {"1", "2", "3", "4", "7", "9", "21"};
+
+  /** Emitted foreground color, {@code null} for the terminal default. */
+  private AnsiColor fg;
+
+  /** Emitted background color, {@code null} for the terminal default. */
+  private AnsiColor bg;
+
+  /** Emitted attribute bits that are switched on. */
+  private int attrs;
+
+  /** Bits of the emitted state that are known. */
+  private int known;
+
+  /** Target foreground color, {@code null} for the terminal default. */
+  private AnsiColor targetFg;
+
+  /** Target background color, {@code null} for the terminal default. */
+  private AnsiColor targetBg;
+
+  /** Target attribute bits that are switched on. */
+  private int targetAttrs;
+
+  /** Bits of the target state that are known. */
+  private int targetKnown;
+
+  /** Whether a full reset was requested since the last write. */
+  private boolean resetRequested;
+
+  /** Whether the target state was changed since the last write. */
+  private boolean dirty;
+
+  /**
+   * Sets the target foreground color.
+   *
+   * @param color the color
+   */
+  void fg(AnsiColor color) {
+    this.targetFg = Objects.requireNonNull(color);
+    this.targetKnown |= FG;
+    this.dirty = true;
+  }
+
+  /**
+   * Sets the target background color.
+   *
+   * @param color the color
+   */
+  void bg(AnsiColor color) {
+    this.targetBg = Objects.requireNonNull(color);
+    this.targetKnown |= BG;
+    this.dirty = true;
+  }
+
+  /**
+   * Applies a text style or style reset to the target state.
+   *
+   * @param style the style
+   */
+  void style(AnsiStyle style) {
+    switch (style) {
+      case BOLD -> this.attributes(BOLD, true);
+      case DIM -> this.attributes(DIM, true);
+      case ITALIC -> this.attributes(ITALIC, true);
+      case UNDERLINE -> this.attributes(UNDERLINE, true);
+      case INVERT -> this.attributes(INVERT, true);
+      case STRIKETHROUGH -> this.attributes(STRIKETHROUGH, true);
+      case DOUBLE_UNDERLINE -> this.attributes(DOUBLE_UNDERLINE, true);
+      case RESET_ALL -> this.reset();
+      case RESET_BOLD_DIM -> this.attributes(BOLD | DIM, false);
+      case RESET_ITALIC -> this.attributes(ITALIC, false);
+      case RESET_UNDERLINE -> this.attributes(UNDERLINE | DOUBLE_UNDERLINE, false);
+      case RESET_INVERT -> this.attributes(INVERT, false);
+      case RESET_STRIKETHROUGH -> this.attributes(STRIKETHROUGH, false);
+    }
+  }
+
+  /** Resets the target state to the terminal defaults. */
+  void reset() {
+    this.targetFg = null;
+    this.targetBg = null;
+    this.targetAttrs = 0;
+    this.targetKnown = ALL;
+    this.resetRequested = true;
+    this.dirty = true;
+  }
+
+  /** Forgets the emitted state and any pending change, e.g. after output has been discarded. */
+  void invalidate() {
+    this.fg = this.targetFg = null;
+    this.bg = this.targetBg = null;
+    this.attrs = this.targetAttrs = 0;
+    this.known = this.targetKnown = 0;
+    this.resetRequested = false;
+    this.dirty = false;
+  }
+
+  /**
+   * Forgets the emitted state but keeps the target state, so that the next write emits every known
+   * target attribute again. Used when other writers may have changed the terminal in the meantime.
+   */
+  void forget() {
+    this.known = 0;
+    this.dirty = this.targetKnown != 0;
+  }
+
+  /**
+   * Switches attribute bits of the target state on or off.
+   *
+   * @param bits the attribute bits
+   * @param on whether to switch them on
+   */
+  private void attributes(int bits, boolean on) {
+    this.targetAttrs = on ? this.targetAttrs | bits : this.targetAttrs & ~bits;
+    this.targetKnown |= bits;
+    this.dirty = true;
+  }
+
+  /**
+   * Appends the escape sequence that moves the emitted state to the target state, if any.
+   *
+   * @param out the buffer to append to
+   */
+  void writeTo(StringBuilder out) {
+    if (!this.dirty) return;
+    this.dirty = false;
+    int start = out.length();
+
+    if (this.resetRequested && (this.known != ALL || !this.isDefault())) {
+      param(out, start, "0");
+      this.fg = null;
+      this.bg = null;
+      this.attrs = 0;
+      this.known = ALL;
+    }
+    this.resetRequested = false;
+
+    int changed = this.targetKnown & (~this.known | (this.attrs ^ this.targetAttrs)) & ~(FG | BG);
+    int off = changed & ~this.targetAttrs;
+    if ((off & (BOLD | DIM)) != 0) {
+      param(out, start, "22");
+      changed |= this.targetAttrs & (BOLD | DIM);
+    }
+    if ((off & (UNDERLINE | DOUBLE_UNDERLINE)) != 0) {
+      param(out, start, "24");
+      changed |= this.targetAttrs & (UNDERLINE | DOUBLE_UNDERLINE);
+    }
+    if ((off & ITALIC) != 0) param(out, start, "23");
+    if ((off & INVERT) != 0) param(out, start, "27");
+    if ((off & STRIKETHROUGH) != 0) param(out, start, "29");
+    int on = changed & this.targetAttrs;
+    for (int i = 0; i < ON.length; i++) if ((on & 1 << i) != 0) param(out, start, ON[i]);
+
+    if ((this.targetKnown & FG) != 0
+        && ((this.known & FG) == 0 || !Objects.equals(this.fg, this.targetFg))) {
+      if (this.targetFg == null) param(out, start, "39");
+      else param(out, start, this.targetFg.fg());
+    }
+    if ((this.targetKnown & BG) != 0
+        && ((this.known & BG) == 0 || !Objects.equals(this.bg, this.targetBg))) {
+      if (this.targetBg == null) param(out, start, "49");
+      else param(out, start, this.targetBg.bg());
+    }
+    if (out.length() > start) out.append('m');
+
+    this.fg = this.targetFg;
+    this.bg = this.targetBg;
+    this.attrs = this.targetAttrs;
+    this.known = this.targetKnown;
+  }
+
+  /**
+   * Returns whether the emitted state is the terminal default.
+   *
+   * @return {@code true} if no color or attribute is set
+   */
+  private boolean isDefault() {
+    return this.fg == null && this.bg == null && this.attrs == 0;
+  }
+
+  /**
+   * Appends one SGR parameter, opening the sequence or adding a separator as needed.
+   *
+   * <p>Parameters may be given bare ({@code 31}) or as a complete escape code ({@code ESC[31m}), in
+   * which case only the parameters between the introducer and the final {@code m} are copied.
+   *
+   * @param out the buffer to append to
+   * @param start the buffer position where the sequence starts
+   * @param param the parameter or escape code
+   */
+  private static void param(StringBuilder out, int start, String param) {
+    out.append(out.length() == start ? "\u001B[" : ";");
+    if (param.startsWith("\u001B[")) out.append(param, 2, param.length() - 1);
+    else out.append(param);
+  }
+}
@@ -0,0 +1,106 @@
+package io.github.lambdaphoenix.simpleterminal.core;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * Shares one console between many threads without interleaving their output.
+ *
+ * <p>Every thread formats into its own {@link ConsoleBuilder}, so the formatting path is free of
+ * locks and contention. A finished fragment is committed as a whole through the multi-producer
+ * queue of an {@link AsyncConsole}: the characters of one fragment, including its escape codes, are
+ * always written contiguously, no matter how many threads print at the same time.
+ *
+ * <p>Since other threads may change the terminal colors between two fragments, each fragment starts
+ * by applying the colors and styles its builder has set.
+ *
+ * <h2>Usage Example:</h2>
+ *
+ * <pre>{@code
+ * SharedConsole console = new SharedConsole(System.out);
+ * workers.forEach(w -> executor.submit(() -> {
+ *   console.print(cb -> cb.color(AnsiColor.GREEN).text(w.name()).reset().text(" done").newline());
+ * }));
+ * }</pre>
+ *
+ * @author lambdaphoenix
+ * @version 2026-10-16
+ * @since 0.2.0
+ */
+public final class SharedConsole implements Flushable, Closeable {
+  /** Console committing the fragments of all threads. */
+  private final AsyncConsole console;
+
+  /** Builder of each thread, created on first use. */
+  private final ThreadLocal<ConsoleBuilder> builders;
+
+  /**
+   * Creates a new {@code SharedConsole} writing to a target through a new {@link AsyncConsole}.
+   *
+   * @param target the destination of all output, e.g. {@code System.out}
+   * @throws NullPointerException if {@code target} is null
+   */
+  public SharedConsole(Appendable target) {
+    this(new AsyncConsole(target));
+  }
+
+  /**
+   * Creates a new {@code SharedConsole} committing its fragments to an existing console.
+   *
+   * @param console the console writing the fragments
+   * @throws NullPointerException if {@code console} is null
+   */
+  public SharedConsole(AsyncConsole console) {
+    this.console = Objects.requireNonNull(console);
+    this.builders = ThreadLocal.withInitial(console::builder);
+  }
+
+  /**
+   * Returns the builder of the calling thread.
+   *
+   * <p>The builder must only be used by the calling thread. Each {@link ConsoleBuilder#print()}
+   * commits its buffered output as one fragment.
+   *
+   * @return the builder of the calling thread
+   */
+  public ConsoleBuilder builder() {
+    return this.builders.get();
+  }
+
+  /**
+   * Formats one fragment with the builder of the calling thread and commits it atomically.
+   *
+   * <p>Output left in the builder by earlier calls to {@link #builder()} is discarded first, so the
+   * fragment contains exactly what {@code fragment} appends.
+   *
+   * @param fragment appends the content of the fragment to the builder
+   * @throws IllegalStateException if this console has been closed
+   */
+  public void print(Consumer<? super ConsoleBuilder> fragment) {
+    ConsoleBuilder cb = this.builders.get().clear();
+    fragment.accept(cb);
+    cb.print();
+  }
+
+  /**
+   * Waits until every fragment committed before this call has been written.
+   *
+   * @throws java.io.UncheckedIOException if writing to the target has failed
+   */
+  @Override
+  public void flush() {
+    this.console.flush();
+  }
+
+  /**
+   * Writes all pending fragments and closes the underlying console.
+   *
+   * @throws java.io.UncheckedIOException if writing to the target has failed
+   */
+  @Override
+  public void close() {
+    this.console.close();
+  }
+}
@@ -12,8 +12,22 @@
  * <ul>
  *   <li>{@link io.github.lambdaphoenix.simpleterminal.core.ConsoleBuilder} - fluent API for styled
  *       console output
+ *   <li>{@link io.github.lambdaphoenix.simpleterminal.core.ByteConsoleBuilder} - byte-oriented
+ *       builder writing pre-encoded output to streams and channels
+ *   <li>{@link io.github.lambdaphoenix.simpleterminal.core.AsyncConsole} - asynchronous writer
+ *       draining output fragments from a lock-free ring buffer on a background thread
+ *   <li>{@link io.github.lambdaphoenix.simpleterminal.core.SharedConsole} - thread-safe facade
+ *       with per-thread builders committing whole fragments
  *   <li>{@link io.github.lambdaphoenix.simpleterminal.core.ConsoleConfig} - global configuration
  *       defaults for console behavior
+ *   <li>{@link io.github.lambdaphoenix.simpleterminal.core.FormatTemplate} - format strings
+ *       compiled once for allocation-free formatted lines
+ *   <li>{@link io.github.lambdaphoenix.simpleterminal.core.Fragment} - recorded output with named
+ *       slots, pre-encoded once and emitted many times
+ *   <li>{@link io.github.lambdaphoenix.simpleterminal.core.Markup} - inline style markup such as
+ *       {@code [bold red]Error:[/]}, compiled once and cached
+ *   <li>{@link io.github.lambdaphoenix.simpleterminal.core.MessageCatalog} - process-wide cache
+ *       of localized messages with precompiled templates
  *   <li>{@link io.github.lambdaphoenix.simpleterminal.core.ValidationException} - runtime exception
  *       for validation errors
  * </ul>
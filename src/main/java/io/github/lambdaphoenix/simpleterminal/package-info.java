@@ -11,7 +11,11 @@
  *   <li>{@link io.github.lambdaphoenix.simpleterminal.box} - predefined box styles
  *   <li>{@link io.github.lambdaphoenix.simpleterminal.core} - core classes such as {@code
  *       ConsoleBuilder}, {@code ConsoleConfig}, and {@code ValidationException}
+ *   <li>{@link io.github.lambdaphoenix.simpleterminal.progress} - progress bars and spinners
  *   <li>{@link io.github.lambdaphoenix.simpleterminal.prompt} - interactive prompts and choices
+ *   <li>{@link io.github.lambdaphoenix.simpleterminal.screen} - cell grid frames with differential
+ *       redraw
+ *   <li>{@link io.github.lambdaphoenix.simpleterminal.table} - streaming table rendering
  * </ul>
  *
  * <h2>Usage Example:</h2>
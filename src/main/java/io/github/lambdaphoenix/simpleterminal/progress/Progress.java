@@ -0,0 +1,287 @@
+package io.github.lambdaphoenix.simpleterminal.progress;
+
+import io.github.lambdaphoenix.simpleterminal.ansi.DisplayWidth;
+import io.github.lambdaphoenix.simpleterminal.core.ConsoleBuilder;
+import java.io.Closeable;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Displays one or more progress bars and spinners that are redrawn at a fixed maximum frame rate.
+ *
+ * <p>Tasks report progress through their {@link ProgressBar}, which only increments a contention
+ * free counter. Drawing is done by a single ticker thread that wakes up once per frame, reads all
+ * counters and redraws the bars if anything changed (spinners animate on every frame). The cost of
+ * an update is therefore independent of how often progress is reported: a tight loop calling {@link
+ * ProgressBar#step()} millions of times still produces at most one frame per tick.
+ *
+ * <p>Each bar occupies one line. Every frame moves the cursor back to the first bar and rewrites
+ * all bars in place, so bars added later appear below the existing ones. The {@link ConsoleBuilder}
+ * is used exclusively by the ticker thread until {@link #close()}, which draws the final frame and
+ * leaves the cursor below the last bar.
+ *
+ * <p>If the builder is in {@link ConsoleBuilder#isPlain() plain mode}, e.g. because output is
+ * redirected to a log file, frames cannot overwrite each other. Then only the final frame is drawn
+ * on {@link #close()}, so the log receives one line per bar.
+ *
+ * <h2>Usage Example:</h2>
+ *
+ * <pre>{@code
+ * try (Progress progress = new Progress(new ConsoleBuilder())) {
+ *   ProgressBar files = progress.bar("Files", paths.size());
+ *   ProgressBar bytes = progress.spinner("Bytes");
+ *   for (Path p : paths) {
+ *     bytes.step(copy(p));
+ *     files.step();
+ *   }
+ * }
+ * }</pre>
+ *
+ * @author lambdaphoenix
+ * @version 2026-10-16
+ * @since 0.2.0
+ */
+public final class Progress implements Closeable {
+  /** Default number of frames drawn per second. */
+  private static final int DEFAULT_FRAME_RATE = 10;
+
+  /** Default width of a bar in columns, excluding the brackets. */
+  private static final int DEFAULT_BAR_WIDTH = 30;
+
+  /** Animation frames of a spinner. */
+  private static final char[] SPINNER = {'|', '/', '-', '\\'};
+
+  /** Builder receiving the frames. */
+  private final ConsoleBuilder cb;
+
+  /** Time between two frames. */
+  private final long frameNanos;
+
+  /** Displayed bars in order of creation. */
+  private final List<ProgressBar> bars = new CopyOnWriteArrayList<>();
+
+  /** Thread drawing the frames, or {@code null} if frames are drawn by {@link #frame()}. */
+  private final Thread ticker;
+
+  /** Whether {@link #close()} has been called. */
+  private volatile boolean closed;
+
+  /** Width of a bar in columns. */
+  private volatile int barWidth = DEFAULT_BAR_WIDTH;
+
+  /** State of each bar in the last frame, as value and finished flag. */
+  private long[] shown = new long[0];
+
+  /** Number of lines drawn in the last frame. */
+  private int lines;
+
+  /** Number of frames drawn, used to animate spinners. */
+  private int frame;
+
+  /** Reusable buffer for one line of a frame. */
+  private final StringBuilder line = new StringBuilder();
+
+  /**
+   * Creates a new {@code Progress} display drawing 10 frames per second.
+   *
+   * @param cb the builder receiving the frames
+   * @throws NullPointerException if {@code cb} is null
+   */
+  public Progress(ConsoleBuilder cb) {
+    this(cb, DEFAULT_FRAME_RATE);
+  }
+
+  /**
+   * Creates a new {@code Progress} display and starts its ticker.
+   *
+   * @param cb the builder receiving the frames
+   * @param framesPerSecond the maximum number of frames drawn per second
+   * @throws NullPointerException if {@code cb} is null
+   * @throws IllegalArgumentException if {@code framesPerSecond} is not positive
+   */
+  public Progress(ConsoleBuilder cb, int framesPerSecond) {
+    this(cb, frameNanos(framesPerSecond));
+  }
+
+  /**
+   * Creates a new {@code Progress} display with a given frame timing.
+   *
+   * @param cb the builder receiving the frames
+   * @param frameNanos the time between two frames, or 0 to draw frames only when {@link #frame()}
+   *     is called
+   * @throws NullPointerException if {@code cb} is null
+   */
+  Progress(ConsoleBuilder cb, long frameNanos) {
+    this.cb = Objects.requireNonNull(cb);
+    this.frameNanos = frameNanos;
+    this.ticker =
+        frameNanos > 0
+            ? Thread.ofVirtual().name("simpleterminal-progress").start(this::tick)
+            : null;
+  }
+
+  /**
+   * Returns the time between two frames for a frame rate.
+   *
+   * @param framesPerSecond the maximum number of frames drawn per second
+   * @return the time between two frames in nanoseconds
+   * @throws IllegalArgumentException if {@code framesPerSecond} is not positive
+   */
+  private static long frameNanos(int framesPerSecond) {
+    if (framesPerSecond <= 0) throw new IllegalArgumentException("Frame rate must be > 0");
+    return 1_000_000_000L / framesPerSecond;
+  }
+
+  /**
+   * Sets the width of the bars.
+   *
+   * @param columns the width in columns, excluding the brackets
+   * @return this display for chaining
+   * @throws IllegalArgumentException if {@code columns} is not positive
+   */
+  public Progress barWidth(int columns) {
+    if (columns <= 0) throw new IllegalArgumentException("Width must be > 0");
+    this.barWidth = columns;
+    return this;
+  }
+
+  /**
+   * Adds a progress bar for a task with a known number of steps.
+   *
+   * @param label the label shown before the bar
+   * @param total the number of steps for completion
+   * @return the new bar
+   * @throws IllegalArgumentException if {@code total} is not positive
+   */
+  public ProgressBar bar(String label, long total) {
+    if (total <= 0) throw new IllegalArgumentException("Total must be > 0");
+    return this.add(new ProgressBar(label, total));
+  }
+
+  /**
+   * Adds a spinner for a task with an unknown number of steps.
+   *
+   * @param label the label shown before the spinner
+   * @return the new spinner
+   */
+  public ProgressBar spinner(String label) {
+    return this.add(new ProgressBar(label, 0));
+  }
+
+  /**
+   * Registers a bar with this display.
+   *
+   * @param bar the bar
+   * @return the bar
+   * @throws IllegalStateException if this display has been closed
+   */
+  private ProgressBar add(ProgressBar bar) {
+    if (this.closed) throw new IllegalStateException("Progress is closed");
+    this.bars.add(bar);
+    return bar;
+  }
+
+  /**
+   * Stops the ticker and draws the final frame. Calling this method more than once has no effect.
+   */
+  @Override
+  public void close() {
+    if (this.closed) return;
+    this.closed = true;
+    LockSupport.unpark(this.ticker);
+    boolean interrupted = false;
+    while (this.ticker != null && this.ticker.isAlive()) {
+      try {
+        this.ticker.join();
+      } catch (InterruptedException _) {
+        interrupted = true;
+      }
+    }
+    if (interrupted) Thread.currentThread().interrupt();
+    this.render(true);
+  }
+
+  /**
+   * Draws a frame as the ticker does, for displays created without a ticker.
+   *
+   * <p>In plain mode nothing is drawn, since frames cannot overwrite each other.
+   */
+  void frame() {
+    if (!this.cb.isPlain()) this.render(false);
+  }
+
+  /** Main loop of the ticker thread. */
+  private void tick() {
+    while (!this.closed) {
+      LockSupport.parkNanos(this.frameNanos);
+      if (!this.closed) this.frame();
+    }
+  }
+
+  /**
+   * Draws a frame if any bar changed since the last one or a spinner is running.
+   *
+   * @param force whether to draw the frame even if nothing changed
+   */
+  private void render(boolean force) {
+    int n = this.bars.size();
+    boolean changed = force || n != this.lines;
+    if (this.shown.length < n) this.shown = Arrays.copyOf(this.shown, n);
+    for (int i = 0; i < n; i++) {
+      ProgressBar bar = this.bars.get(i);
+      long state = bar.value() << 1 | (bar.isFinished() ? 1 : 0);
+      changed |= state != this.shown[i] || (bar.total() == 0 && !bar.isFinished());
+      this.shown[i] = state;
+    }
+    if (!changed) return;
+
+    this.frame++;
+    int labelWidth = 0;
+    for (int i = 0; i < n; i++)
+      labelWidth = Math.max(labelWidth, DisplayWidth.of(this.bars.get(i).label()));
+    this.cb.cursorUp(this.lines);
+    for (int i = 0; i < n; i++) {
+      this.format(this.bars.get(i), labelWidth);
+      if (!this.cb.isPlain()) this.cb.text("\r");
+      this.cb.text(this.line.toString()).eraseLine().newline();
+    }
+    this.lines = n;
+    this.cb.print();
+  }
+
+  /**
+   * Formats one bar into the line buffer.
+   *
+   * @param bar the bar
+   * @param labelWidth the width all labels are padded to
+   */
+  private void format(ProgressBar bar, int labelWidth) {
+    StringBuilder out = this.line;
+    out.setLength(0);
+    out.append(bar.label());
+    for (int i = DisplayWidth.of(bar.label()); i < labelWidth; i++) out.append(' ');
+    long value = bar.value();
+    long total = bar.total();
+    if (total == 0) {
+      out.append(" [");
+      if (bar.isFinished()) out.append("done");
+      else out.append(SPINNER[this.frame % SPINNER.length]);
+      out.append("] ").append(value);
+      return;
+    }
+
+    double ratio = bar.isFinished() ? 1 : Math.min(1, Math.max(0, (double) value / total));
+    int width = this.barWidth;
+    int filled = (int) (ratio * width);
+    out.append(" [");
+    for (int i = 0; i < width; i++) out.append(i < filled ? '#' : '-');
+    out.append("] ");
+    int percent = (int) (ratio * 100);
+    if (percent < 100) out.append(' ');
+    if (percent < 10) out.append(' ');
+    out.append(percent).append("% ").append(value).append('/').append(total);
+  }
+}
@@ -0,0 +1,107 @@
+package io.github.lambdaphoenix.simpleterminal.progress;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Tracks the progress of one task shown by a {@link Progress} display.
+ *
+ * <p>A bar with a positive total is drawn as a bar with percentage and count; a bar without a total
+ * is drawn as a spinner with count. The counter is a {@link LongAdder}, so any number of threads
+ * can call {@link #step()} concurrently without contending on a shared variable. Updates never
+ * write to the console themselves; the display's ticker picks up the current value on its next
+ * frame.
+ *
+ * <h2>Usage Example:</h2>
+ *
+ * <pre>{@code
+ * ProgressBar bar = progress.bar("Download", files.size());
+ * files.parallelStream().forEach(f -> {
+ *   download(f);
+ *   bar.step();
+ * });
+ * bar.finish();
+ * }</pre>
+ *
+ * @author lambdaphoenix
+ * @version 2026-10-16
+ * @since 0.2.0
+ */
+public final class ProgressBar {
+  /** Label shown before the bar. */
+  private final String label;
+
+  /** Number of steps for completion, or 0 for a spinner. */
+  private final long total;
+
+  /** Number of steps done. */
+  private final LongAdder value = new LongAdder();
+
+  /** Whether the task has been finished. */
+  private volatile boolean finished;
+
+  /**
+   * Creates a new {@code ProgressBar}.
+   *
+   * @param label the label shown before the bar
+   * @param total the number of steps for completion, or 0 for a spinner
+   */
+  ProgressBar(String label, long total) {
+    this.label = label;
+    this.total = total;
+  }
+
+  /**
+   * Returns the label shown before the bar.
+   *
+   * @return the label
+   */
+  public String label() {
+    return this.label;
+  }
+
+  /**
+   * Returns the number of steps for completion.
+   *
+   * @return the total, or 0 if this is a spinner
+   */
+  public long total() {
+    return this.total;
+  }
+
+  /**
+   * Returns the number of steps done so far.
+   *
+   * @return the current value
+   */
+  public long value() {
+    return this.value.sum();
+  }
+
+  /** Advances the progress by one step. */
+  public void step() {
+    this.value.increment();
+  }
+
+  /**
+   * Advances the progress by a number of steps.
+   *
+   * @param steps the number of steps
+   */
+  public void step(long steps) {
+    this.value.add(steps);
+  }
+
+  /** Marks the task as finished; a bar is then drawn full and a spinner stops. */
+  public void finish() {
+    this.finished = true;
+  }
+
+  /**
+   * Returns whether the task has been finished.
+   *
+   * @return {@code true} after {@link #finish()}
+   */
+  public boolean isFinished() {
+    return this.finished;
+  }
+}
@@ -0,0 +1,33 @@
+/**
+ * Provides progress bars and spinners for long-running tasks.
+ *
+ * <p>This package contains classes for reporting the progress of one or more tasks on the console.
+ * Tasks update their counters from any thread without contention, while a single ticker redraws
+ * all bars at a fixed maximum frame rate.
+ *
+ * <h2>Key Components:</h2>
+ *
+ * <ul>
+ *   <li>{@link io.github.lambdaphoenix.simpleterminal.progress.Progress} – display drawing bars
+ *       and spinners from a background ticker
+ *   <li>{@link io.github.lambdaphoenix.simpleterminal.progress.ProgressBar} – progress counter of a
+ *       single task
+ * </ul>
+ *
+ * <h2>Usage Example:</h2>
+ *
+ * <pre>{@code
+ * try (Progress progress = new Progress(new ConsoleBuilder())) {
+ *   ProgressBar bar = progress.bar("Import", rows.size());
+ *   rows.parallelStream().forEach(r -> {
+ *     store(r);
+ *     bar.step();
+ *   });
+ * }
+ * }</pre>
+ *
+ * @author lambdaphoenix
+ * @version 2026-10-16
+ * @since 0.2.0
+ */
+package io.github.lambdaphoenix.simpleterminal.progress;
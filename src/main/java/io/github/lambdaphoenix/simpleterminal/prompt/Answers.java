@@ -0,0 +1,155 @@
+package io.github.lambdaphoenix.simpleterminal.prompt;
+
+import io.github.lambdaphoenix.simpleterminal.core.ValidationException;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Properties;
+
+/**
+ * Holds predefined answers for running {@link Prompt}s unattended.
+ *
+ * <p>Answers are looked up by question. A question matches a key if it is equal to the key after
+ * trimming, or if its normalized form is: lowercase, with every run of characters other than
+ * letters and digits replaced by a single dot, and without leading or trailing dots. The question
+ * {@code "Enter your age:"} therefore matches the key {@code enter.your.age}, which can be written
+ * in a properties file without escaping.
+ *
+ * <p>Answers can be layered: if a question has no answer, the {@link #withDefaults(Answers)
+ * defaults} are consulted. A question without any answer raises a {@link ValidationException}.
+ *
+ * <h2>Usage Example:</h2>
+ *
+ * <pre>{@code
+ * # setup.properties
+ * enter.your.age=42
+ * continue=yes
+ *
+ * Prompt prompt = new Prompt(cb).withAnswers(Answers.load(Path.of("setup.properties")));
+ * int age = prompt.askInt("Enter your age:");
+ * }</pre>
+ *
+ * @author lambdaphoenix
+ * @version 2026-10-16
+ * @since 0.2.0
+ */
+public final class Answers {
+  /** Answers by key, with keys stored both as given and normalized. */
+  private final Map<String, String> answers;
+
+  /** Answers consulted for questions without an answer, or {@code null}. */
+  private final Answers defaults;
+
+  /**
+   * Creates a new {@code Answers} instance.
+   *
+   * @param answers the answers by key
+   * @param defaults the fallback answers, or {@code null}
+   */
+  private Answers(Map<String, String> answers, Answers defaults) {
+    this.answers = answers;
+    this.defaults = defaults;
+  }
+
+  /**
+   * Returns answers from a map of keys to answers.
+   *
+   * @param answers the answers by question or normalized key
+   * @return the answers
+   * @throws NullPointerException if a key or answer is null
+   */
+  public static Answers of(Map<String, String> answers) {
+    Map<String, String> map = new HashMap<>();
+    answers.forEach(
+        (k, v) -> {
+          Objects.requireNonNull(v);
+          map.put(k.trim(), v);
+          map.putIfAbsent(key(k), v);
+        });
+    return new Answers(map, null);
+  }
+
+  /**
+   * Returns answers loaded from a UTF-8 encoded properties file.
+   *
+   * @param file the properties file
+   * @return the answers
+   * @throws IOException if the file cannot be read
+   */
+  public static Answers load(Path file) throws IOException {
+    Properties props = new Properties();
+    try (Reader in = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+      props.load(in);
+    }
+    Map<String, String> map = new HashMap<>();
+    for (String k : props.stringPropertyNames()) map.put(k, props.getProperty(k));
+    return of(map);
+  }
+
+  /**
+   * Returns answers that fall back to the given defaults for questions without an answer.
+   *
+   * @param defaults the fallback answers
+   * @return new layered answers
+   */
+  public Answers withDefaults(Answers defaults) {
+    return new Answers(this.answers, Objects.requireNonNull(defaults));
+  }
+
+  /**
+   * Returns the answer to a question.
+   *
+   * @param question the question as passed to the prompt
+   * @return the answer
+   * @throws ValidationException if neither these answers nor the defaults answer the question
+   */
+  public String get(String question) {
+    String answer = this.find(question.trim(), key(question));
+    if (answer == null) throw new ValidationException("No answer for: " + question);
+    return answer;
+  }
+
+  /**
+   * Looks up an answer in these answers and then in the defaults.
+   *
+   * @param trimmed the trimmed question
+   * @param key the normalized question
+   * @return the answer, or {@code null} if there is none
+   */
+  private String find(String trimmed, String key) {
+    String answer = this.answers.get(trimmed);
+    if (answer == null) answer = this.answers.get(key);
+    if (answer == null && this.defaults != null) answer = this.defaults.find(trimmed, key);
+    return answer;
+  }
+
+  /**
+   * Returns the normalized key of a question.
+   *
+   * @param question the question
+   * @return the lowercase question with runs of other characters than letters and digits replaced
+   *     by single dots
+   */
+  static String key(String question) {
+    StringBuilder sb = new StringBuilder(question.length());
+    boolean dot = false;
+    for (int i = 0; i < question.length(); ) {
+      int cp = question.codePointAt(i);
+      i += Character.charCount(cp);
+      if (Character.isLetterOrDigit(cp)) {
+        if (dot && !sb.isEmpty()) sb.append('.');
+        dot = false;
+        sb.appendCodePoint(cp);
+      } else {
+        dot = true;
+      }
+    }
+    return sb.toString().toLowerCase(Locale.ROOT);
+  }
+}
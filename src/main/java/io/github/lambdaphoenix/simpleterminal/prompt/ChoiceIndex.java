@@ -0,0 +1,248 @@
+package io.github.lambdaphoenix.simpleterminal.prompt;
+
+import io.github.lambdaphoenix.simpleterminal.core.ValidationException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * A search index over the labels of a list of {@link Choice}s, used for type-ahead filtering.
+ *
+ * <p>The index is built once: every label is lowercased and each of its trigrams (three consecutive
+ * characters) is mapped to the sorted positions of the labels containing it. A query of three or
+ * more characters is answered by intersecting the posting lists of its trigrams, starting with the
+ * shortest, and checking the few remaining candidates; shorter queries scan the labels. When a
+ * query extends the previous one, as it does while the user types, only the previous matches are
+ * checked again. The cost of a keystroke is therefore bounded by the number of candidates rather
+ * than the number of choices.
+ *
+ * <p>Matching is case-insensitive and finds the query anywhere in a label. Matches are ranked by
+ * where the query occurs: labels starting with it first, then labels where it starts a word, then
+ * all others; within a rank, choices keep their original order.
+ *
+ * <p>An index is immutable and can be shared between threads and prompts.
+ *
+ * <h2>Usage Example:</h2>
+ *
+ * <pre>{@code
+ * ChoiceIndex<Host> hosts = new ChoiceIndex<>(hostChoices);
+ * List<Choice<Host>> top = hosts.search("web-", 10);
+ * Host host = prompt.askChoice("Host:", hosts, new KeyDecoder(System.in));
+ * }</pre>
+ *
+ * @param <T> the type of the values associated with the choices
+ * @author lambdaphoenix
+ * @version 2026-10-16
+ * @since 0.2.0
+ */
+public final class ChoiceIndex<T> {
+  /** Length of the indexed character sequences. */
+  private static final int GRAM = 3;
+
+  /** Rank of matches at the start of the label. */
+  private static final int PREFIX = 0;
+
+  /** Rank of matches at the start of a word. */
+  private static final int WORD = 1;
+
+  /** Rank of all other matches. */
+  private static final int INNER = 2;
+
+  /** The indexed choices. */
+  private final List<Choice<T>> choices;
+
+  /** Lowercased labels, by choice position. */
+  private final String[] labels;
+
+  /** Sorted choice positions per trigram. */
+  private final Map<Long, int[]> postings;
+
+  /**
+   * Creates a new {@code ChoiceIndex} over the given choices.
+   *
+   * @param choices the choices to index
+   * @throws ValidationException if the choices list is null or empty
+   */
+  public ChoiceIndex(List<Choice<T>> choices) {
+    if (choices == null || choices.isEmpty()) {
+      throw new ValidationException("No choices provided");
+    }
+    this.choices = List.copyOf(choices);
+    this.labels = new String[this.choices.size()];
+
+    Map<Long, int[]> grams = new HashMap<>();
+    for (int i = 0; i < this.labels.length; i++) {
+      String label = this.choices.get(i).label().toLowerCase(Locale.ROOT);
+      this.labels[i] = label;
+      for (int j = 0; j + GRAM <= label.length(); j++) {
+        int[] list = grams.computeIfAbsent(gram(label, j), _ -> new int[5]);
+        int n = list[0];
+        if (n > 0 && list[n] == i) continue; // trigram repeated within this label
+        if (n + 1 == list.length) grams.put(gram(label, j), list = Arrays.copyOf(list, n * 2 + 2));
+        list[n + 1] = i;
+        list[0] = n + 1;
+      }
+    }
+    // drop the length slots and trim the lists
+    grams.replaceAll((_, list) -> Arrays.copyOfRange(list, 1, list[0] + 1));
+    this.postings = grams;
+  }
+
+  /**
+   * Returns the number of indexed choices.
+   *
+   * @return the number of choices
+   */
+  public int size() {
+    return this.labels.length;
+  }
+
+  /**
+   * Returns the choice at a position.
+   *
+   * @param i the position of the choice
+   * @return the choice
+   */
+  Choice<T> choice(int i) {
+    return this.choices.get(i);
+  }
+
+  /**
+   * Returns the number of choices whose label contains the query.
+   *
+   * @param query the text to search for
+   * @return the number of matching choices
+   */
+  public int count(String query) {
+    return this.matches(normalize(query), null).length;
+  }
+
+  /**
+   * Returns the best matching choices for a query.
+   *
+   * @param query the text to search for, empty to list the first choices
+   * @param limit the maximum number of choices to return
+   * @return up to {@code limit} matching choices, best first
+   * @throws IllegalArgumentException if {@code limit} is negative
+   */
+  public List<Choice<T>> search(String query, int limit) {
+    String q = normalize(query);
+    return this.top(this.matches(q, null), q, limit);
+  }
+
+  /**
+   * Returns the lowercase form of a query.
+   *
+   * @param query the query
+   * @return the normalized query
+   */
+  static String normalize(String query) {
+    return query.toLowerCase(Locale.ROOT);
+  }
+
+  /**
+   * Returns the positions of all choices whose label contains a normalized query.
+   *
+   * @param query the normalized query
+   * @param within ascending positions to check, e.g. the matches of a prefix of the query, or
+   *     {@code null} to use the index
+   * @return the ascending positions of the matching choices
+   */
+  int[] matches(String query, int[] within) {
+    if (within == null) within = this.candidates(query);
+    if (within == null) {
+      within = new int[this.labels.length];
+      Arrays.setAll(within, i -> i);
+    }
+    if (query.isEmpty()) return within;
+    int[] out = new int[within.length];
+    int n = 0;
+    for (int i : within) if (this.labels[i].contains(query)) out[n++] = i;
+    return Arrays.copyOf(out, n);
+  }
+
+  /**
+   * Returns the ranked choices at the given positions.
+   *
+   * @param matches ascending positions of matching choices
+   * @param query the normalized query they match
+   * @param limit the maximum number of choices to return
+   * @return up to {@code limit} choices, best first
+   * @throws IllegalArgumentException if {@code limit} is negative
+   */
+  List<Choice<T>> top(int[] matches, String query, int limit) {
+    if (limit < 0) throw new IllegalArgumentException("Limit must be >= 0");
+    List<Choice<T>> out = new ArrayList<>(Math.min(limit, matches.length));
+    // one pass per rank keeps the original order within a rank without sorting
+    for (int rank = PREFIX; rank <= INNER && out.size() < limit; rank++) {
+      for (int i = 0; i < matches.length && out.size() < limit; i++) {
+        if (this.rank(this.labels[matches[i]], query) == rank)
+          out.add(this.choices.get(matches[i]));
+      }
+    }
+    return out;
+  }
+
+  /**
+   * Returns the rank of a label that contains a query.
+   *
+   * @param label the lowercased label
+   * @param query the normalized query
+   * @return {@link #PREFIX}, {@link #WORD} or {@link #INNER}
+   */
+  private int rank(String label, String query) {
+    if (label.startsWith(query)) return PREFIX;
+    for (int i = label.indexOf(query); i > 0; i = label.indexOf(query, i + 1)) {
+      if (!Character.isLetterOrDigit(label.charAt(i - 1))) return WORD;
+    }
+    return INNER;
+  }
+
+  /**
+   * Intersects the posting lists of the trigrams of a query.
+   *
+   * @param query the normalized query
+   * @return ascending positions of the choices containing every trigram of the query, or {@code
+   *     null} if the query is too short to use the index
+   */
+  private int[] candidates(String query) {
+    if (query.length() < GRAM) return null;
+    List<int[]> lists = new ArrayList<>();
+    for (int j = 0; j + GRAM <= query.length(); j++) {
+      int[] list = this.postings.get(gram(query, j));
+      if (list == null) return new int[0];
+      lists.add(list);
+    }
+    lists.sort(Comparator.comparingInt(list -> list.length));
+    int[] result = lists.getFirst();
+    for (int k = 1; k < lists.size() && result.length > 0; k++) {
+      int[] other = lists.get(k);
+      int[] next = new int[result.length];
+      int n = 0;
+      int from = 0;
+      for (int i : result) {
+        int at = Arrays.binarySearch(other, from, other.length, i);
+        if (at >= 0) next[n++] = i;
+        from = at >= 0 ? at + 1 : -at - 1;
+        if (from == other.length) break;
+      }
+      result = Arrays.copyOf(next, n);
+    }
+    return result;
+  }
+
+  /**
+   * Packs the trigram starting at an index into a key.
+   *
+   * @param s the text
+   * @param i the start of the trigram
+   * @return the three characters packed into a long
+   */
+  private static long gram(String s, int i) {
+    return (long) s.charAt(i) << 32 | (long) s.charAt(i + 1) << 16 | s.charAt(i + 2);
+  }
+}
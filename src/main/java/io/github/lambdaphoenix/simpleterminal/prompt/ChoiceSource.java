@@ -0,0 +1,81 @@
+package io.github.lambdaphoenix.simpleterminal.prompt;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Objects;
+import java.util.OptionalInt;
+
+/**
+ * Supplies the choices of a selection prompt page by page.
+ *
+ * <p>Unlike a {@code List<Choice<T>>}, a source does not need to materialize its choices up front:
+ * {@link Prompt#askChoice(String, ChoiceSource)} only requests the page it is about to show and the
+ * next page when the user asks for it, so prompting over a large, slow or remote catalog starts
+ * immediately and memory use is bounded by one page. A source may report its {@link #total() total}
+ * number of choices if it is cheap to know.
+ *
+ * <h2>Usage Example:</h2>
+ *
+ * <pre>{@code
+ * ChoiceSource<Artifact> artifacts =
+ *     (offset, limit) -> repository.list(offset, limit).stream()
+ *         .map(a -> new Choice<>(a.coordinates(), a))
+ *         .toList();
+ * Artifact artifact = prompt.askChoice("Artifact:", artifacts);
+ * }</pre>
+ *
+ * @param <T> the type of the values associated with the choices
+ * @author lambdaphoenix
+ * @version 2026-10-16
+ * @since 0.2.0
+ */
+@FunctionalInterface
+public interface ChoiceSource<T> {
+  /**
+   * Returns a page of choices.
+   *
+   * <p>A page shorter than {@code limit}, or an empty one, signals that there are no further
+   * choices.
+   *
+   * @param offset the position of the first choice to return, starting at 0
+   * @param limit the maximum number of choices to return, greater than 0
+   * @return the choices at positions {@code offset} to {@code offset + limit - 1}, as far as they
+   *     exist
+   * @throws IOException if the choices cannot be fetched
+   */
+  List<Choice<T>> page(int offset, int limit) throws IOException;
+
+  /**
+   * Returns the total number of choices, if known.
+   *
+   * <p>The default implementation returns an empty result.
+   *
+   * @return the total number of choices, or empty if unknown
+   */
+  default OptionalInt total() {
+    return OptionalInt.empty();
+  }
+
+  /**
+   * Returns a source serving the choices of a list.
+   *
+   * @param choices the choices
+   * @param <T> the type of the values associated with the choices
+   * @return a source with a known total
+   */
+  static <T> ChoiceSource<T> of(List<Choice<T>> choices) {
+    Objects.requireNonNull(choices);
+    return new ChoiceSource<>() {
+      @Override
+      public List<Choice<T>> page(int offset, int limit) {
+        int from = Math.min(offset, choices.size());
+        return choices.subList(from, Math.min(choices.size(), from + limit));
+      }
+
+      @Override
+      public OptionalInt total() {
+        return OptionalInt.of(choices.size());
+      }
+    };
+  }
+}
@@ -0,0 +1,115 @@
+package io.github.lambdaphoenix.simpleterminal.prompt;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.InterruptedIOException;
+import java.io.Reader;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Supplies lines of user input to a {@link Prompt}.
+ *
+ * <p>Input can come from a stream such as {@code System.in}, a channel such as a socket, or memory.
+ * Stream and channel sources read on demand: each read asks a background virtual thread for one
+ * line, which it reads and hands to the prompt through a queue, so a waiting prompt parks instead
+ * of blocking in native I/O and no input is consumed before it is asked for. This makes waiting
+ * prompts cheap on virtual threads and allows a read to give up after a timeout or to be cancelled
+ * from another thread; in both cases an {@link InterruptedIOException} is thrown and the source
+ * remains usable. The line the abandoned read asked for is still read, and the next read returns it
+ * instead of asking for another one.
+ *
+ * <h2>Usage Example:</h2>
+ *
+ * <pre>{@code
+ * InputSource in = InputSource.of(socket.getInputStream());
+ * Prompt prompt = new Prompt(cb, in).withTimeout(Duration.ofMinutes(1));
+ * String name = prompt.ask("Name:");
+ * }</pre>
+ *
+ * @author lambdaphoenix
+ * @version 2026-10-16
+ * @since 0.2.0
+ */
+public interface InputSource extends Closeable {
+  /**
+   * Returns the shared source reading from {@code System.in}.
+   *
+   * <p>The same source is returned as long as {@code System.in} is not replaced.
+   *
+   * @return the source for standard input
+   */
+  static InputSource stdin() {
+    return ReaderSource.stdin();
+  }
+
+  /**
+   * Returns a source reading lines from a stream in the default charset.
+   *
+   * @param in the stream
+   * @return a new source
+   */
+  static InputSource of(InputStream in) {
+    return new ReaderSource(new InputStreamReader(in));
+  }
+
+  /**
+   * Returns a source reading lines from a channel, decoded as UTF-8.
+   *
+   * @param channel the channel
+   * @return a new source
+   */
+  static InputSource of(ReadableByteChannel channel) {
+    return new ReaderSource(Channels.newReader(channel, StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Returns a source reading lines from a reader.
+   *
+   * @param reader the reader
+   * @return a new source
+   */
+  static InputSource of(Reader reader) {
+    return new ReaderSource(reader);
+  }
+
+  /**
+   * Returns a source supplying the given lines, e.g. for tests.
+   *
+   * @param lines the lines to supply, in order
+   * @return a new source that reports end of input after the last line
+   */
+  static InputSource of(String... lines) {
+    return new LinesSource(List.of(lines));
+  }
+
+  /**
+   * Reads the next line, waiting as long as necessary.
+   *
+   * @return the line without line terminator, or {@code null} at the end of input
+   * @throws InterruptedIOException if the read was cancelled or the thread was interrupted
+   * @throws IOException if an I/O error occurs
+   */
+  default String readLine() throws IOException {
+    return this.readLine(null);
+  }
+
+  /**
+   * Reads the next line, waiting at most the given time.
+   *
+   * @param timeout the maximum time to wait, or {@code null} to wait as long as necessary
+   * @return the line without line terminator, or {@code null} at the end of input
+   * @throws InterruptedIOException if the timeout elapsed, the read was cancelled or the thread was
+   *     interrupted
+   * @throws IOException if an I/O error occurs
+   */
+  String readLine(Duration timeout) throws IOException;
+
+  /** Cancels a read that is currently waiting for input. Has no effect if no read is waiting. */
+  void cancel();
+}
@@ -0,0 +1,41 @@
+package io.github.lambdaphoenix.simpleterminal.prompt;
+
+/**
+ * Identifies a key decoded from raw terminal input by a {@link KeyDecoder}.
+ *
+ * @author lambdaphoenix
+ * @version 2026-10-16
+ * @since 0.2.0
+ */
+public enum Key {
+  /** A printable character; see {@link KeyEvent#codePoint()}. */
+  CHARACTER,
+  /** Enter or Return. */
+  ENTER,
+  /** Tab. */
+  TAB,
+  /** Backspace. */
+  BACKSPACE,
+  /** Delete. */
+  DELETE,
+  /** Escape pressed on its own. */
+  ESCAPE,
+  /** Arrow up. */
+  UP,
+  /** Arrow down. */
+  DOWN,
+  /** Arrow left. */
+  LEFT,
+  /** Arrow right. */
+  RIGHT,
+  /** Home. */
+  HOME,
+  /** End. */
+  END,
+  /** Page up. */
+  PAGE_UP,
+  /** Page down. */
+  PAGE_DOWN,
+  /** Ctrl-C, which raw mode delivers as a byte instead of a signal. */
+  CTRL_C
+}
@@ -0,0 +1,196 @@
+package io.github.lambdaphoenix.simpleterminal.prompt;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Objects;
+
+/**
+ * Decodes key presses from the bytes a terminal sends in raw mode.
+ *
+ * <p>In raw mode the terminal delivers every key press immediately: printable characters as UTF-8,
+ * control keys as single control bytes, and navigation keys as escape sequences such as {@code ESC
+ * [ A} (arrow up) or {@code ESC [ 5 ~} (page up). The decoder reads the stream byte by byte and
+ * runs a small state machine over these sequences, so it works on any {@link InputStream} and can
+ * be tested by feeding prepared bytes without a real terminal.
+ *
+ * <p>Both the CSI ({@code ESC [}) and SS3 ({@code ESC O}) forms of cursor keys are recognized,
+ * modifier parameters are ignored, and unknown sequences are skipped. An escape byte that is not
+ * immediately followed by further input is reported as {@link Key#ESCAPE}. Putting the terminal
+ * into raw mode (for example with {@code stty raw -echo}) is up to the caller.
+ *
+ * <h2>Usage Example:</h2>
+ *
+ * <pre>{@code
+ * KeyDecoder keys = new KeyDecoder(System.in);
+ * KeyEvent e;
+ * while ((e = keys.next()) != null && e.key() != Key.ENTER) {
+ *   handle(e);
+ * }
+ * }</pre>
+ *
+ * @author lambdaphoenix
+ * @version 2026-10-16
+ * @since 0.2.0
+ */
+public final class KeyDecoder {
+  /** Escape byte introducing escape sequences. */
+  private static final int ESC = 0x1B;
+
+  /** Stream of raw terminal input. */
+  private final InputStream in;
+
+  /** Byte read ahead and not yet decoded, or -1. */
+  private int pending = -1;
+
+  /** Whether a line feed directly following a carriage return is to be skipped. */
+  private boolean skipLf;
+
+  /**
+   * Creates a new {@code KeyDecoder}.
+   *
+   * @param in the stream of raw terminal input
+   */
+  public KeyDecoder(InputStream in) {
+    this.in = Objects.requireNonNull(in);
+  }
+
+  /**
+   * Reads and decodes the next key press.
+   *
+   * @return the key event, or {@code null} at the end of the stream
+   * @throws IOException if an I/O error occurs
+   */
+  public KeyEvent next() throws IOException {
+    while (true) {
+      int b = this.read();
+      if (b < 0) return null;
+      boolean afterCr = this.skipLf;
+      this.skipLf = false;
+      KeyEvent e =
+          switch (b) {
+            case '\r' -> {
+              this.skipLf = true;
+              yield KeyEvent.of(Key.ENTER);
+            }
+            case '\n' -> afterCr ? null : KeyEvent.of(Key.ENTER);
+            case '\t' -> KeyEvent.of(Key.TAB);
+            case 0x03 -> KeyEvent.of(Key.CTRL_C);
+            case 0x08, 0x7F -> KeyEvent.of(Key.BACKSPACE);
+            case ESC -> this.escape();
+            default -> b < 0x20 ? null : b < 0x80 ? KeyEvent.of(b) : this.utf8(b);
+          };
+      if (e != null) return e;
+    }
+  }
+
+  /**
+   * Returns the next byte, either read ahead or from the stream.
+   *
+   * @return the byte, or -1 at the end of the stream
+   * @throws IOException if an I/O error occurs
+   */
+  private int read() throws IOException {
+    int b = this.pending;
+    if (b >= 0) {
+      this.pending = -1;
+      return b;
+    }
+    return this.in.read();
+  }
+
+  /**
+   * Decodes the sequence following an escape byte.
+   *
+   * @return the key event, or {@code null} for an unknown sequence
+   * @throws IOException if an I/O error occurs
+   */
+  private KeyEvent escape() throws IOException {
+    if (this.pending < 0 && this.in.available() == 0) return KeyEvent.of(Key.ESCAPE);
+    int b = this.read();
+    if (b == '[') return this.csi();
+    if (b == 'O') return this.ss3(this.read());
+    this.pending = b;
+    return KeyEvent.of(Key.ESCAPE);
+  }
+
+  /**
+   * Decodes a control sequence after {@code ESC [}.
+   *
+   * @return the key event, or {@code null} for an unknown sequence
+   * @throws IOException if an I/O error occurs
+   */
+  private KeyEvent csi() throws IOException {
+    int param = 0;
+    boolean first = true;
+    while (true) {
+      int b = this.read();
+      if (b < 0) return null;
+      if (b >= '0' && b <= '9') {
+        if (first) param = param * 10 + (b - '0');
+      } else if (b == ';') {
+        first = false;
+      } else if (b >= 0x40 && b <= 0x7E) {
+        if (b != '~') return this.ss3(b);
+        return switch (param) {
+          case 1, 7 -> KeyEvent.of(Key.HOME);
+          case 3 -> KeyEvent.of(Key.DELETE);
+          case 4, 8 -> KeyEvent.of(Key.END);
+          case 5 -> KeyEvent.of(Key.PAGE_UP);
+          case 6 -> KeyEvent.of(Key.PAGE_DOWN);
+          default -> null;
+        };
+      }
+    }
+  }
+
+  /**
+   * Decodes the final byte of a cursor key sequence.
+   *
+   * @param b the final byte
+   * @return the key event, or {@code null} for an unknown key
+   */
+  private KeyEvent ss3(int b) {
+    return switch (b) {
+      case 'A' -> KeyEvent.of(Key.UP);
+      case 'B' -> KeyEvent.of(Key.DOWN);
+      case 'C' -> KeyEvent.of(Key.RIGHT);
+      case 'D' -> KeyEvent.of(Key.LEFT);
+      case 'H' -> KeyEvent.of(Key.HOME);
+      case 'F' -> KeyEvent.of(Key.END);
+      default -> null;
+    };
+  }
+
+  /**
+   * Decodes a UTF-8 encoded character starting with a non-ASCII byte.
+   *
+   * @param lead the first byte
+   * @return the character event; malformed input yields U+FFFD
+   * @throws IOException if an I/O error occurs
+   */
+  private KeyEvent utf8(int lead) throws IOException {
+    int count;
+    int cp;
+    if ((lead & 0xE0) == 0xC0) {
+      count = 1;
+      cp = lead & 0x1F;
+    } else if ((lead & 0xF0) == 0xE0) {
+      count = 2;
+      cp = lead & 0x0F;
+    } else if ((lead & 0xF8) == 0xF0) {
+      count = 3;
+      cp = lead & 0x07;
+    } else {
+      return KeyEvent.of(0xFFFD);
+    }
+    for (int i = 0; i < count; i++) {
+      int b = this.read();
+      if ((b & 0xC0) != 0x80) {
+        if (b >= 0) this.pending = b;
+        return KeyEvent.of(0xFFFD);
+      }
+      cp = cp << 6 | (b & 0x3F);
+    }
+    return KeyEvent.of(cp);
+  }
+}
@@ -0,0 +1,32 @@
+package io.github.lambdaphoenix.simpleterminal.prompt;
+
+/**
+ * Represents a single key press decoded from raw terminal input.
+ *
+ * @param key the key
+ * @param codePoint the typed character for {@link Key#CHARACTER}, -1 for all other keys
+ * @author lambdaphoenix
+ * @version 2026-10-16
+ * @since 0.2.0
+ */
+public record KeyEvent(Key key, int codePoint) {
+  /**
+   * Creates a key event for a key that is not a character.
+   *
+   * @param key the key
+   * @return the key event
+   */
+  public static KeyEvent of(Key key) {
+    return new KeyEvent(key, -1);
+  }
+
+  /**
+   * Creates a key event for a typed character.
+   *
+   * @param codePoint the character
+   * @return the key event
+   */
+  public static KeyEvent of(int codePoint) {
+    return new KeyEvent(Key.CHARACTER, codePoint);
+  }
+}
@@ -0,0 +1,39 @@
+package io.github.lambdaphoenix.simpleterminal.prompt;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * An {@link InputSource} supplying a fixed list of lines from memory.
+ *
+ * <p>Reads never wait, so timeouts and cancellation have no effect.
+ *
+ * @author lambdaphoenix
+ * @version 2026-10-16
+ * @since 0.2.0
+ */
+final class LinesSource implements InputSource {
+  /** Remaining lines. */
+  private final Iterator<String> lines;
+
+  /**
+   * Creates a new {@code LinesSource}.
+   *
+   * @param lines the lines to supply
+   */
+  LinesSource(List<String> lines) {
+    this.lines = lines.iterator();
+  }
+
+  @Override
+  public synchronized String readLine(Duration timeout) {
+    return this.lines.hasNext() ? this.lines.next() : null;
+  }
+
+  @Override
+  public void cancel() {}
+
+  @Override
+  public void close() {}
+}
@@ -1,13 +1,19 @@
 package io.github.lambdaphoenix.simpleterminal.prompt;
 
 import io.github.lambdaphoenix.simpleterminal.ansi.AnsiColor;
+import io.github.lambdaphoenix.simpleterminal.ansi.AnsiStyle;
 import io.github.lambdaphoenix.simpleterminal.core.ConsoleBuilder;
+import io.github.lambdaphoenix.simpleterminal.core.MessageCatalog;
 import io.github.lambdaphoenix.simpleterminal.core.ValidationException;
-import java.io.BufferedReader;
+import java.io.EOFException;
 import java.io.IOException;
-import java.io.InputStreamReader;
+import java.io.InterruptedIOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.List;
 import java.util.Objects;
+import java.util.OptionalInt;
 import java.util.function.Function;
 import java.util.function.Predicate;
 
@@ -16,28 +22,135 @@ import java.util.function.Predicate;
  *
  * <p>The {@code Prompt} class supports various input types including strings, integers, yes/no
  * confirmations, pattern matching, and selectable choices. It uses a {@link ConsoleBuilder} for
- * styled output and supports validation and error messaging. All input is read from {@code
- * System.in}.
+ * styled output and supports validation and error messaging. Input is read from an {@link
+ * InputSource}, which defaults to {@code System.in} and can be replaced by a stream, channel or
+ * in-memory source. With a {@link #withTimeout(Duration) timeout}, every read gives up after the
+ * given time instead of waiting forever.
+ *
+ * <p>In batch mode, enabled with {@link #withAnswers(Answers)}, no input is read and nothing is
+ * rendered: every question is answered from the given {@link Answers}. Invalid answers are not
+ * retried but fail fast with a {@link ValidationException}, so unattended runs are deterministic.
  *
  * <h2>Usage Example:</h2>
  *
  * <pre>{@code
  * Prompt prompt = new Prompt(new ConsoleBuilder());
  * int age = prompt.askInt("Enter your age:");
+ *
+ * Prompt scripted = new Prompt(new ConsoleBuilder(), InputSource.of("42"));
  * }</pre>
  *
  * @param cb the console builder used for styled output
+ * @param input the source of user input
+ * @param timeout the maximum time to wait for each line of input, or {@code null} to wait forever
+ * @param answers the answers used in batch mode, or {@code null} to ask interactively
  * @author lambdaphoenix
  * @version 2025-09-25
  * @since 0.1.0
  */
-public record Prompt(ConsoleBuilder cb) {
+public record Prompt(ConsoleBuilder cb, InputSource input, Duration timeout, Answers answers) {
+  /** Number of rows Page Up and Page Down move the highlight in arrow-key choice lists. */
+  private static final int PAGE_SIZE = 10;
+
+  /** Index of the message key {@code error.invalidChoice}. */
+  private static final int ERROR_INVALID_CHOICE = MessageCatalog.key("error.invalidChoice");
+
+  /** Index of the message key {@code error.invalidInt}. */
+  private static final int ERROR_INVALID_INT = MessageCatalog.key("error.invalidInt");
+
+  /** Index of the message key {@code error.yesno}. */
+  private static final int ERROR_YESNO = MessageCatalog.key("error.yesno");
+
+  /** Index of the message key {@code prompt.choice}. */
+  private static final int PROMPT_CHOICE = MessageCatalog.key("prompt.choice");
+
+  /** Index of the message key {@code prompt.matches}. */
+  private static final int PROMPT_MATCHES = MessageCatalog.key("prompt.matches");
+
+  /** Index of the message key {@code prompt.pagedChoice}. */
+  private static final int PROMPT_PAGED_CHOICE = MessageCatalog.key("prompt.pagedChoice");
+
+  /** Message key of the prompt for a choice by number or search text. */
+  private static final int PROMPT_SEARCH = MessageCatalog.key("prompt.search");
+
   /**
-   * Shared buffered reader for reading user input from {@code System.in}.
+   * Creates a new {@code Prompt} reading from {@code System.in} without timeout.
    *
-   * <p>This reader is used internally by all prompt methods to capture console input line by line.
+   * @param cb the console builder used for styled output
    */
-  private static final BufferedReader br = new BufferedReader(new InputStreamReader(System.in));
+  public Prompt(ConsoleBuilder cb) {
+    this(cb, InputSource.stdin());
+  }
+
+  /**
+   * Creates a new {@code Prompt} reading from the given source without timeout.
+   *
+   * @param cb the console builder used for styled output
+   * @param input the source of user input
+   * @throws NullPointerException if {@code input} is null
+   */
+  public Prompt(ConsoleBuilder cb, InputSource input) {
+    this(cb, input, null, null);
+  }
+
+  /**
+   * Creates a new {@code Prompt}.
+   *
+   * @param cb the console builder used for styled output
+   * @param input the source of user input
+   * @param timeout the maximum time to wait for each line of input, or {@code null} to wait forever
+   * @param answers the answers used in batch mode, or {@code null} to ask interactively
+   * @throws NullPointerException if {@code input} is null
+   */
+  public Prompt {
+    Objects.requireNonNull(input);
+  }
+
+  /**
+   * Returns a copy of this prompt that waits at most the given time for each line of input.
+   *
+   * @param timeout the maximum time to wait, or {@code null} to wait forever
+   * @return a new prompt with the same builder and input source
+   */
+  public Prompt withTimeout(Duration timeout) {
+    return new Prompt(this.cb, this.input, timeout, this.answers);
+  }
+
+  /**
+   * Returns a copy of this prompt in batch mode, answering every question from {@code answers}.
+   *
+   * @param answers the answers, or {@code null} to ask interactively again
+   * @return a new prompt with the same builder and input source
+   */
+  public Prompt withAnswers(Answers answers) {
+    return new Prompt(this.cb, this.input, this.timeout, answers);
+  }
+
+  /**
+   * Reports an invalid answer: in batch mode by failing, otherwise by printing an error message.
+   *
+   * @param errorMessage the error message
+   * @throws ValidationException in batch mode
+   */
+  private void invalid(String errorMessage) {
+    if (this.answers != null) throw new ValidationException(errorMessage);
+    this.printErrorMessage(errorMessage);
+  }
+
+  /**
+   * Returns the answer to a question: in batch mode from the answers, otherwise by displaying a
+   * prompt and reading a line of input.
+   *
+   * @param question the question, used to look up the answer in batch mode
+   * @param display the prompt text to display
+   * @return the answer, or {@code null} at the end of input
+   * @throws IOException if an I/O error occurs
+   */
+  private String read(String question, String display) throws IOException {
+    if (this.answers != null) return this.answers.get(question);
+    this.cb.color(AnsiColor.CYAN).text(display + " ").reset().print();
+    return this.input.readLine(this.timeout);
+  }
 
   /**
    * Prints an error message in red to the console.
@@ -56,12 +169,13 @@ public record Prompt(ConsoleBuilder cb) {
    * Asks the user a plain text question and returns the input.
    *
    * @param question the question to display
-   * @return the user's input as a string
+   * @return the user's input as a string, or {@code null} at the end of input
+   * @throws InterruptedIOException if the timeout elapsed or the read was cancelled
    * @throws IOException if an I/O error occurs
+   * @throws ValidationException in batch mode, if there is no answer
    */
   public String ask(String question) throws IOException {
-    this.cb.color(AnsiColor.CYAN).text(question + " ").reset().print();
-    return br.readLine();
+    return this.read(question, question);
   }
 
   /**
@@ -73,6 +187,7 @@ public record Prompt(ConsoleBuilder cb) {
    * @param errorMessage the message to display on invalid input
    * @return the validated input
    * @throws IOException if an I/O error occurs
+   * @throws ValidationException in batch mode, if there is no valid answer
    * @throws NullPointerException if validator is null
    * @see #ask(String)
    */
@@ -82,7 +197,7 @@ public record Prompt(ConsoleBuilder cb) {
     while (true) {
       String s = this.ask(question);
       if (validator.test(s)) return s;
-      this.printErrorMessage(errorMessage);
+      this.invalid(errorMessage);
     }
   }
 
@@ -92,6 +207,7 @@ public record Prompt(ConsoleBuilder cb) {
    * @param question the question to display
    * @return the parsed integer
    * @throws IOException if an I/O error occurs
+   * @throws ValidationException in batch mode, if there is no valid answer
    * @see #ask(String)
    */
   public int askInt(String question) throws IOException {
@@ -99,7 +215,7 @@ public record Prompt(ConsoleBuilder cb) {
       try {
         return Integer.parseInt(this.ask(question).trim());
       } catch (NumberFormatException _) {
-        this.printErrorMessage(this.cb.msg("error.invalidInt"));
+        this.invalid(this.cb.msg(ERROR_INVALID_INT));
       }
     }
   }
@@ -112,6 +228,7 @@ public record Prompt(ConsoleBuilder cb) {
    * @param errorMessage the message to display on invalid input
    * @return the validated integer
    * @throws IOException if an I/O error occurs
+   * @throws ValidationException in batch mode, if there is no valid answer
    * @throws NullPointerException if validator is null
    * @see #askInt(String)
    */
@@ -121,7 +238,7 @@ public record Prompt(ConsoleBuilder cb) {
     while (true) {
       int v = this.askInt(question);
       if (validator.test(v)) return v;
-      this.printErrorMessage(errorMessage);
+      this.invalid(errorMessage);
     }
   }
 
@@ -132,27 +249,30 @@ public record Prompt(ConsoleBuilder cb) {
    * @param question the question to display
    * @return {@code true} for yes, {@code false} for no
    * @throws IOException if an I/O error occurs
+   * @throws ValidationException in batch mode, if there is no valid answer
    * @see #ask(String)
    */
   public boolean askYesNo(String question) throws IOException {
     while (true) {
-      String s = this.ask(question + " [y/n]").trim().toLowerCase();
+      String s = this.read(question, question + " [y/n]").trim().toLowerCase();
       if (s.equals("y") || s.equals("yes")) return true;
       if (s.equals("n") || s.equals("no")) return false;
-      this.cb.color(AnsiColor.YELLOW).text(this.cb.msg("error.yesno")).reset().println();
+      if (this.answers != null) throw new ValidationException(this.cb.msg(ERROR_YESNO));
+      this.cb.color(AnsiColor.YELLOW).text(this.cb.msg(ERROR_YESNO)).reset().println();
     }
   }
 
   /**
    * Asks the user to select from a list of choices. Displays numbered options and returns the
-   * associated value.
+   * associated value. In batch mode the answer may be the number or the label of a choice.
    *
    * @param question the question to display
    * @param choices the list of selectable choices
    * @param <T> the type of value returned
    * @return the value of the selected choice
    * @throws IOException if an I/O error occurs
-   * @throws ValidationException if the choices list is null or empty
+   * @throws ValidationException if the choices list is null or empty, or in batch mode, if there is
+   *     no valid answer
    * @see #ask(String)
    */
   public <T> T askChoice(String question, List<Choice<T>> choices) throws IOException {
@@ -160,22 +280,351 @@ public record Prompt(ConsoleBuilder cb) {
       throw new ValidationException("No choices provided");
     }
 
-    this.cb.text(question).println();
-    for (int i = 0; i < choices.size(); i++) {
-      this.cb.text("  " + (i + 1) + ") " + choices.get(i).label()).println();
+    if (this.answers != null) {
+      String s = this.answers.get(question).trim();
+      for (Choice<T> c : choices) if (c.label().equalsIgnoreCase(s)) return c.value();
+    } else {
+      this.cb.text(question).println();
+      for (int i = 0; i < choices.size(); i++) {
+        this.cb.text("  " + (i + 1) + ") " + choices.get(i).label()).println();
+      }
     }
 
     while (true) {
-      String s = this.ask(this.cb.msg("prompt.choice"));
+      String s = this.read(question, this.cb.msg(PROMPT_CHOICE));
       try {
         int idx = Integer.parseInt(s.trim()) - 1;
         if (idx >= 0 && idx < choices.size()) return choices.get(idx).value();
       } catch (NumberFormatException _) {
       }
-      this.printErrorMessage(this.cb.msg("error.invalidChoice"));
+      this.invalid(this.cb.msg(ERROR_INVALID_CHOICE));
+    }
+  }
+
+  /**
+   * Asks the user to select from choices supplied page by page.
+   *
+   * <p>Only the page being shown is fetched from the source, together with one more choice to tell
+   * whether a next page exists. The choices are numbered across pages; the user enters the number
+   * of a choice on the current page, or {@code n} and {@code p} to move to the next or previous
+   * page, which is fetched on demand. In batch mode the answer may be the number or the label of a
+   * choice; labels are looked up page by page.
+   *
+   * @param question the question to display
+   * @param source the source of the choices
+   * @param <T> the type of value returned
+   * @return the value of the selected choice
+   * @throws EOFException if the input ended before a choice was selected
+   * @throws IOException if an I/O error occurs or the source fails
+   * @throws ValidationException if the source has no choices, or in batch mode, if there is no
+   *     valid answer
+   */
+  public <T> T askChoice(String question, ChoiceSource<T> source) throws IOException {
+    if (this.answers != null) {
+      String s = this.answers.get(question).trim();
+      for (int offset = 0; ; offset += PAGE_SIZE) {
+        List<Choice<T>> page = source.page(offset, PAGE_SIZE);
+        for (Choice<T> c : page) if (c.label().equalsIgnoreCase(s)) return c.value();
+        if (page.size() < PAGE_SIZE) break;
+      }
+    }
+
+    OptionalInt total = source.total();
+    int offset = 0;
+    List<Choice<T>> page = source.page(offset, PAGE_SIZE + 1);
+    if (page.isEmpty()) throw new ValidationException("No choices provided");
+    boolean render = this.answers == null;
+    while (true) {
+      int shown = Math.min(page.size(), PAGE_SIZE);
+      boolean more = page.size() > PAGE_SIZE;
+      if (render) {
+        this.cb.text(question).println();
+        for (int i = 0; i < shown; i++) {
+          this.cb.text("  " + (offset + i + 1) + ") " + page.get(i).label()).println();
+        }
+        String pages = total.isPresent() ? "/" + Math.ceilDiv(total.getAsInt(), PAGE_SIZE) : "";
+        this.cb.text("  [" + (offset / PAGE_SIZE + 1) + pages + "]").println();
+        render = false;
+      }
+
+      String s = this.read(question, this.cb.msg(PROMPT_PAGED_CHOICE));
+      if (s == null) throw new EOFException("End of input");
+      s = s.trim();
+      boolean next = s.equalsIgnoreCase("n") && more;
+      if (this.answers == null && (next || s.equalsIgnoreCase("p") && offset > 0)) {
+        offset = next ? offset + PAGE_SIZE : offset - PAGE_SIZE;
+        page = source.page(offset, PAGE_SIZE + 1);
+        render = true;
+        continue;
+      }
+      try {
+        int n = Integer.parseInt(s) - 1;
+        if (this.answers != null && n >= 0) {
+          List<Choice<T>> one = source.page(n, 1);
+          if (!one.isEmpty()) return one.getFirst().value();
+        } else if (n >= offset && n < offset + shown) {
+          return page.get(n - offset).value();
+        }
+      } catch (NumberFormatException _) {
+      }
+      this.invalid(this.cb.msg(ERROR_INVALID_CHOICE));
+    }
+  }
+
+  /**
+   * Asks the user to select from a list of choices with the arrow keys.
+   *
+   * <p>The choices are listed below the question with the current one highlighted. Arrow up and
+   * down move the highlight by one row, Page Up and Page Down by ten, and Home and End to the first
+   * and last choice; Enter selects. When the highlight moves, only the two affected rows are
+   * redrawn. Keys are decoded from {@code keys}, whose terminal must be in raw mode. In batch mode
+   * the answer is taken from the answers as in {@link #askChoice(String, List)}.
+   *
+   * <p>If the builder is in {@link ConsoleBuilder#isPlain() plain mode}, the list cannot be redrawn
+   * in place, so the choices are numbered and read as a line from the input source as in {@link
+   * #askChoice(String, List)}; {@code keys} is not used.
+   *
+   * @param question the question to display
+   * @param choices the list of selectable choices
+   * @param keys the decoder supplying key presses
+   * @param <T> the type of value returned
+   * @return the value of the selected choice
+   * @throws InterruptedIOException if the user pressed Ctrl-C
+   * @throws EOFException if the input ended before a choice was selected
+   * @throws IOException if an I/O error occurs
+   * @throws ValidationException if the choices list is null or empty, or in batch mode, if there is
+   *     no valid answer
+   */
+  public <T> T askChoice(String question, List<Choice<T>> choices, KeyDecoder keys)
+      throws IOException {
+    if (choices == null || choices.isEmpty()) {
+      throw new ValidationException("No choices provided");
+    }
+    if (this.answers != null || this.cb.isPlain()) return this.askChoice(question, choices);
+
+    int rows = choices.size();
+    int selected = 0;
+    this.cb.text("\r" + question).newline();
+    for (int i = 0; i < rows; i++) {
+      this.cb.text("\r");
+      this.choiceRow(choices.get(i), i == selected);
+      this.cb.newline();
+    }
+    this.cb.print();
+
+    while (true) {
+      KeyEvent e = keys.next();
+      if (e == null) throw new EOFException("End of input");
+      if (e.key() == Key.ENTER) return choices.get(selected).value();
+      if (e.key() == Key.CTRL_C) throw new InterruptedIOException("Selection cancelled");
+      int target =
+          switch (e.key()) {
+            case UP -> selected - 1;
+            case DOWN -> selected + 1;
+            case PAGE_UP -> selected - PAGE_SIZE;
+            case PAGE_DOWN -> selected + PAGE_SIZE;
+            case HOME -> 0;
+            case END -> rows - 1;
+            default -> selected;
+          };
+      target = Math.clamp(target, 0, rows - 1);
+      if (target == selected) continue;
+      this.redrawRow(choices.get(selected), rows - selected, false);
+      this.redrawRow(choices.get(target), rows - target, true);
+      this.cb.print();
+      selected = target;
+    }
+  }
+
+  /**
+   * Asks the user to select from a large list of choices by typing part of a label.
+   *
+   * <p>Below the question, the best {@value #PAGE_SIZE} matches for the text typed so far are
+   * listed, followed by the total number of matches. Every typed character narrows the matches
+   * using the {@link ChoiceIndex}; Backspace widens them again and Escape clears the text. Arrow up
+   * and down move the highlight within the listed matches and Enter selects the highlighted one.
+   * Only the question, the listed matches and the count are redrawn, so each key press costs the
+   * same however many choices there are. Keys are decoded from {@code keys}, whose terminal must be
+   * in raw mode. In batch mode the answer must be the label of a choice, ignoring case.
+   *
+   * <p>If the builder is in {@link ConsoleBuilder#isPlain() plain mode}, the matches are listed
+   * line by line instead: the user enters the number of a listed match, or text to search for,
+   * which lists the new matches below. The lines are read from the input source; {@code keys} is
+   * not used.
+   *
+   * @param question the question to display
+   * @param index the indexed choices
+   * @param keys the decoder supplying key presses
+   * @param <T> the type of value returned
+   * @return the value of the selected choice
+   * @throws InterruptedIOException if the user pressed Ctrl-C
+   * @throws EOFException if the input ended before a choice was selected
+   * @throws IOException if an I/O error occurs
+   * @throws ValidationException in batch mode, if there is no valid answer
+   */
+  public <T> T askChoice(String question, ChoiceIndex<T> index, KeyDecoder keys)
+      throws IOException {
+    if (this.answers != null) {
+      String s = this.answers.get(question).trim();
+      for (int i : index.matches(ChoiceIndex.normalize(s), null)) {
+        if (index.choice(i).label().equalsIgnoreCase(s)) return index.choice(i).value();
+      }
+      this.invalid(this.cb.msg(ERROR_INVALID_CHOICE));
+    }
+    if (this.cb.isPlain()) return this.searchLines(question, index);
+
+    StringBuilder query = new StringBuilder();
+    Deque<int[]> history = new ArrayDeque<>();
+    int[] matches = index.matches("", null);
+    List<Choice<T>> page = index.top(matches, "", PAGE_SIZE);
+    int selected = 0;
+    this.searchView(question, query, page, selected, matches.length, false);
+
+    while (true) {
+      KeyEvent e = keys.next();
+      if (e == null) throw new EOFException("End of input");
+      switch (e.key()) {
+        case ENTER -> {
+          if (!page.isEmpty()) return page.get(selected).value();
+          continue;
+        }
+        case CTRL_C -> throw new InterruptedIOException("Selection cancelled");
+        case UP, DOWN -> {
+          if (page.isEmpty()) continue;
+          int target = Math.clamp(selected + (e.key() == Key.UP ? -1 : 1), 0, page.size() - 1);
+          if (target == selected) continue;
+          this.redrawRow(page.get(selected), PAGE_SIZE + 1 - selected, false);
+          this.redrawRow(page.get(target), PAGE_SIZE + 1 - target, true);
+          this.cb.print();
+          selected = target;
+          continue;
+        }
+        case CHARACTER -> {
+          String before = ChoiceIndex.normalize(query.toString());
+          query.appendCodePoint(e.codePoint());
+          String q = ChoiceIndex.normalize(query.toString());
+          history.push(matches);
+          // typing only narrows the matches, so only the previous ones are checked again
+          matches = index.matches(q, q.startsWith(before) ? matches : null);
+        }
+        case BACKSPACE -> {
+          if (query.isEmpty()) continue;
+          query.setLength(query.offsetByCodePoints(query.length(), -1));
+          matches = history.pop();
+        }
+        case ESCAPE -> {
+          if (query.isEmpty()) continue;
+          query.setLength(0);
+          while (history.size() > 1) history.pop();
+          matches = history.pop();
+        }
+        default -> {
+          continue;
+        }
+      }
+      page = index.top(matches, ChoiceIndex.normalize(query.toString()), PAGE_SIZE);
+      selected = 0;
+      this.searchView(question, query, page, selected, matches.length, true);
+    }
+  }
+
+  /**
+   * Asks the user to select from indexed choices by entering search text and numbers line by line.
+   *
+   * <p>A number selects the matching entry of the listed page. Any other input, including a number
+   * outside the page, becomes the new search text; text without matches is rejected.
+   *
+   * @param question the question to display
+   * @param index the indexed choices
+   * @param <T> the type of value returned
+   * @return the value of the selected choice
+   * @throws EOFException if the input ended before a choice was selected
+   * @throws IOException if an I/O error occurs
+   */
+  private <T> T searchLines(String question, ChoiceIndex<T> index) throws IOException {
+    String query = "";
+    int[] matches = index.matches(query, null);
+    while (true) {
+      List<Choice<T>> page = index.top(matches, query, PAGE_SIZE);
+      this.cb.text(question).println();
+      for (int i = 0; i < page.size(); i++) {
+        this.cb.text("  " + (i + 1) + ") " + page.get(i).label()).println();
+      }
+      this.cb.text("  " + this.cb.msg(PROMPT_MATCHES, matches.length)).println();
+
+      String s = this.read(question, this.cb.msg(PROMPT_SEARCH));
+      if (s == null) throw new EOFException("End of input");
+      s = s.trim();
+      try {
+        int n = Integer.parseInt(s) - 1;
+        if (n >= 0 && n < page.size()) return page.get(n).value();
+      } catch (NumberFormatException _) {
+      }
+      String next = ChoiceIndex.normalize(s);
+      int[] found = index.matches(next, null);
+      if (found.length == 0) {
+        this.invalid(this.cb.msg(ERROR_INVALID_CHOICE));
+        continue;
+      }
+      query = next;
+      matches = found;
     }
   }
 
+  /**
+   * Renders the question, the listed matches and the match count of a type-ahead choice prompt.
+   *
+   * @param question the question
+   * @param query the text typed so far
+   * @param page the listed matches
+   * @param selected the position of the highlighted match
+   * @param count the total number of matches
+   * @param redraw whether to overwrite the previous rendering
+   */
+  private void searchView(
+      String question,
+      CharSequence query,
+      List<? extends Choice<?>> page,
+      int selected,
+      int count,
+      boolean redraw) {
+    if (redraw) this.cb.cursorUp(PAGE_SIZE + 2);
+    this.cb.text("\r" + question + " " + query).eraseLine().text("\n");
+    for (int i = 0; i < PAGE_SIZE; i++) {
+      this.cb.text("\r");
+      if (i < page.size()) this.choiceRow(page.get(i), i == selected);
+      this.cb.eraseLine().text("\n");
+    }
+    this.cb.text("\r  " + this.cb.msg(PROMPT_MATCHES, count)).eraseLine().text("\n").print();
+  }
+
+  /**
+   * Appends one row of an arrow-key choice list.
+   *
+   * @param choice the choice
+   * @param highlighted whether the row is highlighted
+   */
+  private void choiceRow(Choice<?> choice, boolean highlighted) {
+    if (highlighted) {
+      this.cb.style(AnsiStyle.INVERT).text("> " + choice.label()).style(AnsiStyle.RESET_INVERT);
+    } else {
+      this.cb.text("  " + choice.label());
+    }
+  }
+
+  /**
+   * Rewrites one row of an arrow-key choice list in place and returns the cursor below the list.
+   *
+   * @param choice the choice shown in the row
+   * @param up the number of lines between the row and the line below the list
+   * @param highlighted whether the row is highlighted
+   */
+  private void redrawRow(Choice<?> choice, int up, boolean highlighted) {
+    this.cb.cursorUp(up).text("\r");
+    this.choiceRow(choice, highlighted);
+    this.cb.eraseLine().cursorDown(up).text("\r");
+  }
+
   /**
    * Asks the user for input matching a regular expression. Repeats until the input matches the
    * pattern.
@@ -185,6 +634,7 @@ public record Prompt(ConsoleBuilder cb) {
    * @param errorMessage the message to display on mismatch
    * @return the validated input
    * @throws IOException if an I/O error occurs
+   * @throws ValidationException in batch mode, if there is no valid answer
    * @throws NullPointerException if regex is null
    * @see #ask(String)
    */
@@ -193,7 +643,7 @@ public record Prompt(ConsoleBuilder cb) {
     while (true) {
       String s = this.ask(question);
       if (s != null && s.matches(regex)) return s;
-      this.printErrorMessage(errorMessage);
+      this.invalid(errorMessage);
     }
   }
 
@@ -207,6 +657,7 @@ public record Prompt(ConsoleBuilder cb) {
    * @param <T> the type of value returned
    * @return the mapped value
    * @throws IOException if an I/O error occurs
+   * @throws ValidationException in batch mode, if there is no valid answer
    * @throws NullPointerException if mapper is null
    * @see #ask(String)
    */
@@ -218,7 +669,7 @@ public record Prompt(ConsoleBuilder cb) {
       try {
         return mapper.apply(s);
       } catch (Exception _) {
-        this.printErrorMessage(errorMessage);
+        this.invalid(errorMessage);
       }
     }
   }
@@ -0,0 +1,216 @@
+package io.github.lambdaphoenix.simpleterminal.prompt;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.InterruptedIOException;
+import java.io.Reader;
+import java.time.Duration;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * An {@link InputSource} that reads lines from a {@link Reader} on a background virtual thread.
+ *
+ * <p>The reader thread is started on the first read and reads on demand: each read requests one
+ * line, which the thread reads and queues, or the end marker or error that stopped it. While no
+ * line is requested, the thread parks without touching the reader, so input nobody asked for stays
+ * available to other consumers of the stream, such as a {@link KeyDecoder}. Reads take lines from
+ * the queue, so they can time out and be cancelled regardless of the underlying reader; the line of
+ * a read that timed out is kept for the next read. Waiting uses only {@code java.util.concurrent}
+ * primitives, so it never pins the carrier of a virtual thread.
+ *
+ * <p>Closing the source fails the waiting read and all later reads at once. If the reader thread is
+ * blocked in the reader at that moment, the reader is closed as soon as that line arrives, since
+ * closing it earlier would wait for the same line.
+ *
+ * @author lambdaphoenix
+ * @version 2026-10-16
+ * @since 0.2.0
+ */
+final class ReaderSource implements InputSource {
+  /** Queue marker for the end of input. */
+  private static final Object EOF = new Object();
+
+  /** State of a reader thread that is not reading. */
+  private static final int IDLE = 0;
+
+  /** State of a reader thread blocked in the reader. */
+  private static final int READING = 1;
+
+  /** State of a closed source. */
+  private static final int CLOSED = 2;
+
+  /** Source reading from the current {@code System.in}. */
+  private static ReaderSource stdin;
+
+  /** Stream the stdin source was created for. */
+  private static InputStream stdinStream;
+
+  /**
+   * Queue marker cancelling a read.
+   *
+   * @param read the number of the cancelled read
+   */
+  private record Cancel(long read) {}
+
+  /** Reader the lines are read from. */
+  private final BufferedReader reader;
+
+  /** Lines, markers and errors produced by the reader thread; holds at most one line. */
+  private final BlockingQueue<Object> queue = new LinkedBlockingQueue<>();
+
+  /** Permits for the reader thread to read one line each. */
+  private final Semaphore requests = new Semaphore(0);
+
+  /** Serializes reads. */
+  private final ReentrantLock lock = new ReentrantLock();
+
+  /** Thread reading from the reader, or {@code null} if not started yet. */
+  private Thread pump;
+
+  /** Number of reads started so far. */
+  private long reads;
+
+  /** Whether a line was requested that no read has taken yet. */
+  private boolean requested;
+
+  /** State of the reader thread: {@link #IDLE}, {@link #READING} or {@link #CLOSED}. */
+  private final AtomicInteger state = new AtomicInteger(IDLE);
+
+  /** Number of the read currently waiting, or -1. */
+  private volatile long pending = -1;
+
+  /**
+   * Creates a new {@code ReaderSource}.
+   *
+   * @param reader the reader to read lines from
+   */
+  ReaderSource(Reader reader) {
+    this.reader = reader instanceof BufferedReader b ? b : new BufferedReader(reader);
+  }
+
+  /**
+   * Returns the source reading from {@code System.in}, creating a new one if it was replaced.
+   *
+   * @return the source for standard input
+   */
+  static synchronized ReaderSource stdin() {
+    if (stdin == null || stdinStream != System.in) {
+      stdinStream = System.in;
+      stdin = new ReaderSource(new InputStreamReader(System.in));
+    }
+    return stdin;
+  }
+
+  @Override
+  public String readLine(Duration timeout) throws IOException {
+    try {
+      this.lock.lockInterruptibly();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Read interrupted");
+    }
+    if (this.state.get() == CLOSED) {
+      this.lock.unlock();
+      throw closedException();
+    }
+    if (this.pump == null)
+      this.pump = Thread.ofVirtual().name("simpleterminal-input").start(this::pump);
+    if (!this.requested) {
+      this.requested = true;
+      this.requests.release();
+    }
+
+    long id = ++this.reads;
+    long deadline = timeout == null ? 0 : System.nanoTime() + timeout.toNanos();
+    this.pending = id;
+    try {
+      while (true) {
+        Object o;
+        if (timeout == null) {
+          o = this.queue.take();
+        } else {
+          o = this.queue.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+          if (o == null) throw new InterruptedIOException("Read timed out");
+        }
+        if (o instanceof Cancel c) {
+          if (c.read() == id) throw new InterruptedIOException("Read cancelled");
+          continue; // arrived after the read it was meant for
+        }
+        if (o == EOF || o instanceof IOException) this.queue.add(o); // keep reporting it
+        if (o == EOF) return null;
+        if (o instanceof IOException e) throw e;
+        this.requested = false;
+        return (String) o;
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Read interrupted");
+    } finally {
+      this.pending = -1;
+      this.lock.unlock();
+    }
+  }
+
+  @Override
+  public void cancel() {
+    long id = this.pending;
+    if (id >= 0) this.queue.add(new Cancel(id));
+  }
+
+  /**
+   * Closes this source.
+   *
+   * <p>A waiting read and all later reads fail with an {@link IOException}. The reader is closed at
+   * once, or by the reader thread as soon as the line it is blocked on arrives.
+   *
+   * @throws IOException if closing the reader fails
+   */
+  @Override
+  public void close() throws IOException {
+    int previous = this.state.getAndSet(CLOSED);
+    if (previous == CLOSED) return;
+    this.queue.add(closedException());
+    this.requests.release();
+    if (previous == IDLE) this.reader.close();
+  }
+
+  /**
+   * Returns the exception reported by reads from a closed source.
+   *
+   * @return a new exception
+   */
+  private static IOException closedException() {
+    return new IOException("Input source closed");
+  }
+
+  /** Main loop of the reader thread, reading one line per request. */
+  private void pump() {
+    try {
+      while (true) {
+        this.requests.acquire();
+        if (!this.state.compareAndSet(IDLE, READING)) return;
+        String line;
+        try {
+          line = this.reader.readLine();
+        } finally {
+          if (!this.state.compareAndSet(READING, IDLE)) this.reader.close();
+        }
+        if (this.state.get() == CLOSED) return;
+        if (line == null) break;
+        this.queue.add(line);
+      }
+      this.queue.add(EOF);
+    } catch (IOException e) {
+      this.queue.add(e);
+    } catch (InterruptedException _) {
+      // never interrupted; stop reading
+    }
+  }
+}
@@ -12,6 +12,16 @@
  *       input
  *   <li>{@link io.github.lambdaphoenix.simpleterminal.prompt.Choice} – generic option wrapper for
  *       selection prompts
+ *   <li>{@link io.github.lambdaphoenix.simpleterminal.prompt.InputSource} – pluggable source of
+ *       input lines with timeouts and cancellation
+ *   <li>{@link io.github.lambdaphoenix.simpleterminal.prompt.Answers} – predefined answers for
+ *       unattended batch runs
+ *   <li>{@link io.github.lambdaphoenix.simpleterminal.prompt.ChoiceSource} – supplies choices
+ *       lazily page by page
+ *   <li>{@link io.github.lambdaphoenix.simpleterminal.prompt.ChoiceIndex} – trigram index over
+ *       choice labels for type-ahead filtering of large lists
+ *   <li>{@link io.github.lambdaphoenix.simpleterminal.prompt.KeyDecoder} – decodes raw terminal
+ *       key presses into {@link io.github.lambdaphoenix.simpleterminal.prompt.KeyEvent}s
  * </ul>
  *
  * <h2>Usage Example:</h2>
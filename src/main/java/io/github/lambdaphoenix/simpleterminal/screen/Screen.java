@@ -0,0 +1,390 @@
+package io.github.lambdaphoenix.simpleterminal.screen;
+
+import io.github.lambdaphoenix.simpleterminal.ansi.AnsiColor;
+import io.github.lambdaphoenix.simpleterminal.ansi.AnsiStyle;
+import io.github.lambdaphoenix.simpleterminal.ansi.DisplayWidth;
+import io.github.lambdaphoenix.simpleterminal.box.BoxStyle;
+import io.github.lambdaphoenix.simpleterminal.core.ConsoleConfig;
+import java.util.Arrays;
+
+/**
+ * Represents an off-screen frame as a fixed grid of styled cells.
+ *
+ * <p>A {@code Screen} offers drawing operations modeled after {@link
+ * io.github.lambdaphoenix.simpleterminal.core.ConsoleBuilder} (text, rules, and boxes), but instead
+ * of appending to a stream they write into a grid of cells at explicit positions. Each cell holds a
+ * single code point together with the foreground color, background color and text attributes that
+ * were active when it was drawn. A wide character occupies two cells: its own and a continuation
+ * cell to its right, which the renderer skips. Drawing outside the grid is clipped silently.
+ *
+ * <p>Frames are displayed with a {@link ScreenRenderer}, which compares them with the previously
+ * displayed frame and only emits the cells that changed.
+ *
+ * <h2>Usage Example:</h2>
+ *
+ * <pre>{@code
+ * Screen screen = new Screen(80, 24);
+ * ScreenRenderer renderer = new ScreenRenderer();
+ * while (running) {
+ *   screen.clear().color(AnsiColor.GREEN).text(0, 0, "CPU: " + cpu()).reset();
+ *   screen.box(0, 2, "Jobs", jobs());
+ *   renderer.render(screen, cb);
+ *   cb.print();
+ * }
+ * }</pre>
+ *
+ * @author lambdaphoenix
+ * @version 2026-10-16
+ * @since 0.2.0
+ */
+public class Screen {
+  /** Code point of the cell covered by the right half of the wide character to its left. */
+  static final int CONTINUATION = -2;
+
+  /** Width of the grid in cells. */
+  private final int width;
+
+  /** Height of the grid in cells. */
+  private final int height;
+
+  /** Code point of each cell, row by row. */
+  final int[] chars;
+
+  /** Foreground color of each cell, {@code null} for the terminal default. */
+  final AnsiColor[] fgs;
+
+  /** Background color of each cell, {@code null} for the terminal default. */
+  final AnsiColor[] bgs;
+
+  /** Attribute bits of each cell, one bit per {@link AnsiStyle} ordinal. */
+  final short[] attrs;
+
+  /** Current foreground color used for drawing. */
+  private AnsiColor fg;
+
+  /** Current background color used for drawing. */
+  private AnsiColor bg;
+
+  /** Current attribute bits used for drawing. */
+  private short attr;
+
+  /** Current default box style for framed content. */
+  private BoxStyle boxStyle;
+
+  /**
+   * Creates a new blank {@code Screen}.
+   *
+   * @param width the number of columns, must be greater than 0
+   * @param height the number of rows, must be greater than 0
+   * @throws IllegalArgumentException if {@code width} or {@code height} is not positive
+   */
+  public Screen(int width, int height) {
+    if (width <= 0 || height <= 0) throw new IllegalArgumentException("Size must be > 0");
+    this.width = width;
+    this.height = height;
+    this.chars = new int[width * height];
+    this.fgs = new AnsiColor[width * height];
+    this.bgs = new AnsiColor[width * height];
+    this.attrs = new short[width * height];
+    this.boxStyle = ConsoleConfig.DEFAULT_BOX_STYLE;
+    Arrays.fill(this.chars, ' ');
+  }
+
+  /**
+   * Returns the bit for a style in the cell attribute mask.
+   *
+   * @param style a style that is not a reset
+   * @return the attribute bit
+   */
+  static short bit(AnsiStyle style) {
+    return (short) (1 << style.ordinal());
+  }
+
+  /**
+   * Returns the number of columns.
+   *
+   * @return the width in cells
+   */
+  public int width() {
+    return this.width;
+  }
+
+  /**
+   * Returns the number of rows.
+   *
+   * @return the height in cells
+   */
+  public int height() {
+    return this.height;
+  }
+
+  /**
+   * Sets the foreground color for subsequent drawing.
+   *
+   * @param color the ANSI color
+   * @return this screen for chaining
+   */
+  public Screen color(AnsiColor color) {
+    this.fg = color;
+    return this;
+  }
+
+  /**
+   * Sets the background color for subsequent drawing.
+   *
+   * @param bgColor the ANSI background color
+   * @return this screen for chaining
+   */
+  public Screen bg(AnsiColor bgColor) {
+    this.bg = bgColor;
+    return this;
+  }
+
+  /**
+   * Applies a text style (or style reset) to subsequent drawing.
+   *
+   * @param style the ANSI style
+   * @return this screen for chaining
+   */
+  public Screen style(AnsiStyle style) {
+    switch (style) {
+      case RESET_ALL -> this.reset();
+      case RESET_BOLD_DIM -> this.attr &= (short) ~(bit(AnsiStyle.BOLD) | bit(AnsiStyle.DIM));
+      case RESET_ITALIC -> this.attr &= (short) ~bit(AnsiStyle.ITALIC);
+      case RESET_UNDERLINE ->
+          this.attr &= (short) ~(bit(AnsiStyle.UNDERLINE) | bit(AnsiStyle.DOUBLE_UNDERLINE));
+      case RESET_INVERT -> this.attr &= (short) ~bit(AnsiStyle.INVERT);
+      case RESET_STRIKETHROUGH -> this.attr &= (short) ~bit(AnsiStyle.STRIKETHROUGH);
+      default -> this.attr |= bit(style);
+    }
+    return this;
+  }
+
+  /**
+   * Resets all colors and styles used for drawing.
+   *
+   * @return this screen for chaining
+   */
+  public Screen reset() {
+    this.fg = null;
+    this.bg = null;
+    this.attr = 0;
+    return this;
+  }
+
+  /**
+   * Sets the default box style for framed content.
+   *
+   * @param boxStyle the box style to use
+   * @return this screen for chaining
+   */
+  public Screen boxStyle(BoxStyle boxStyle) {
+    this.boxStyle = boxStyle;
+    return this;
+  }
+
+  /**
+   * Blanks every cell with spaces in the default style. The drawing style is not changed.
+   *
+   * @return this screen for chaining
+   */
+  public Screen clear() {
+    Arrays.fill(this.chars, ' ');
+    Arrays.fill(this.fgs, null);
+    Arrays.fill(this.bgs, null);
+    Arrays.fill(this.attrs, (short) 0);
+    return this;
+  }
+
+  /**
+   * Writes a single code point with the current style.
+   *
+   * <p>A {@link DisplayWidth#of(int) wide} code point also covers the cell to its right; if that
+   * cell is outside the grid, a space is written instead. A wide character partly overwritten is
+   * replaced by spaces.
+   *
+   * @param col the column (0-based)
+   * @param row the row (0-based)
+   * @param codePoint the code point to write
+   * @return this screen for chaining
+   */
+  public Screen put(int col, int row, int codePoint) {
+    if (col < 0 || col >= this.width || row < 0 || row >= this.height) return this;
+    boolean wide = DisplayWidth.of(codePoint) == 2;
+    if (wide && col + 1 == this.width) codePoint = ' ';
+    int i = row * this.width + col;
+    this.cell(i, codePoint);
+    if (wide && col + 1 < this.width) this.cell(i + 1, CONTINUATION);
+    return this;
+  }
+
+  /**
+   * Writes text starting at a position with the current style. Line breaks are not interpreted.
+   *
+   * <p>Wide characters advance by two columns. Zero-width code points such as combining marks
+   * cannot be placed in a cell of their own and are left out.
+   *
+   * @param col the starting column (0-based)
+   * @param row the row (0-based)
+   * @param text the text to write
+   * @return this screen for chaining
+   */
+  public Screen text(int col, int row, String text) {
+    return this.text(col, row, text, 0, text.length());
+  }
+
+  /**
+   * Writes a range of a text starting at a position with the current style.
+   *
+   * @param col the starting column (0-based)
+   * @param row the row (0-based)
+   * @param text the text containing the range
+   * @param from the start of the range, inclusive
+   * @param to the end of the range, exclusive
+   * @return this screen for chaining
+   */
+  private Screen text(int col, int row, CharSequence text, int from, int to) {
+    for (int i = from; i < to && col < this.width; ) {
+      int cp = Character.codePointAt(text, i);
+      i += Character.charCount(cp);
+      int w = DisplayWidth.of(cp);
+      if (w == 0) continue;
+      this.put(col, row, cp);
+      col += w;
+    }
+    return this;
+  }
+
+  /**
+   * Sets one cell to a code point with the current style, blanking the other half of a wide
+   * character it overwrites.
+   *
+   * @param i the index of the cell
+   * @param codePoint the code point, or {@link #CONTINUATION}
+   */
+  private void cell(int i, int codePoint) {
+    int col = i % this.width;
+    if (this.chars[i] == CONTINUATION && codePoint != CONTINUATION) this.chars[i - 1] = ' ';
+    if (col + 1 < this.width && this.chars[i + 1] == CONTINUATION) this.chars[i + 1] = ' ';
+    this.chars[i] = codePoint;
+    this.fgs[i] = this.fg;
+    this.bgs[i] = this.bg;
+    this.attrs[i] = this.attr;
+  }
+
+  /**
+   * Draws a horizontal rule across the full width of a row.
+   *
+   * @param row the row (0-based)
+   * @param ch the character to repeat
+   * @return this screen for chaining
+   */
+  public Screen rule(int row, char ch) {
+    return this.rule(0, row, ch, this.width);
+  }
+
+  /**
+   * Draws a horizontal rule with a specified width.
+   *
+   * @param col the starting column (0-based)
+   * @param row the row (0-based)
+   * @param ch the character to repeat
+   * @param width the width of the rule
+   * @return this screen for chaining
+   */
+  public Screen rule(int col, int row, char ch, int width) {
+    for (int i = 0; i < Math.max(1, width); i++) this.put(col + i, row, ch);
+    return this;
+  }
+
+  /**
+   * Draws a boxed section with a title and content using the default box style.
+   *
+   * @param col the column of the top-left corner (0-based)
+   * @param row the row of the top-left corner (0-based)
+   * @param title the box title (may be null or blank)
+   * @param content the box content
+   * @return this screen for chaining
+   */
+  public Screen box(int col, int row, String title, String content) {
+    return this.box(col, row, title, content, this.boxStyle);
+  }
+
+  /**
+   * Draws a boxed section with a title and content using a specific box style.
+   *
+   * <p>The layout matches {@link
+   * io.github.lambdaphoenix.simpleterminal.core.ConsoleBuilder#box(String, String, BoxStyle)}: the
+   * box is sized by the {@link DisplayWidth display width} of the title and lines.
+   *
+   * @param col the column of the top-left corner (0-based)
+   * @param row the row of the top-left corner (0-based)
+   * @param title the box title (may be null or blank)
+   * @param content the box content
+   * @param style the box style to use
+   * @return this screen for chaining
+   */
+  public Screen box(int col, int row, String title, String content, BoxStyle style) {
+    boolean hasTitle = title != null && !title.isBlank();
+    int inner = hasTitle ? DisplayWidth.of(title) : 0;
+    for (int from = 0, to; ; from = DisplayWidth.nextLine(content, to)) {
+      to = DisplayWidth.lineEnd(content, from);
+      inner = Math.max(inner, DisplayWidth.of(content, from, to));
+      if (to == content.length()) break;
+    }
+
+    this.border(col, row++, style.topLeft(), style.horizontal(), style.topRight(), inner);
+    if (hasTitle) {
+      this.boxLine(col, row++, style.vertical(), title, 0, title.length(), inner);
+      this.border(
+          col,
+          row++,
+          style.junctionLeft(),
+          style.junctionHorizontal(),
+          style.junctionRight(),
+          inner);
+    }
+    for (int from = 0, to; ; from = DisplayWidth.nextLine(content, to)) {
+      to = DisplayWidth.lineEnd(content, from);
+      this.boxLine(col, row++, style.vertical(), content, from, to, inner);
+      if (to == content.length()) break;
+    }
+    this.border(col, row, style.bottomLeft(), style.horizontal(), style.bottomRight(), inner);
+    return this;
+  }
+
+  /**
+   * Draws a horizontal box border.
+   *
+   * @param col the starting column
+   * @param row the row
+   * @param left the left corner or junction glyph
+   * @param horizontal the horizontal glyph
+   * @param right the right corner or junction glyph
+   * @param inner the inner width of the box
+   */
+  private void border(int col, int row, String left, String horizontal, String right, int inner) {
+    this.text(col, row, left);
+    for (int i = 1; i <= inner + 2; i++) this.text(col + i, row, horizontal);
+    this.text(col + inner + 3, row, right);
+  }
+
+  /**
+   * Draws a padded content line of a box.
+   *
+   * @param col the starting column
+   * @param row the row
+   * @param vertical the vertical border glyph
+   * @param text the text containing the line
+   * @param from the start of the line in {@code text}
+   * @param to the end of the line in {@code text}
+   * @param inner the inner width of the box
+   */
+  private void boxLine(
+      int col, int row, String vertical, CharSequence text, int from, int to, int inner) {
+    this.text(col, row, vertical);
+    this.rule(col + 1, row, ' ', inner + 2);
+    this.text(col + 2, row, text, from, to);
+    this.text(col + inner + 3, row, vertical);
+  }
+}
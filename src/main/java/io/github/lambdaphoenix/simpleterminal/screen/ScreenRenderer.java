@@ -0,0 +1,196 @@
+package io.github.lambdaphoenix.simpleterminal.screen;
+
+import io.github.lambdaphoenix.simpleterminal.ansi.AnsiColor;
+import io.github.lambdaphoenix.simpleterminal.ansi.AnsiStyle;
+import io.github.lambdaphoenix.simpleterminal.core.ConsoleBuilder;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Renders {@link Screen} frames by emitting only the cells that changed since the last frame.
+ *
+ * <p>The renderer keeps a copy of the frame that is currently displayed. On each call to {@link
+ * #render(Screen, ConsoleBuilder)} the new frame is compared cell by cell with that copy, and only
+ * the differences are written: a cursor positioning sequence where the next changed cell is not
+ * adjacent to the cursor, the style changes between cells, and the changed characters themselves.
+ * The output volume per frame is therefore proportional to the number of changes rather than to the
+ * size of the screen.
+ *
+ * <p>The screen is drawn at the top-left corner of the terminal. The first frame, and the first
+ * frame after {@link #invalidate()} or a change of the screen size, is drawn completely.
+ *
+ * <h2>Usage Example:</h2>
+ *
+ * <pre>{@code
+ * ScreenRenderer renderer = new ScreenRenderer();
+ * renderer.render(screen, cb);
+ * cb.print();
+ * }</pre>
+ *
+ * @author lambdaphoenix
+ * @version 2026-10-16
+ * @since 0.2.0
+ */
+public class ScreenRenderer {
+  /** All styles, indexed by ordinal, for mapping attribute bits back to styles. */
+  private static final AnsiStyle[] STYLES = AnsiStyle.values();
+
+  /** Code points of the displayed frame, or {@code null} if nothing has been displayed. */
+  private int[] chars;
+
+  /** Foreground colors of the displayed frame. */
+  private AnsiColor[] fgs;
+
+  /** Background colors of the displayed frame. */
+  private AnsiColor[] bgs;
+
+  /** Attribute bits of the displayed frame. */
+  private short[] attrs;
+
+  /** Width of the displayed frame. */
+  private int width;
+
+  /** Reusable buffer for a run of adjacent cells sharing one style. */
+  private final StringBuilder run = new StringBuilder();
+
+  /** Whether the style written during the current frame is known. */
+  private boolean penKnown;
+
+  /** Foreground color written last during the current frame. */
+  private AnsiColor penFg;
+
+  /** Background color written last during the current frame. */
+  private AnsiColor penBg;
+
+  /** Attribute bits written last during the current frame. */
+  private short penAttr;
+
+  /** Creates a new {@code ScreenRenderer} for which nothing has been displayed yet. */
+  public ScreenRenderer() {}
+
+  /** Forgets the displayed frame, so that the next frame is drawn completely. */
+  public void invalidate() {
+    this.chars = null;
+  }
+
+  /**
+   * Writes the changes between the displayed frame and {@code screen} to a console builder.
+   *
+   * <p>The output is appended to the builder; print or flush it to display the frame. All colors
+   * and styles are reset after the last changed cell.
+   *
+   * <p>If the builder is in {@link ConsoleBuilder#isPlain() plain mode}, the cursor cannot be
+   * positioned, so the whole frame is appended as one line of text per row, and all cells count as
+   * changed. The displayed frame is forgotten, so the next frame outside of plain mode is drawn
+   * completely.
+   *
+   * @param screen the new frame
+   * @param cb the builder receiving the output
+   * @return the number of cells that changed
+   */
+  public int render(Screen screen, ConsoleBuilder cb) {
+    int size = screen.chars.length;
+    if (cb.isPlain()) {
+      this.invalidate();
+      for (int i = 0; i < size; i++) {
+        if (screen.chars[i] != Screen.CONTINUATION) this.run.appendCodePoint(screen.chars[i]);
+        if ((i + 1) % screen.width() == 0) {
+          this.flushRun(cb);
+          cb.newline();
+        }
+      }
+      return size;
+    }
+    if (this.chars == null || this.chars.length != size || this.width != screen.width()) {
+      this.chars = new int[size];
+      this.fgs = new AnsiColor[size];
+      this.bgs = new AnsiColor[size];
+      this.attrs = new short[size];
+      this.width = screen.width();
+      Arrays.fill(this.chars, -1);
+    }
+
+    int changed = 0;
+    int cursor = -1;
+    this.penKnown = false;
+    for (int i = 0; i < size; i++) {
+      if (this.chars[i] == screen.chars[i]
+          && this.attrs[i] == screen.attrs[i]
+          && Objects.equals(this.fgs[i], screen.fgs[i])
+          && Objects.equals(this.bgs[i], screen.bgs[i])) continue;
+
+      this.chars[i] = screen.chars[i];
+      this.fgs[i] = screen.fgs[i];
+      this.bgs[i] = screen.bgs[i];
+      this.attrs[i] = screen.attrs[i];
+      changed++;
+      // the right half of a wide character is drawn together with its left half
+      if (screen.chars[i] == Screen.CONTINUATION) continue;
+
+      if (i != cursor) {
+        this.flushRun(cb);
+        cb.cursorTo(i / this.width + 1, i % this.width + 1);
+      }
+      this.pen(cb, screen.fgs[i], screen.bgs[i], screen.attrs[i]);
+      this.run.appendCodePoint(screen.chars[i]);
+
+      int next = i + 1 < size && screen.chars[i + 1] == Screen.CONTINUATION ? i + 2 : i + 1;
+      // reposition explicitly at the start of each row instead of relying on line wrapping
+      cursor = next % this.width == 0 ? -1 : next;
+    }
+    this.flushRun(cb);
+    if (changed > 0) cb.reset();
+    return changed;
+  }
+
+  /**
+   * Appends the buffered run of cells to the builder.
+   *
+   * @param cb the builder receiving the output
+   */
+  private void flushRun(ConsoleBuilder cb) {
+    if (this.run.isEmpty()) return;
+    cb.text(this.run.toString());
+    this.run.setLength(0);
+  }
+
+  /**
+   * Switches the pen to the style of the next cell, if it differs from the current one.
+   *
+   * <p>If the new style only adds attributes or changes colors, just those changes are applied;
+   * otherwise all styles are reset and the new style is applied from scratch.
+   *
+   * @param cb the builder receiving the output
+   * @param fg the foreground color of the cell
+   * @param bg the background color of the cell
+   * @param attr the attribute bits of the cell
+   */
+  private void pen(ConsoleBuilder cb, AnsiColor fg, AnsiColor bg, short attr) {
+    if (this.penKnown
+        && this.penAttr == attr
+        && Objects.equals(this.penFg, fg)
+        && Objects.equals(this.penBg, bg)) return;
+    this.flushRun(cb);
+
+    boolean incremental =
+        this.penKnown
+            && (this.penAttr & ~attr) == 0
+            && (this.penFg == null || fg != null)
+            && (this.penBg == null || bg != null);
+    if (!incremental) {
+      cb.reset();
+      this.penFg = null;
+      this.penBg = null;
+      this.penAttr = 0;
+    }
+    if (fg != null && !fg.equals(this.penFg)) cb.color(fg);
+    if (bg != null && !bg.equals(this.penBg)) cb.bg(bg);
+    int add = attr & ~this.penAttr;
+    for (int b = 0; add != 0; b++, add >>>= 1) if ((add & 1) != 0) cb.style(STYLES[b]);
+
+    this.penKnown = true;
+    this.penFg = fg;
+    this.penBg = bg;
+    this.penAttr = attr;
+  }
+}
@@ -0,0 +1,34 @@
+/**
+ * Provides an off-screen cell grid and a differential renderer for live terminal displays.
+ *
+ * <p>This package contains classes for drawing full-screen frames, such as dashboards, into a grid
+ * of styled cells and displaying them with minimal output. Instead of reprinting the whole screen
+ * on every update, only cells that changed since the previous frame are written, which avoids
+ * flicker and keeps the output volume proportional to the amount of change.
+ *
+ * <h2>Key Components:</h2>
+ *
+ * <ul>
+ *   <li>{@link io.github.lambdaphoenix.simpleterminal.screen.Screen} – grid of styled cells with
+ *       text, rule, and box drawing
+ *   <li>{@link io.github.lambdaphoenix.simpleterminal.screen.ScreenRenderer} – emits the difference
+ *       between consecutive frames
+ * </ul>
+ *
+ * <h2>Usage Example:</h2>
+ *
+ * <pre>{@code
+ * Screen screen = new Screen(40, 5);
+ * ScreenRenderer renderer = new ScreenRenderer();
+ * ConsoleBuilder cb = new ConsoleBuilder();
+ *
+ * screen.box(0, 0, "Status", "running");
+ * renderer.render(screen, cb);
+ * cb.print();
+ * }</pre>
+ *
+ * @author lambdaphoenix
+ * @version 2026-10-16
+ * @since 0.2.0
+ */
+package io.github.lambdaphoenix.simpleterminal.screen;
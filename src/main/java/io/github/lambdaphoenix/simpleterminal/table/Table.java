@@ -0,0 +1,348 @@
+package io.github.lambdaphoenix.simpleterminal.table;
+
+import io.github.lambdaphoenix.simpleterminal.ansi.DisplayWidth;
+import io.github.lambdaphoenix.simpleterminal.box.BoxStyle;
+import io.github.lambdaphoenix.simpleterminal.core.ConsoleBuilder;
+import io.github.lambdaphoenix.simpleterminal.core.ConsoleConfig;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * Renders rows of data as a boxed table, streaming rows as they arrive.
+ *
+ * <p>Column widths are determined before the first row is written. Instead of reading the whole
+ * dataset, the table buffers a sample of the first rows (100 by default, see {@link
+ * #sampleSize(int)}) and sizes each column to the widest header or cell in that sample. Columns can
+ * also be given fixed widths with {@link #widths(int...)}, and sampled widths can be capped with
+ * {@link #maxColumnWidth(int)}. Cells wider than their column are either truncated with an ellipsis
+ * or wrapped onto additional lines, see {@link Overflow}. All widths are measured in terminal
+ * columns with {@link DisplayWidth}.
+ *
+ * <p>After the sample, every row is written to the {@link ConsoleBuilder} as soon as it has been
+ * read, so memory use is bounded by the sample size. Configure the builder with a sink and a flush
+ * threshold to stream the output while rendering.
+ *
+ * <p>Cells are converted with {@link String#valueOf(Object)}; {@code null} cells are rendered
+ * empty. Missing cells are rendered empty and surplus cells are ignored. Cells should not contain
+ * line breaks. Since {@link BoxStyle} has no tee glyphs, horizontal borders run straight across the
+ * column separators.
+ *
+ * <h2>Usage Example:</h2>
+ *
+ * <pre>{@code
+ * ConsoleBuilder cb = new ConsoleBuilder(System.out).flushLineThreshold(64);
+ * new Table("Name", "Size")
+ *     .boxStyle(BoxStyle.ROUNDED)
+ *     .maxColumnWidth(40)
+ *     .render(cb, files.stream().map(f -> List.of(f.name(), f.size())));
+ * cb.print();
+ * }</pre>
+ *
+ * @author lambdaphoenix
+ * @version 2026-10-16
+ * @since 0.2.0
+ */
+public class Table {
+  /** Default number of rows used to size the columns. */
+  private static final int DEFAULT_SAMPLE_SIZE = 100;
+
+  /** Marker appended to truncated cells. */
+  private static final String ELLIPSIS = "…";
+
+  /** How cells wider than their column are handled. */
+  public enum Overflow {
+    /** Cut the cell and end it with an ellipsis. */
+    TRUNCATE,
+    /**
+     * Continue the cell on additional lines, breaking at spaces where possible. A character wider
+     * than its column gets a line of its own and overflows the column rather than being dropped.
+     */
+    WRAP
+  }
+
+  /** Column headers; their number defines the number of columns. */
+  private final String[] headers;
+
+  /** Fixed width per column, or 0 if the column is sized from the sample. */
+  private final int[] fixed;
+
+  /** Number of rows used to size the columns. */
+  private int sampleSize = DEFAULT_SAMPLE_SIZE;
+
+  /** Maximum width of a sampled column. */
+  private int maxColumnWidth = Integer.MAX_VALUE;
+
+  /** Handling of cells wider than their column. */
+  private Overflow overflow = Overflow.TRUNCATE;
+
+  /** Box style used for borders and separators. */
+  private BoxStyle boxStyle = ConsoleConfig.DEFAULT_BOX_STYLE;
+
+  /**
+   * Creates a new {@code Table} with the given column headers.
+   *
+   * @param headers the column headers, at least one
+   * @throws IllegalArgumentException if no header is given
+   */
+  public Table(String... headers) {
+    if (headers.length == 0) throw new IllegalArgumentException("At least one column required");
+    this.headers = headers.clone();
+    this.fixed = new int[headers.length];
+  }
+
+  /**
+   * Sets the number of leading rows used to size the columns.
+   *
+   * @param rows the number of rows to sample, 0 to size by the headers only
+   * @return this table for chaining
+   * @throws IllegalArgumentException if {@code rows} is negative
+   */
+  public Table sampleSize(int rows) {
+    if (rows < 0) throw new IllegalArgumentException("Sample size must be >= 0");
+    this.sampleSize = rows;
+    return this;
+  }
+
+  /**
+   * Sets fixed column widths. A width of 0 leaves the column sized from the sample.
+   *
+   * @param widths the width per column, in terminal columns
+   * @return this table for chaining
+   * @throws IllegalArgumentException if the number of widths does not match the number of columns
+   *     or a width is negative
+   */
+  public Table widths(int... widths) {
+    if (widths.length != this.headers.length)
+      throw new IllegalArgumentException("Expected " + this.headers.length + " widths");
+    for (int w : widths) if (w < 0) throw new IllegalArgumentException("Width must be >= 0");
+    System.arraycopy(widths, 0, this.fixed, 0, widths.length);
+    return this;
+  }
+
+  /**
+   * Sets the maximum width of columns sized from the sample.
+   *
+   * @param width the maximum width, in terminal columns
+   * @return this table for chaining
+   * @throws IllegalArgumentException if {@code width} is not positive
+   */
+  public Table maxColumnWidth(int width) {
+    if (width <= 0) throw new IllegalArgumentException("Width must be > 0");
+    this.maxColumnWidth = width;
+    return this;
+  }
+
+  /**
+   * Sets how cells wider than their column are handled.
+   *
+   * @param overflow the overflow handling
+   * @return this table for chaining
+   */
+  public Table overflow(Overflow overflow) {
+    this.overflow = Objects.requireNonNull(overflow);
+    return this;
+  }
+
+  /**
+   * Sets the box style used for borders and separators.
+   *
+   * @param boxStyle the box style to use
+   * @return this table for chaining
+   */
+  public Table boxStyle(BoxStyle boxStyle) {
+    this.boxStyle = Objects.requireNonNull(boxStyle);
+    return this;
+  }
+
+  /**
+   * Renders the table with rows from a stream.
+   *
+   * @param cb the builder receiving the output
+   * @param rows the rows, each a list of cells
+   * @return the builder for chaining
+   */
+  public ConsoleBuilder render(ConsoleBuilder cb, Stream<? extends List<?>> rows) {
+    return this.render(cb, rows.iterator());
+  }
+
+  /**
+   * Renders the table with rows from an iterable.
+   *
+   * @param cb the builder receiving the output
+   * @param rows the rows, each a list of cells
+   * @return the builder for chaining
+   */
+  public ConsoleBuilder render(ConsoleBuilder cb, Iterable<? extends List<?>> rows) {
+    return this.render(cb, rows.iterator());
+  }
+
+  /**
+   * Renders the table with rows from an iterator.
+   *
+   * <p>The first rows up to the sample size are buffered to size the columns; every further row is
+   * rendered as soon as it is read.
+   *
+   * @param cb the builder receiving the output
+   * @param rows the rows, each a list of cells
+   * @return the builder for chaining
+   */
+  public ConsoleBuilder render(ConsoleBuilder cb, Iterator<? extends List<?>> rows) {
+    int n = this.headers.length;
+    boolean needSample = false;
+    for (int w : this.fixed) needSample |= w == 0;
+
+    List<String[]> sample = new ArrayList<>();
+    while (needSample && sample.size() < this.sampleSize && rows.hasNext())
+      sample.add(this.cells(rows.next()));
+
+    int[] widths = new int[n];
+    for (int c = 0; c < n; c++) {
+      if (this.fixed[c] > 0) {
+        widths[c] = this.fixed[c];
+        continue;
+      }
+      int w = Math.max(1, DisplayWidth.of(this.headers[c]));
+      for (String[] row : sample) w = Math.max(w, DisplayWidth.of(row[c]));
+      widths[c] = Math.min(w, this.maxColumnWidth);
+    }
+
+    StringBuilder line = new StringBuilder();
+    BoxStyle style = this.boxStyle;
+    this.border(cb, line, style.topLeft(), style.horizontal(), style.topRight(), widths);
+    this.row(cb, line, this.headers, widths);
+    this.border(
+        cb, line, style.junctionLeft(), style.junctionHorizontal(), style.junctionRight(), widths);
+    for (String[] row : sample) this.row(cb, line, row, widths);
+    sample.clear();
+    while (rows.hasNext()) this.row(cb, line, this.cells(rows.next()), widths);
+    this.border(cb, line, style.bottomLeft(), style.horizontal(), style.bottomRight(), widths);
+    return cb;
+  }
+
+  /**
+   * Converts a row to one string per column.
+   *
+   * @param row the row
+   * @return the cells, padded with empty strings to the number of columns
+   */
+  private String[] cells(List<?> row) {
+    String[] cells = new String[this.headers.length];
+    for (int c = 0; c < cells.length; c++) {
+      Object v = c < row.size() ? row.get(c) : null;
+      cells[c] = v == null ? "" : String.valueOf(v);
+    }
+    return cells;
+  }
+
+  /**
+   * Writes a horizontal border.
+   *
+   * @param cb the builder receiving the output
+   * @param line reusable line buffer
+   * @param left the left corner or junction glyph
+   * @param horizontal the horizontal glyph
+   * @param right the right corner or junction glyph
+   * @param widths the column widths
+   */
+  private void border(
+      ConsoleBuilder cb,
+      StringBuilder line,
+      String left,
+      String horizontal,
+      String right,
+      int[] widths) {
+    int inner = 3 * widths.length - 1;
+    for (int w : widths) inner += w;
+    line.setLength(0);
+    line.append(left);
+    for (int i = 0; i < inner; i++) line.append(horizontal);
+    line.append(right);
+    cb.line(line.toString());
+  }
+
+  /**
+   * Writes one row, using as many lines as wrapped cells require.
+   *
+   * @param cb the builder receiving the output
+   * @param line reusable line buffer
+   * @param cells the cells of the row
+   * @param widths the column widths
+   */
+  private void row(ConsoleBuilder cb, StringBuilder line, String[] cells, int[] widths) {
+    String vertical = this.boxStyle.vertical();
+    int[] pos = new int[cells.length];
+    boolean more = true;
+    while (more) {
+      more = false;
+      line.setLength(0);
+      line.append(vertical);
+      for (int c = 0; c < cells.length; c++) {
+        String cell = cells[c];
+        int start = pos[c];
+        int end = this.overflow == Overflow.WRAP ? wrap(cell, start, widths[c]) : cell.length();
+        line.append(' ');
+        int used;
+        if (this.overflow == Overflow.WRAP) {
+          // a wrapped line is only wider than its column if one character is, so emit it anyway
+          line.append(cell, start, end);
+          used = DisplayWidth.of(cell, start, end);
+        } else {
+          used = this.append(line, cell, start, end, widths[c]);
+        }
+        for (int i = used; i < widths[c]; i++) line.append(' ');
+        line.append(' ').append(vertical);
+
+        while (end < cell.length() && cell.charAt(end) == ' ') end++;
+        pos[c] = end;
+        more |= end < cell.length();
+      }
+      cb.line(line.toString());
+    }
+  }
+
+  /**
+   * Appends a range of a cell, truncating it with an ellipsis if it is wider than the column.
+   *
+   * @param line the line buffer
+   * @param cell the cell text
+   * @param start the start of the range
+   * @param end the end of the range
+   * @param width the column width
+   * @return the number of columns appended
+   */
+  private int append(StringBuilder line, String cell, int start, int end, int width) {
+    int w = DisplayWidth.of(cell, start, end);
+    if (w <= width) {
+      line.append(cell, start, end);
+      return w;
+    }
+    int cut = DisplayWidth.fit(cell, start, end, width - 1);
+    line.append(cell, start, cut).append(ELLIPSIS);
+    return DisplayWidth.of(cell, start, cut) + 1;
+  }
+
+  /**
+   * Returns the end of the next wrapped line of a cell.
+   *
+   * @param cell the cell text
+   * @param start the start of the line
+   * @param width the column width
+   * @return the end of the line, preferably at a space; at least one character even if it is
+   *     wider than the column
+   */
+  private static int wrap(String cell, int start, int width) {
+    int end = DisplayWidth.fit(cell, start, cell.length(), width);
+    if (end == cell.length()) return end;
+    if (end == start) {
+      // the next character is wider than the column, take it whole
+      return Math.max(
+          DisplayWidth.fit(cell, start, cell.length(), 2),
+          start + Character.charCount(cell.codePointAt(start)));
+    }
+    for (int i = end; i > start; i--) if (cell.charAt(i) == ' ') return i;
+    return end;
+  }
+}
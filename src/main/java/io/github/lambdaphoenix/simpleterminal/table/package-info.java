@@ -0,0 +1,27 @@
+/**
+ * Provides a streaming table renderer for large tabular output.
+ *
+ * <p>This package contains classes for rendering rows of data as boxed tables. Column widths are
+ * derived from a sample of the leading rows or given explicitly, so tables with any number of rows
+ * can be written incrementally without holding the dataset in memory.
+ *
+ * <h2>Key Components:</h2>
+ *
+ * <ul>
+ *   <li>{@link io.github.lambdaphoenix.simpleterminal.table.Table} – renders rows from iterators
+ *       and streams with sampled or fixed column widths
+ * </ul>
+ *
+ * <h2>Usage Example:</h2>
+ *
+ * <pre>{@code
+ * ConsoleBuilder cb = new ConsoleBuilder();
+ * new Table("Name", "Qty").render(cb, List.of(List.of("apple", 3), List.of("pear", 5)));
+ * cb.print();
+ * }</pre>
+ *
+ * @author lambdaphoenix
+ * @version 2026-10-16
+ * @since 0.2.0
+ */
+package io.github.lambdaphoenix.simpleterminal.table;
@@ -9,6 +9,9 @@ module io.github.lambdaphoenix.simpleterminal {
 
   exports io.github.lambdaphoenix.simpleterminal.ansi;
   exports io.github.lambdaphoenix.simpleterminal.core;
+  exports io.github.lambdaphoenix.simpleterminal.progress;
   exports io.github.lambdaphoenix.simpleterminal.prompt;
   exports io.github.lambdaphoenix.simpleterminal.box;
+  exports io.github.lambdaphoenix.simpleterminal.screen;
+  exports io.github.lambdaphoenix.simpleterminal.table;
 }
@@ -3,6 +3,8 @@ package io.github.lambdaphoenix.simpleterminal.ansi;
 import static org.junit.jupiter.api.Assertions.*;
 
 import java.awt.*;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import org.junit.jupiter.api.Test;
 
 class AnsiColorTest {
@@ -22,6 +24,15 @@ class AnsiColorTest {
     assertTrue(c.bg().contains("48;2;255;100;100"));
   }
 
+  @Test
+  void sharedInstances() {
+    assertSame(AnsiColor.from256(17), AnsiColor.from256(17));
+    assertSame(AnsiColor.fromRgb(1, 2, 3), AnsiColor.fromRgb(1, 2, 3));
+    assertEquals(AnsiColor.fromRgb(1, 2, 3), AnsiColor.fromRgb(new Color(1, 2, 3)));
+    assertNotEquals(AnsiColor.fromRgb(1, 2, 3), AnsiColor.fromRgb(3, 2, 1));
+    assertThrows(IllegalArgumentException.class, () -> AnsiColor.from256(256));
+  }
+
   @Test
   void fg() {
     assertEquals("\u001B[31m", AnsiColor.RED.fg());
@@ -31,4 +42,31 @@ class AnsiColorTest {
   void bg() {
     assertEquals("\u001B[41m", AnsiColor.RED.bg());
   }
+
+  @Test
+  void putFgBg() {
+    ByteBuffer buf = ByteBuffer.allocate(32);
+    AnsiColor.RED.putFg(buf);
+    AnsiColor.RED.putBg(buf);
+    assertEquals(
+        "\u001B[31m\u001B[41m",
+        new String(buf.array(), 0, buf.position(), StandardCharsets.US_ASCII));
+  }
+
+  @Test
+  void downsample() {
+    AnsiColor orange = AnsiColor.fromRgb(255, 135, 0);
+    assertEquals(ColorDepth.TRUECOLOR, orange.depth());
+    assertSame(orange, orange.downsample(ColorDepth.TRUECOLOR));
+    assertSame(AnsiColor.from256(208), orange.downsample(ColorDepth.ANSI256));
+    assertSame(
+        AnsiColor.from256(255), AnsiColor.fromRgb(238, 238, 238).downsample(ColorDepth.ANSI256));
+    assertSame(AnsiColor.BRIGHT_RED, AnsiColor.fromRgb(250, 10, 10).downsample(ColorDepth.ANSI16));
+    assertSame(AnsiColor.BLUE, AnsiColor.from256(21).downsample(ColorDepth.ANSI16));
+    assertSame(AnsiColor.CYAN, AnsiColor.from256(6).downsample(ColorDepth.ANSI16));
+    assertSame(AnsiColor.RED, AnsiColor.RED.downsample(ColorDepth.ANSI16));
+    assertEquals(ColorDepth.ANSI16, AnsiColor.RED.depth());
+    assertEquals(ColorDepth.ANSI256, AnsiColor.from256(6).depth());
+    assertNull(AnsiColor.RED.downsample(ColorDepth.NONE));
+  }
 }
@@ -0,0 +1,121 @@
+package io.github.lambdaphoenix.simpleterminal.ansi;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class AnsiScannerTest {
+  private static final String STYLED =
+      "\u001B[1;31mError\u001B[0m: "
+          + "\u001B]8;;https://example.com\u0007link\u001B]8;;\u001B\\ "
+          + "\u001B7grüße \u001B]0;t\u001Bx\u0007😀";
+
+  private static final String PLAIN = "Error: link grüße 😀";
+
+  @Test
+  void stripText() {
+    assertEquals(PLAIN, AnsiScanner.strip(STYLED));
+    assertEquals(PLAIN, AnsiScanner.strip(new StringBuilder(STYLED)));
+    String plain = "no escapes";
+    assertSame(plain, AnsiScanner.strip(plain));
+    assertEquals(PLAIN.length(), AnsiScanner.visibleLength(STYLED));
+    assertEquals(PLAIN.length(), AnsiScanner.visibleLength(new StringBuilder(STYLED)));
+  }
+
+  @Test
+  void matchesDisplayWidth() {
+    assertEquals(DisplayWidth.of(PLAIN), DisplayWidth.of(STYLED));
+    for (int to = 0; to <= STYLED.length(); to++) {
+      String prefix = STYLED.substring(0, to);
+      assertEquals(DisplayWidth.of(AnsiScanner.strip(prefix)), DisplayWidth.of(prefix), prefix);
+    }
+  }
+
+  @Test
+  void split() {
+    List<String> texts = new ArrayList<>();
+    List<String> escapes = new ArrayList<>();
+    AnsiScanner.split(
+        "a\u001B[31mb\u001B[0m",
+        new AnsiScanner.Handler() {
+          @Override
+          public void text(CharSequence chunk, int from, int to) {
+            texts.add(chunk.subSequence(from, to).toString());
+          }
+
+          @Override
+          public void escape(CharSequence chunk, int from, int to) {
+            escapes.add(chunk.subSequence(from, to).toString());
+          }
+        });
+    assertEquals(List.of("a", "b"), texts);
+    assertEquals(List.of("\u001B[31m", "\u001B[0m"), escapes);
+  }
+
+  @Test
+  void chunkedText() {
+    for (int size = 1; size <= STYLED.length(); size++) {
+      AnsiScanner scanner = new AnsiScanner();
+      StringBuilder out = new StringBuilder();
+      for (int from = 0; from < STYLED.length(); from += size)
+        scanner.scan(STYLED, from, Math.min(STYLED.length(), from + size), out::append);
+      assertEquals(PLAIN, out.toString(), "chunk size " + size);
+      assertFalse(scanner.inEscape());
+      scanner.scan("x\u001B[1", 0, 4, out::append);
+      assertTrue(scanner.inEscape());
+      scanner.reset();
+      assertFalse(scanner.inEscape());
+    }
+  }
+
+  @Test
+  void stripReader() throws IOException {
+    String log = STYLED.repeat(1000);
+    StringWriter out = new StringWriter();
+    assertEquals(PLAIN.length() * 1000L, AnsiScanner.strip(new StringReader(log), out));
+    assertEquals(PLAIN.repeat(1000), out.toString());
+  }
+
+  @Test
+  void stripBytes() {
+    byte[] styled = STYLED.repeat(3).getBytes(StandardCharsets.UTF_8);
+    for (int size = 1; size <= 20; size++) {
+      AnsiScanner scanner = new AnsiScanner();
+      ByteBuffer src = ByteBuffer.wrap(styled);
+      ByteBuffer dst = ByteBuffer.allocate(size);
+      ByteBuffer out = ByteBuffer.allocate(styled.length);
+      while (src.hasRemaining()) {
+        scanner.strip(src, dst.clear());
+        out.put(dst.flip());
+      }
+      assertEquals(
+          PLAIN.repeat(3),
+          new String(out.array(), 0, out.position(), StandardCharsets.UTF_8),
+          "buffer size " + size);
+    }
+  }
+
+  @Test
+  void measureBytes() {
+    byte[] styled = STYLED.getBytes(StandardCharsets.UTF_8);
+    long expected = PLAIN.codePointCount(0, PLAIN.length());
+    assertEquals(expected, new AnsiScanner().measure(ByteBuffer.wrap(styled)));
+
+    AnsiScanner scanner = new AnsiScanner();
+    long count = 0;
+    for (int from = 0; from < styled.length; from += 7) {
+      ByteBuffer chunk = ByteBuffer.allocateDirect(7);
+      chunk.put(styled, from, Math.min(7, styled.length - from)).flip();
+      count += scanner.measure(chunk);
+      assertFalse(chunk.hasRemaining());
+    }
+    assertEquals(expected, count);
+  }
+}
@@ -2,6 +2,8 @@ package io.github.lambdaphoenix.simpleterminal.ansi;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import org.junit.jupiter.api.Test;
 
 class AnsiStyleTest {
@@ -15,4 +17,12 @@ class AnsiStyleTest {
   void testResetAll() {
     assertEquals("\u001B[0m", AnsiStyle.RESET_ALL.toString());
   }
+
+  @Test
+  void put() {
+    ByteBuffer buf = ByteBuffer.allocate(8);
+    AnsiStyle.UNDERLINE.put(buf);
+    assertEquals(
+        "\u001B[4m", new String(buf.array(), 0, buf.position(), StandardCharsets.US_ASCII));
+  }
 }
@@ -0,0 +1,76 @@
+package io.github.lambdaphoenix.simpleterminal.ansi;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+class DisplayWidthTest {
+
+  @Test
+  void codePoints() {
+    assertEquals(1, DisplayWidth.of('a'));
+    assertEquals(1, DisplayWidth.of('é'));
+    assertEquals(2, DisplayWidth.of('日'));
+    assertEquals(2, DisplayWidth.of('가'));
+    assertEquals(2, DisplayWidth.of(0x1F600));
+    assertEquals(0, DisplayWidth.of(0x0301));
+    assertEquals(0, DisplayWidth.of(0x200B));
+    assertEquals(0, DisplayWidth.of('\n'));
+    assertEquals(0, DisplayWidth.of(-1));
+    assertEquals(0, DisplayWidth.of(Character.MAX_CODE_POINT + 1));
+  }
+
+  @Test
+  void blockBoundaries() {
+    assertEquals(1, DisplayWidth.of(0x10FF));
+    assertEquals(2, DisplayWidth.of(0x1100));
+    assertEquals(2, DisplayWidth.of(0x115F));
+    assertEquals(0, DisplayWidth.of(0x1160));
+    assertEquals(2, DisplayWidth.of(0x3FFFD));
+    assertEquals(1, DisplayWidth.of(0x3FFFE));
+    assertEquals(2, DisplayWidth.of(0x20000));
+    assertEquals(1, DisplayWidth.of(Character.MAX_CODE_POINT));
+  }
+
+  @Test
+  void tabs() {
+    assertEquals(0, DisplayWidth.of('\t'));
+    assertEquals(2, DisplayWidth.of("a\tb"));
+  }
+
+  @Test
+  void text() {
+    assertEquals(0, DisplayWidth.of(""));
+    assertEquals(5, DisplayWidth.of("Hello"));
+    assertEquals(4, DisplayWidth.of("日本"));
+    assertEquals(1, DisplayWidth.of("é"));
+    assertEquals(2, DisplayWidth.of("ｈ"));
+    assertEquals(3, DisplayWidth.of("ab日c", 1, 3));
+  }
+
+  @Test
+  void clusters() {
+    assertEquals(2, DisplayWidth.of("👨‍👩‍👧"));
+    assertEquals(2, DisplayWidth.of("🇩🇪"));
+    assertEquals(4, DisplayWidth.of("🇩🇪🇫🇷"));
+    assertEquals(2, DisplayWidth.of("👍🏽"));
+  }
+
+  @Test
+  void escapes() {
+    assertEquals(5, DisplayWidth.of(AnsiColor.RED.fg() + "Error" + AnsiColor.RESET));
+    assertEquals(4, DisplayWidth.of(AnsiColor.fromRgb(1, 2, 3).bg() + "日本"));
+    assertEquals(4, DisplayWidth.of("\u001B]8;;https://example.com\u0007link\u001B]8;;\u001B\\"));
+    assertEquals(0, DisplayWidth.of("\u001B[31"));
+  }
+
+  @Test
+  void fit() {
+    assertEquals(3, DisplayWidth.fit("abcdef", 0, 6, 3));
+    assertEquals(6, DisplayWidth.fit("abcdef", 0, 6, 10));
+    assertEquals(1, DisplayWidth.fit("日本", 0, 2, 3));
+    assertEquals(2, DisplayWidth.fit("e\u0301x", 0, 3, 1));
+    assertEquals(0, DisplayWidth.fit("🇩🇪x", 0, 5, 1));
+    assertEquals(4, DisplayWidth.fit("🇩🇪x", 0, 5, 2));
+  }
+}
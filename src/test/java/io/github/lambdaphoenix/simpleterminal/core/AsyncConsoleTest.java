@@ -0,0 +1,147 @@
+package io.github.lambdaphoenix.simpleterminal.core;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.github.lambdaphoenix.simpleterminal.core.AsyncConsole.Backpressure;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class AsyncConsoleTest {
+
+  /** Target that blocks every write until released. */
+  private static final class GatedTarget implements Appendable {
+    final StringBuilder out = new StringBuilder();
+    final CountDownLatch gate = new CountDownLatch(1);
+
+    @Override
+    public Appendable append(CharSequence csq) {
+      try {
+        this.gate.await();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      this.out.append(csq);
+      return this;
+    }
+
+    @Override
+    public Appendable append(CharSequence csq, int start, int end) {
+      return this.append(csq.subSequence(start, end));
+    }
+
+    @Override
+    public Appendable append(char c) {
+      return this.append(String.valueOf(c));
+    }
+  }
+
+  @Test
+  void fragmentsFromManyThreads() throws InterruptedException {
+    StringBuilder out = new StringBuilder();
+    try (AsyncConsole console = new AsyncConsole(out, 16, Backpressure.BLOCK);
+        ExecutorService pool = Executors.newFixedThreadPool(4)) {
+      for (int t = 0; t < 4; t++) {
+        int id = t;
+        pool.submit(
+            () -> {
+              for (int i = 0; i < 500; i++) console.publish("<" + id + ":" + i + ">");
+            });
+      }
+      pool.shutdown();
+      assertTrue(pool.awaitTermination(10, TimeUnit.SECONDS));
+      console.flush();
+      assertEquals(0, console.dropped());
+    }
+    String s = out.toString();
+    for (int t = 0; t < 4; t++)
+      for (int i = 0; i < 500; i++) assertTrue(s.contains("<" + t + ":" + i + ">"));
+  }
+
+  @Test
+  void builder() {
+    StringBuilder out = new StringBuilder();
+    AsyncConsole console = new AsyncConsole(out);
+    ConsoleBuilder cb = console.builder();
+    cb.text("Hello").println();
+    console.flush();
+    assertEquals("Hello" + System.lineSeparator(), out.toString());
+    console.close();
+    assertThrows(IllegalStateException.class, () -> cb.text("x").print());
+  }
+
+  @Test
+  void blockedProducerSleepsUntilRoom() throws InterruptedException {
+    GatedTarget target = new GatedTarget();
+    AsyncConsole console = new AsyncConsole(target, 2, Backpressure.BLOCK);
+    Thread producer =
+        Thread.ofVirtual()
+            .start(
+                () -> {
+                  for (int i = 0; i < 4; i++) console.publish(String.valueOf(i));
+                  console.flush();
+                });
+    assertTimeoutPreemptively(
+        Duration.ofSeconds(10),
+        () -> {
+          while (producer.getState() != Thread.State.WAITING) Thread.onSpinWait();
+        });
+    target.gate.countDown();
+    assertTrue(producer.join(Duration.ofSeconds(10)));
+    assertEquals("0123", target.out.toString());
+    console.close();
+  }
+
+  @Test
+  void drop() {
+    GatedTarget target = new GatedTarget();
+    AsyncConsole console = new AsyncConsole(target, 2, Backpressure.DROP);
+    int accepted = 0;
+    for (int i = 0; i < 10; i++) if (console.publish(String.valueOf(i))) accepted++;
+    assertEquals(10 - accepted, console.dropped());
+    assertTrue(console.dropped() > 0);
+    target.gate.countDown();
+    console.close();
+    assertEquals(accepted, target.out.length());
+  }
+
+  @Test
+  void dropOldest() {
+    GatedTarget target = new GatedTarget();
+    AsyncConsole console = new AsyncConsole(target, 2, Backpressure.DROP_OLDEST);
+    for (int i = 0; i < 10; i++) assertTrue(console.publish(String.valueOf(i)));
+    assertTrue(console.dropped() > 0);
+    target.gate.countDown();
+    console.close();
+    assertTrue(target.out.toString().endsWith("89"));
+    assertThrows(IllegalStateException.class, () -> console.publish("x"));
+  }
+
+  @Test
+  void publishWhileClosing() throws Exception {
+    for (int round = 0; round < 20; round++) {
+      StringBuffer out = new StringBuffer();
+      AsyncConsole console = new AsyncConsole(out, 4, Backpressure.BLOCK);
+      int[] accepted = new int[4];
+      try (ExecutorService pool = Executors.newFixedThreadPool(4)) {
+        for (int t = 0; t < 4; t++) {
+          int id = t;
+          pool.submit(
+              () -> {
+                try {
+                  while (true) if (console.publish("x")) accepted[id]++;
+                } catch (IllegalStateException _) {
+                  // closed
+                }
+              });
+        }
+        Thread.sleep(2);
+        console.close();
+      }
+      assertEquals(accepted[0] + accepted[1] + accepted[2] + accepted[3], out.length());
+    }
+  }
+}
@@ -0,0 +1,114 @@
+package io.github.lambdaphoenix.simpleterminal.core;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.github.lambdaphoenix.simpleterminal.ansi.AnsiColor;
+import io.github.lambdaphoenix.simpleterminal.ansi.AnsiStyle;
+import io.github.lambdaphoenix.simpleterminal.box.BoxStyle;
+import java.io.ByteArrayOutputStream;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+
+class ByteConsoleBuilderTest {
+
+  @Test
+  void escapes() {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    new ByteConsoleBuilder(out)
+        .color(AnsiColor.RED)
+        .bg(AnsiColor.fromRgb(1, 2, 3))
+        .style(AnsiStyle.BOLD)
+        .text("X")
+        .reset()
+        .flush();
+    String expected =
+        AnsiColor.RED.fg()
+            + AnsiColor.fromRgb(1, 2, 3).bg()
+            + AnsiStyle.BOLD
+            + "X"
+            + AnsiColor.RESET;
+    assertEquals(expected, out.toString(StandardCharsets.UTF_8));
+  }
+
+  @Test
+  void matchesConsoleBuilder() {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    new ByteConsoleBuilder(out)
+        .text("Grüße 😀")
+        .space()
+        .indent(1)
+        .line("X")
+        .rule('─', 4)
+        .box("Title", "a\nbc", BoxStyle.DOUBLE)
+        .println();
+    String expected =
+        new ConsoleBuilder()
+            .text("Grüße 😀")
+            .space()
+            .indent(1)
+            .line("X")
+            .rule('─', 4)
+            .box("Title", "a\nbc", BoxStyle.DOUBLE)
+            .newline()
+            .build();
+    assertEquals(expected, out.toString(StandardCharsets.UTF_8));
+  }
+
+  @Test
+  void drainsWhenFull() {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    ByteConsoleBuilder b = new ByteConsoleBuilder(Channels.newChannel(out), 64);
+    b.rule('=', 100);
+    assertTrue(out.size() > 0);
+    b.flush();
+    assertEquals("=".repeat(100) + System.lineSeparator(), out.toString(StandardCharsets.UTF_8));
+    assertThrows(
+        IllegalArgumentException.class, () -> new ByteConsoleBuilder(Channels.newChannel(out), 16));
+  }
+
+  @Test
+  void indentUnit() {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    new ByteConsoleBuilder(out).indentUnit(">>").indent(2).line("x").flush();
+    assertEquals(">>>>x" + System.lineSeparator(), out.toString(StandardCharsets.UTF_8));
+  }
+
+  @Test
+  void plain() {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    new ByteConsoleBuilder(out)
+        .plain(true)
+        .asciiFallback(true)
+        .color(AnsiColor.RED)
+        .style(AnsiStyle.BOLD)
+        .text("X")
+        .reset()
+        .newline()
+        .box("T", "C", BoxStyle.ROUNDED)
+        .flush();
+    String expected =
+        "X" + System.lineSeparator() + new ConsoleBuilder().box("T", "C", BoxStyle.ASCII).build();
+    assertEquals(expected, out.toString(StandardCharsets.UTF_8));
+  }
+
+  @Test
+  void boxLines() {
+    List<String> lines = List.of("日本\r\nx", "", "y\u2028z");
+    String expected = new ConsoleBuilder().box("T", lines, BoxStyle.UNICODE).build();
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    new ByteConsoleBuilder(out).box("T", lines, BoxStyle.UNICODE).flush();
+    assertEquals(expected, out.toString(StandardCharsets.UTF_8));
+
+    out.reset();
+    new ByteConsoleBuilder(out).boxStyle(BoxStyle.UNICODE).box("T", lines.stream()).flush();
+    assertEquals(expected, out.toString(StandardCharsets.UTF_8));
+
+    out.reset();
+    new ByteConsoleBuilder(out).box(null, Stream.of("a\n"), BoxStyle.ASCII).flush();
+    String nl = System.lineSeparator();
+    assertEquals("+---+" + nl + "| a |" + nl + "|   |" + nl + "+---+" + nl, out.toString());
+  }
+}
@@ -4,8 +4,15 @@ import static org.junit.jupiter.api.Assertions.*;
 
 import io.github.lambdaphoenix.simpleterminal.ansi.AnsiColor;
 import io.github.lambdaphoenix.simpleterminal.ansi.AnsiStyle;
+import io.github.lambdaphoenix.simpleterminal.ansi.ColorDepth;
 import io.github.lambdaphoenix.simpleterminal.box.BoxStyle;
+import java.io.ByteArrayOutputStream;
+import java.io.StringWriter;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
 import java.util.Locale;
+import java.util.stream.Stream;
 import org.junit.jupiter.api.Test;
 
 class ConsoleBuilderTest {
@@ -17,6 +24,15 @@ class ConsoleBuilderTest {
     assertNotNull(msg);
   }
 
+  @Test
+  void msgWithArguments() {
+    ConsoleBuilder cb = new ConsoleBuilder().locale(Locale.GERMAN);
+    assertEquals("3 Treffer", cb.msg("prompt.matches", 3));
+    assertEquals("3 Treffer", cb.msg(MessageCatalog.key("prompt.matches"), 3));
+    cb.locale(Locale.ENGLISH);
+    assertEquals("3 matches", cb.msg("prompt.matches", 3));
+  }
+
   @Test
   void ruleWidth() {
     ConsoleBuilder cb = new ConsoleBuilder();
@@ -51,6 +67,15 @@ class ConsoleBuilderTest {
     assertTrue(out.startsWith(ConsoleConfig.DEFAULT_INDENT_UNIT.repeat(2)));
   }
 
+  @Test
+  void indentLevels() {
+    ConsoleBuilder cb = new ConsoleBuilder().indentUnit("-");
+    cb.indent(2).line("a").indent(12).line("b").indent(0).line("c");
+    cb.indentUnit("+").indent(2).line("d");
+    String nl = System.lineSeparator();
+    assertEquals("--a" + nl + "-".repeat(12) + "b" + nl + "c" + nl + "++d" + nl, cb.build());
+  }
+
   @Test
   void boxStyle() {
     ConsoleBuilder cb = new ConsoleBuilder();
@@ -91,6 +116,47 @@ class ConsoleBuilderTest {
     assertTrue(out.contains(AnsiColor.RESET));
   }
 
+  @Test
+  void redundantEscapes() {
+    ConsoleBuilder cb = new ConsoleBuilder();
+    cb.color(AnsiColor.RED).color(AnsiColor.RED).text("A").color(AnsiColor.RED).text("B");
+    assertEquals(AnsiColor.RED.fg() + "AB", cb.build());
+
+    cb.clear();
+    cb.reset().reset().text("A").reset().text("B");
+    assertEquals(AnsiColor.RESET + "AB", cb.build());
+
+    cb.clear();
+    cb.color(AnsiColor.GREEN).color(AnsiColor.BLUE).text("A");
+    assertEquals(AnsiColor.BLUE.fg() + "A", cb.build());
+  }
+
+  @Test
+  void mergedEscapes() {
+    ConsoleBuilder cb = new ConsoleBuilder();
+    cb.style(AnsiStyle.BOLD).color(AnsiColor.RED).bg(AnsiColor.BLUE).text("A");
+    assertEquals("\u001B[1;31;44mA", cb.build());
+
+    cb.clear();
+    cb.reset().text("A").style(AnsiStyle.BOLD).style(AnsiStyle.DIM).text("B");
+    cb.style(AnsiStyle.RESET_BOLD_DIM).style(AnsiStyle.DIM).text("C").reset();
+    assertEquals("\u001B[0mA\u001B[1;2mB\u001B[22;2mC\u001B[0m", cb.build());
+
+    cb.clear();
+    cb.reset().color(AnsiColor.from256(200)).text("A").reset().bg(AnsiColor.RED).text("B");
+    assertEquals("\u001B[0;38;5;200mA\u001B[0;41mB", cb.build());
+  }
+
+  @Test
+  void styleStateAcrossPrint() {
+    StringWriter out = new StringWriter();
+    ConsoleBuilder cb = new ConsoleBuilder(out);
+    cb.color(AnsiColor.RED).text("A").print();
+    cb.color(AnsiColor.RED).text("B").reset().print();
+    cb.reset().text("C").print();
+    assertEquals(AnsiColor.RED.fg() + "AB" + AnsiColor.RESET + "C", out.toString());
+  }
+
   @Test
   void text() {
     ConsoleBuilder cb = new ConsoleBuilder();
@@ -163,6 +229,51 @@ class ConsoleBuilderTest {
     assertTrue(cb.build().contains("┌"));
   }
 
+  @Test
+  void boxLines() {
+    String nl = System.lineSeparator();
+    String expected =
+        "+-------+" + nl
+            + "| T     |" + nl
+            + "+-------+" + nl
+            + "| a     |" + nl
+            + "| bcdef |" + nl
+            + "|       |" + nl
+            + "| g     |" + nl
+            + "+-------+" + nl;
+    assertEquals(
+        expected, new ConsoleBuilder().box("T", "a\r\nbcdef\n\u2028g", BoxStyle.ASCII).build());
+    assertEquals(
+        expected,
+        new ConsoleBuilder().box("T", List.of("a", "bcdef", "", "g"), BoxStyle.ASCII).build());
+    assertEquals(
+        expected,
+        new ConsoleBuilder().box("T", Stream.of("a\nbcdef", "\ng"), BoxStyle.ASCII).build());
+  }
+
+  @Test
+  void boxDisplayWidth() {
+    String nl = System.lineSeparator();
+    String red = AnsiColor.RED.fg() + "ab" + AnsiColor.RESET;
+    String expected =
+        "+------+" + nl
+            + "| 日本 |" + nl
+            + "| " + red + "   |" + nl
+            + "| e\u0301    |" + nl
+            + "+------+" + nl;
+    assertEquals(
+        expected,
+        new ConsoleBuilder().box(null, List.of("日本", red, "e\u0301"), BoxStyle.ASCII).build());
+  }
+
+  @Test
+  void boxIndent() {
+    String nl = System.lineSeparator();
+    ConsoleBuilder cb = new ConsoleBuilder().indentUnit("..").indent(1);
+    cb.box(null, "x", BoxStyle.ASCII);
+    assertEquals("..+---+" + nl + "..| x |" + nl + "..+---+" + nl, cb.build());
+  }
+
   @Test
   void when() {
     ConsoleBuilder cb = new ConsoleBuilder();
@@ -202,4 +313,87 @@ class ConsoleBuilderTest {
     cb.println();
     assertEquals("", cb.build());
   }
+
+  @Test
+  void flushThreshold() {
+    StringWriter out = new StringWriter();
+    ConsoleBuilder cb = new ConsoleBuilder(out).flushThreshold(4);
+    cb.text("AB");
+    assertEquals("", out.toString());
+    cb.text("CD");
+    assertEquals("ABCD", out.toString());
+    assertEquals("", cb.build());
+    assertThrows(IllegalArgumentException.class, () -> cb.flushThreshold(-1));
+  }
+
+  @Test
+  void flushLineThreshold() {
+    StringWriter out = new StringWriter();
+    ConsoleBuilder cb = new ConsoleBuilder(out).flushLineThreshold(2);
+    cb.line("A");
+    assertEquals("", out.toString());
+    cb.line("B").line("C");
+    assertEquals("A" + System.lineSeparator() + "B" + System.lineSeparator(), out.toString());
+    assertEquals("C" + System.lineSeparator(), cb.build());
+  }
+
+  @Test
+  void flush() {
+    StringWriter out = new StringWriter();
+    ConsoleBuilder cb = new ConsoleBuilder(out);
+    cb.box("T", "C", BoxStyle.ASCII);
+    String expected = cb.build();
+    cb.flush();
+    assertEquals(expected, out.toString());
+    assertEquals("", cb.build());
+  }
+
+  @Test
+  void to() {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    ConsoleBuilder.to(out).text("äöü").print();
+    assertEquals("äöü", out.toString(StandardCharsets.UTF_8));
+
+    out.reset();
+    ConsoleBuilder.to(Channels.newChannel(out)).rule('─', 3).print();
+    assertEquals("───" + System.lineSeparator(), out.toString(StandardCharsets.UTF_8));
+  }
+
+  @Test
+  void colorDepth() {
+    ConsoleBuilder cb = new ConsoleBuilder().colorDepth(ColorDepth.ANSI256);
+    cb.color(AnsiColor.fromRgb(255, 135, 0)).text("X");
+    assertEquals(AnsiColor.from256(208).fg() + "X", cb.build());
+    cb = new ConsoleBuilder().colorDepth(ColorDepth.NONE);
+    cb.color(AnsiColor.RED).bg(AnsiColor.BLUE).style(AnsiStyle.BOLD).text("X");
+    assertEquals(AnsiStyle.BOLD + "X", cb.build());
+  }
+
+  @Test
+  void plain() {
+    ConsoleBuilder cb = new ConsoleBuilder().plain(true);
+    cb.color(AnsiColor.RED).bg(AnsiColor.BLUE).style(AnsiStyle.BOLD).text("X").reset();
+    cb.markup("[bold]Y[/]").rule('─', 3).box("T", "C", BoxStyle.DOUBLE);
+    String nl = System.lineSeparator();
+    String out = cb.build();
+    assertTrue(out.startsWith("XY───" + nl + "╔═══╗" + nl));
+    assertFalse(out.contains("\u001B"));
+
+    cb = new ConsoleBuilder().plain(true).asciiFallback(true);
+    cb.rule('─', 3).box("T", "C", BoxStyle.DOUBLE);
+    String expected = new ConsoleBuilder().rule('-', 3).box("T", "C", BoxStyle.ASCII).build();
+    assertEquals(expected, cb.build());
+
+    cb = new ConsoleBuilder().asciiFallback(true).rule('─', 1);
+    assertEquals("─" + nl, cb.build());
+  }
+
+  @Test
+  void cursor() {
+    ConsoleBuilder cb = new ConsoleBuilder().cursorUp(2).cursorDown(0).eraseLine().cursorTo(3, 4);
+    assertEquals("\u001B[2A\u001B[K\u001B[3;4H", cb.build());
+
+    cb = new ConsoleBuilder().plain(true).cursorUp(2).text("x").eraseLine().cursorDown(1);
+    assertEquals("x", cb.cursorTo(3, 4).build());
+  }
 }
@@ -2,8 +2,14 @@ package io.github.lambdaphoenix.simpleterminal.core;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import io.github.lambdaphoenix.simpleterminal.ansi.ColorDepth;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Locale;
+import java.util.Map;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 class ConsoleConfigTest {
 
@@ -19,4 +25,41 @@ class ConsoleConfigTest {
     ConsoleConfig.loadDefaults();
     assertNotNull(ConsoleConfig.DEFAULT_INDENT_UNIT);
   }
+
+  @Test
+  void detectColorDepth() {
+    assertEquals(ColorDepth.NONE, ConsoleConfig.detectColorDepth(Map.of("TERM", "xterm"), false));
+    assertEquals(
+        ColorDepth.NONE,
+        ConsoleConfig.detectColorDepth(Map.of("NO_COLOR", "1", "COLORTERM", "truecolor"), true));
+    assertEquals(ColorDepth.NONE, ConsoleConfig.detectColorDepth(Map.of("TERM", "dumb"), true));
+    assertEquals(
+        ColorDepth.TRUECOLOR,
+        ConsoleConfig.detectColorDepth(Map.of("NO_COLOR", "", "COLORTERM", "24bit"), true));
+    assertEquals(
+        ColorDepth.ANSI256, ConsoleConfig.detectColorDepth(Map.of("TERM", "xterm-256color"), true));
+    assertEquals(ColorDepth.ANSI16, ConsoleConfig.detectColorDepth(Map.of("TERM", "xterm"), true));
+    assertEquals(ColorDepth.ANSI16, ConsoleConfig.detectColorDepth(Map.of(), true));
+  }
+
+  @Test
+  void detectColorDepthRedirected() {
+    Map<String, String> env =
+        Map.of("TERM", "xterm-256color", "COLORTERM", "truecolor", "WT_SESSION", "1");
+    assertEquals(ColorDepth.TRUECOLOR, ConsoleConfig.detectColorDepth(env, true));
+    assertEquals(ColorDepth.NONE, ConsoleConfig.detectColorDepth(env, false));
+  }
+
+  @Test
+  void isTerminalFollowsStdoutLink(@TempDir Path dir) throws IOException {
+    Path file = Files.createFile(dir.resolve("out.txt"));
+    Path redirected = Files.createSymbolicLink(dir.resolve("1"), file);
+    Path pts = Files.createSymbolicLink(dir.resolve("2"), Path.of("/dev/pts/0"));
+    Path tty = Files.createSymbolicLink(dir.resolve("3"), Path.of("/dev/tty1"));
+    assertEquals(Boolean.FALSE, ConsoleConfig.isTerminal(redirected));
+    assertEquals(Boolean.TRUE, ConsoleConfig.isTerminal(pts));
+    assertEquals(Boolean.TRUE, ConsoleConfig.isTerminal(tty));
+    assertNull(ConsoleConfig.isTerminal(dir.resolve("missing")));
+    assertNull(ConsoleConfig.isTerminal(file));
+  }
 }
@@ -0,0 +1,74 @@
+package io.github.lambdaphoenix.simpleterminal.core;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.StringWriter;
+import java.util.Locale;
+import org.junit.jupiter.api.Test;
+
+class FormatTemplateTest {
+
+  private static void same(String format, Object... args) {
+    assertEquals(
+        String.format(Locale.ROOT, format, args),
+        FormatTemplate.compile(format).format(args),
+        format);
+  }
+
+  @Test
+  void matchesStringFormat() {
+    same("plain");
+    same("100%% done");
+    same("%s|%10s|%-10s|%.2s|%5.1s", "abc", "abc", "abc", "abc", "abc");
+    same("%s %s", null, 42);
+    same("%d|%5d|%-5d|%05d|%+d|%+05d", 42, 42, 42, 42, 42, 42);
+    same("%d|%5d|%05d|%+d", -42, -42, -42, -42);
+    same("%d %d", Long.MIN_VALUE, Long.MAX_VALUE);
+    same("%x|%X|%08x|%x|%x", 255, 255, 255, -1, -1L);
+    same("%x %x", (byte) 0, 0x7fff_ffff_ffffL);
+    same("%f|%.2f|%.0f|%8.3f|%-8.1f|%08.2f|%+.1f", 3.14159, 3.14159, 2.5, -1.5, 1.25, -3.5, 0.25);
+    same("%.2f %.3f %.1f", 0.0, -0.0, -0.04);
+    same("%.2f %.2f", 1e20, 123456789.125);
+    same("%f %f %5.1f", Double.NaN, Double.NEGATIVE_INFINITY, 1.5f);
+    same("%c%c %b %5b", 'x', 0x1F600, true, false);
+  }
+
+  @Test
+  void widthIsDisplayWidth() {
+    assertEquals("日本  |", FormatTemplate.compile("%-6s|").format("日本"));
+    assertEquals("  日本|", FormatTemplate.compile("%6s|").format("日本"));
+  }
+
+  @Test
+  void invalid() {
+    for (String f : new String[] {"%", "%5", "%q", "%-d", "%-05d", "%.2d", "%.x", "%.20f", "%n"})
+      assertThrows(IllegalArgumentException.class, () -> FormatTemplate.compile(f), f);
+
+    FormatTemplate t = FormatTemplate.compile("%d %f");
+    assertEquals(2, t.arguments());
+    assertEquals("%d %f", t.toString());
+    assertThrows(IllegalArgumentException.class, () -> t.format(1));
+    assertThrows(IllegalArgumentException.class, () -> t.format("a", 1.0));
+    assertThrows(IllegalArgumentException.class, () -> t.format(1, 1));
+  }
+
+  @Test
+  void consoleBuilder() {
+    FormatTemplate row = FormatTemplate.compile("%-5s|%4d|%6.2f|%s");
+    StringWriter out = new StringWriter();
+    ConsoleBuilder cb = new ConsoleBuilder(out).indentUnit(">").indent(1);
+    cb.linef(row, "a", 1, 2.0, true);
+    cb.format(row).arg("bb").arg(22).arg(-0.5).arg('c').end();
+    cb.format(row).arg("ccc").arg(333L).arg(1.005f).arg(7).end().print();
+    String nl = System.lineSeparator();
+    assertEquals(
+        ">a    |   1|  2.00|true" + nl + ">bb   |  22| -0.50|c" + nl + ">ccc  | 333|  1.00|7" + nl,
+        out.toString());
+
+    assertThrows(IllegalArgumentException.class, () -> cb.format(row).arg("x").end());
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> cb.format(row).arg("x").arg(1).arg(1.0).arg(1).arg(2));
+    assertThrows(IllegalArgumentException.class, () -> cb.format(row).arg(1.5).arg(1.5));
+  }
+}
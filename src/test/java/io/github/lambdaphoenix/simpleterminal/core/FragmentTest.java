@@ -0,0 +1,75 @@
+package io.github.lambdaphoenix.simpleterminal.core;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.github.lambdaphoenix.simpleterminal.ansi.AnsiColor;
+import io.github.lambdaphoenix.simpleterminal.box.BoxStyle;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class FragmentTest {
+
+  @Test
+  void boxWithSlots() {
+    ConsoleBuilder cb = new ConsoleBuilder();
+    cb.box("T", List.of("cpu " + cb.slot("cpu", 4), "mem " + cb.slot("mem", 4)), BoxStyle.ASCII);
+    Fragment panel = cb.toFragment();
+    assertEquals(List.of("cpu", "mem"), panel.slots());
+    assertEquals(1, panel.slot("mem"));
+    assertThrows(IllegalArgumentException.class, () -> panel.slot("disk"));
+    assertEquals("", cb.build());
+
+    String expected =
+        new ConsoleBuilder().box("T", List.of("cpu 42% ", "mem 1234"), BoxStyle.ASCII).build();
+    assertEquals(expected, panel.format("42%", "123456"));
+  }
+
+  @Test
+  void bytesMatchText() {
+    ConsoleBuilder cb = new ConsoleBuilder();
+    cb.color(AnsiColor.GREEN).text("✔ ").reset().text(cb.slot("name", 5)).newline();
+    Fragment fragment = cb.toFragment();
+
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    new ByteConsoleBuilder(out).fragment(fragment, "Grüße").fragment(fragment, "ab").flush();
+    String expected = fragment.format("Grüße") + fragment.format("ab");
+    assertEquals(expected, out.toString(StandardCharsets.UTF_8));
+    assertTrue(expected.contains("ab   " + System.lineSeparator()));
+  }
+
+  @Test
+  void repeatedAndMissingSlots() {
+    ConsoleBuilder cb = new ConsoleBuilder();
+    String x = cb.slot("x", 2);
+    assertEquals(x, cb.slot("x", 2));
+    cb.text("[" + x + x + "|" + cb.slot("y", 1) + "]");
+    Fragment fragment = cb.toFragment();
+    assertEquals("[abab|?]", fragment.format("ab", "?"));
+    assertEquals("[    | ]", fragment.format());
+    assertEquals("[wiwi| ]", fragment.format("wide", null));
+  }
+
+  @Test
+  void invalidSlots() {
+    ConsoleBuilder cb = new ConsoleBuilder();
+    assertThrows(IllegalArgumentException.class, () -> cb.slot("a", 0));
+    cb.slot("a", 3);
+    assertThrows(IllegalArgumentException.class, () -> cb.slot("a", 4));
+    for (int i = 1; i < 32; i++) cb.slot("s" + i, 1);
+    assertThrows(IllegalArgumentException.class, () -> cb.slot("s32", 1));
+    cb.clear();
+    assertDoesNotThrow(() -> cb.slot("s32", 1));
+  }
+
+  @Test
+  void appendToConsoleBuilder() {
+    ConsoleBuilder cb = new ConsoleBuilder();
+    cb.line("v=" + cb.slot("v", 3));
+    Fragment fragment = cb.toFragment();
+    String nl = System.lineSeparator();
+    assertEquals(
+        "v=1  " + nl + "v=22 " + nl, cb.fragment(fragment, "1").fragment(fragment, "22").build());
+  }
+}
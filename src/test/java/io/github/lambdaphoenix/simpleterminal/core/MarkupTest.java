@@ -0,0 +1,55 @@
+package io.github.lambdaphoenix.simpleterminal.core;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+class MarkupTest {
+
+  private static String render(String markup) {
+    return new ConsoleBuilder().markup(markup).text("").build();
+  }
+
+  @Test
+  void plainText() {
+    assertEquals("hello", render("hello"));
+    assertEquals("[1/3] [not a tag] [] a]b", render("[1/3] [not a tag] [] a]b"));
+    assertEquals("[red] x", render("\\[red] x"));
+    assertEquals("[/] x", render("[/] x"));
+  }
+
+  @Test
+  void styles() {
+    assertEquals("\u001B[0;1;31mError:\u001B[0m msg", render("[bold red]Error:[/] msg"));
+    assertEquals("\u001B[0;32ma\u001B[1mb\u001B[22mc\u001B[0m", render("[green]a[bold]b[/]c[/]"));
+    assertEquals("\u001B[0;3;44mx\u001B[0m", render("[ITALIC on blue]x"));
+    assertEquals(
+        "\u001B[0;38;2;255;128;0mx\u001B[38;5;202my\u001B[0m", render("[#ff8000]x[color(202)]y"));
+    // leading text is rendered in the default style as well
+    assertEquals("\u001B[0ma\u001B[31mb\u001B[0mc", render("a[red]b[/red]c"));
+  }
+
+  @Test
+  void invalidTags() {
+    assertEquals("[bold purple]x", render("[bold purple]x"));
+    assertEquals("[#12345]x", render("[#12345]x"));
+    assertEquals("[color(256)]x", render("[color(256)]x"));
+    assertEquals("[on]x", render("[on]x"));
+  }
+
+  @Test
+  void cachedAndPlain() {
+    Markup m = Markup.of("[bold]Hi[/] there");
+    assertSame(m, Markup.of("[bold]Hi[/] there"));
+    assertNotSame(m, Markup.compile("[bold]Hi[/] there"));
+    assertEquals("Hi there", m.plain());
+    assertEquals("[bold]Hi[/] there", m.toString());
+  }
+
+  @Test
+  void markupLine() {
+    ConsoleBuilder cb = new ConsoleBuilder().indentUnit("> ").indent(1);
+    cb.markupLine("[bold]x[/]");
+    assertEquals("> \u001B[0;1mx\u001B[0m" + System.lineSeparator(), cb.build());
+  }
+}
@@ -0,0 +1,53 @@
+package io.github.lambdaphoenix.simpleterminal.core;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Locale;
+import java.util.MissingResourceException;
+import org.junit.jupiter.api.Test;
+
+class MessageCatalogTest {
+
+  @Test
+  void cachedPerLocale() {
+    MessageCatalog en = MessageCatalog.of(Locale.ENGLISH);
+    assertSame(en, MessageCatalog.of(Locale.ENGLISH));
+    assertNotSame(en, MessageCatalog.of(Locale.GERMAN));
+    assertEquals(Locale.GERMAN, MessageCatalog.of(Locale.GERMAN).locale());
+  }
+
+  @Test
+  void keys() {
+    int key = MessageCatalog.key("error.invalidInt");
+    assertEquals(key, MessageCatalog.key("error.invalidInt"));
+    assertNotEquals(key, MessageCatalog.key("error.yesno"));
+    assertEquals("Invalid number, please try again.", MessageCatalog.of(Locale.ENGLISH).get(key));
+    assertTrue(MessageCatalog.of(Locale.GERMAN).get(key).startsWith("Ung"));
+  }
+
+  @Test
+  void format() {
+    int key = MessageCatalog.key("prompt.matches");
+    assertEquals("42 matches", MessageCatalog.of(Locale.ENGLISH).format(key, 42));
+    assertEquals("7 Treffer", MessageCatalog.of(Locale.GERMAN).format(key, 7));
+  }
+
+  @Test
+  void missingKey() {
+    MessageCatalog en = MessageCatalog.of(Locale.ENGLISH);
+    assertEquals(-1, MessageCatalog.key("no.such.key"));
+    assertThrows(MissingResourceException.class, () -> en.get(MessageCatalog.key("no.such.key")));
+    assertThrows(MissingResourceException.class, () -> en.get(-1));
+  }
+
+  @Test
+  void compile() {
+    assertEquals("plain", MessageCatalog.compile("plain").format());
+    assertEquals("b a b", MessageCatalog.compile("{1} {0} {1}").format("a", "b"));
+    assertEquals("x=1.", MessageCatalog.compile("x={0}.").format(1));
+    assertEquals("{a} {} {0", MessageCatalog.compile("{a} {} {0").format("x"));
+    assertEquals("{{0}}", MessageCatalog.compile("{{0}}").format("x").replace("x", "{0}"));
+    assertEquals("a {1}", MessageCatalog.compile("{0} {1}").format("a"));
+    assertEquals("null", MessageCatalog.compile("{0}").format((Object) null));
+  }
+}
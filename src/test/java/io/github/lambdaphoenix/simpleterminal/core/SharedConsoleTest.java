@@ -0,0 +1,55 @@
+package io.github.lambdaphoenix.simpleterminal.core;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.github.lambdaphoenix.simpleterminal.ansi.AnsiColor;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.junit.jupiter.api.Test;
+
+class SharedConsoleTest {
+
+  @Test
+  void fragmentsDoNotInterleave() throws InterruptedException {
+    StringBuilder out = new StringBuilder();
+    AnsiColor[] colors = {AnsiColor.RED, AnsiColor.GREEN, AnsiColor.BLUE, AnsiColor.YELLOW};
+    try (SharedConsole console = new SharedConsole(out)) {
+      List<Thread> threads = new ArrayList<>();
+      for (int t = 0; t < colors.length; t++) {
+        int id = t;
+        threads.add(
+            Thread.ofVirtual()
+                .start(
+                    () -> {
+                      for (int i = 0; i < 200; i++)
+                        console.print(cb -> cb.color(colors[id]).text("T" + id).reset().newline());
+                    }));
+      }
+      for (Thread t : threads) t.join();
+      console.flush();
+    }
+
+    String expected = "(.*?)T(\\d)\u001B\\[0m" + Pattern.quote(System.lineSeparator());
+    Matcher m = Pattern.compile(expected).matcher(out);
+    int count = 0;
+    while (m.find()) {
+      assertEquals(colors[Integer.parseInt(m.group(2))].fg(), m.group(1));
+      count++;
+    }
+    assertEquals(colors.length * 200, count);
+  }
+
+  @Test
+  void reappliesColorPerFragment() {
+    StringBuilder out = new StringBuilder();
+    try (SharedConsole console = new SharedConsole(out)) {
+      ConsoleBuilder cb = console.builder();
+      assertSame(cb, console.builder());
+      cb.color(AnsiColor.RED).text("a").print();
+      cb.text("b").print();
+    }
+    assertEquals(AnsiColor.RED.fg() + "a" + AnsiColor.RED.fg() + "b", out.toString());
+  }
+}
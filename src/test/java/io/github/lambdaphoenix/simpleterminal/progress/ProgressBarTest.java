@@ -0,0 +1,21 @@
+package io.github.lambdaphoenix.simpleterminal.progress;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+class ProgressBarTest {
+
+  @Test
+  void steps() {
+    ProgressBar bar = new ProgressBar("Label", 10);
+    assertEquals("Label", bar.label());
+    assertEquals(10, bar.total());
+    bar.step();
+    bar.step(4);
+    assertEquals(5, bar.value());
+    assertFalse(bar.isFinished());
+    bar.finish();
+    assertTrue(bar.isFinished());
+  }
+}
@@ -0,0 +1,104 @@
+package io.github.lambdaphoenix.simpleterminal.progress;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.github.lambdaphoenix.simpleterminal.core.ConsoleBuilder;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class ProgressTest {
+  private static final String NL = System.lineSeparator();
+
+
+  @Test
+  void barFromManyThreads() throws InterruptedException {
+    StringWriter out = new StringWriter();
+    try (Progress progress = new Progress(new ConsoleBuilder(out), 1000).barWidth(10)) {
+      ProgressBar bar = progress.bar("Work", 4000);
+      List<Thread> threads = new ArrayList<>();
+      for (int t = 0; t < 4; t++)
+        threads.add(
+            Thread.ofVirtual()
+                .start(
+                    () -> {
+                      for (int i = 0; i < 1000; i++) bar.step();
+                    }));
+      for (Thread t : threads) t.join();
+      assertEquals(4000, bar.value());
+    }
+    assertTrue(
+        out.toString()
+            .endsWith("\rWork [##########] 100% 4000/4000\u001B[K" + System.lineSeparator()));
+  }
+
+  @Test
+  void coalescesUpdates() {
+    StringWriter out = new StringWriter();
+    try (Progress progress = new Progress(new ConsoleBuilder(out), 0L)) {
+      ProgressBar a = progress.bar("A", 1_000_000);
+      ProgressBar b = progress.bar("Bee", 10);
+      for (int i = 0; i < 1_000_000; i++) a.step();
+      b.step(5);
+      progress.frame();
+      assertEquals(2, out.toString().chars().filter(c -> c == '\r').count());
+      progress.frame(); // nothing changed
+      assertEquals(2, out.toString().chars().filter(c -> c == '\r').count());
+      b.step();
+    }
+    String s = out.toString();
+    assertEquals(4, s.chars().filter(c -> c == '\r').count());
+    assertTrue(s.contains("A   [" + "#".repeat(30) + "] 100% 1000000/1000000"));
+    assertTrue(s.contains("Bee [" + "#".repeat(15) + "-".repeat(15) + "]  50% 5/10"));
+    assertTrue(s.contains("\u001B[2A"));
+    assertTrue(s.endsWith("Bee [" + "#".repeat(18) + "-".repeat(12) + "]  60% 6/10\u001B[K" + NL));
+  }
+
+  @Test
+  void plainDrawsFinalFrameOnly() throws InterruptedException {
+    StringWriter out = new StringWriter();
+    try (Progress progress = new Progress(new ConsoleBuilder(out).plain(true), 1000)) {
+      ProgressBar a = progress.bar("A", 10);
+      ProgressBar b = progress.bar("B", 10);
+      for (int i = 0; i < 10; i++) {
+        a.step();
+        Thread.sleep(2);
+      }
+      b.step(5);
+    }
+    String expected =
+        "A ["
+            + "#".repeat(30)
+            + "] 100% 10/10"
+            + NL
+            + "B ["
+            + "#".repeat(15)
+            + "-".repeat(15)
+            + "]  50% 5/10"
+            + NL;
+    assertEquals(expected, out.toString());
+  }
+
+  @Test
+  void spinner() {
+    StringWriter out = new StringWriter();
+    Progress progress = new Progress(new ConsoleBuilder(out), 1);
+    ProgressBar spinner = progress.spinner("Scan");
+    spinner.step(42);
+    spinner.finish();
+    progress.close();
+    assertTrue(out.toString().contains("Scan [done] 42"));
+    assertThrows(IllegalStateException.class, () -> progress.spinner("late"));
+  }
+
+  @Test
+  void invalidArguments() {
+    ConsoleBuilder cb = new ConsoleBuilder(new StringWriter());
+    assertThrows(IllegalArgumentException.class, () -> new Progress(cb, 0));
+    try (Progress progress = new Progress(cb)) {
+      assertThrows(IllegalArgumentException.class, () -> progress.bar("x", 0));
+      assertThrows(IllegalArgumentException.class, () -> progress.barWidth(0));
+    }
+  }
+}
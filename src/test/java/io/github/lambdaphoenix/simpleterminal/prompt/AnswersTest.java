@@ -0,0 +1,47 @@
+package io.github.lambdaphoenix.simpleterminal.prompt;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.github.lambdaphoenix.simpleterminal.core.ValidationException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class AnswersTest {
+
+  @Test
+  void key() {
+    assertEquals("enter.your.age", Answers.key("Enter your age:"));
+    assertEquals("continue", Answers.key("  Continue? "));
+    assertEquals("größe.in.cm", Answers.key("Größe (in cm)"));
+  }
+
+  @Test
+  void get() {
+    Answers answers = Answers.of(Map.of("Name?", "Ada", "enter.your.age", "42"));
+    assertEquals("Ada", answers.get(" Name? "));
+    assertEquals("Ada", answers.get("name"));
+    assertEquals("42", answers.get("Enter your age:"));
+    assertThrows(ValidationException.class, () -> answers.get("Missing"));
+  }
+
+  @Test
+  void defaults() {
+    Answers answers =
+        Answers.of(Map.of("a", "1")).withDefaults(Answers.of(Map.of("a", "0", "b", "2")));
+    assertEquals("1", answers.get("a"));
+    assertEquals("2", answers.get("b"));
+  }
+
+  @Test
+  void load(@TempDir Path dir) throws IOException {
+    Path file = dir.resolve("answers.properties");
+    Files.writeString(file, "enter.your.name=Zoë\ncontinue=yes\n");
+    Answers answers = Answers.load(file);
+    assertEquals("Zoë", answers.get("Enter your name:"));
+    assertEquals("yes", answers.get("Continue?"));
+  }
+}
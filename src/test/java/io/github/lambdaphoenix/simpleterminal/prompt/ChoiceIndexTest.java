@@ -0,0 +1,72 @@
+package io.github.lambdaphoenix.simpleterminal.prompt;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.github.lambdaphoenix.simpleterminal.core.ValidationException;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class ChoiceIndexTest {
+
+  private static ChoiceIndex<Integer> index(String... labels) {
+    List<Choice<Integer>> choices = new ArrayList<>();
+    for (int i = 0; i < labels.length; i++) choices.add(new Choice<>(labels[i], i));
+    return new ChoiceIndex<>(choices);
+  }
+
+  private static List<String> labels(List<? extends Choice<?>> choices) {
+    return choices.stream().map(Choice::label).toList();
+  }
+
+  @Test
+  void emptyChoices() {
+    assertThrows(ValidationException.class, () -> new ChoiceIndex<>(List.of()));
+  }
+
+  @Test
+  void searchIsCaseInsensitiveSubstring() {
+    ChoiceIndex<Integer> idx = index("Alpha", "Beta", "alphabet", "Gamma");
+    assertEquals(List.of("Alpha", "alphabet"), labels(idx.search("ALP", 10)));
+    assertEquals(List.of("Alpha", "alphabet", "Beta", "Gamma"), labels(idx.search("a", 10)));
+    assertEquals(List.of("alphabet"), labels(idx.search("habe", 10)));
+    assertEquals(List.of(), idx.search("xyz", 10));
+    assertEquals(List.of(), idx.search("alpx", 10));
+  }
+
+  @Test
+  void ranking() {
+    ChoiceIndex<Integer> idx = index("db-web-1", "webserver", "cobweb", "web-2", "my web");
+    assertEquals(
+        List.of("webserver", "web-2", "db-web-1", "my web", "cobweb"),
+        labels(idx.search("web", 10)));
+    assertEquals(List.of("webserver", "web-2"), labels(idx.search("web", 2)));
+    assertThrows(IllegalArgumentException.class, () -> idx.search("web", -1));
+  }
+
+  @Test
+  void trigramsMustBeContiguous() {
+    // contains the trigrams "abc" and "bcd" but not "abcd"
+    ChoiceIndex<Integer> idx = index("abc bcd", "xabcdx");
+    assertEquals(List.of("xabcdx"), labels(idx.search("abcd", 10)));
+  }
+
+  @Test
+  void incrementalMatchesAgreeWithIndex() {
+    List<Choice<Integer>> choices = new ArrayList<>();
+    for (int i = 0; i < 5000; i++) choices.add(new Choice<>("host-" + i + ".example", i));
+    ChoiceIndex<Integer> idx = new ChoiceIndex<>(choices);
+    assertEquals(5000, idx.size());
+
+    int[] matches = idx.matches("", null);
+    String query = "";
+    for (char c : "st-12".toCharArray()) {
+      query += c;
+      matches = idx.matches(query, matches);
+      assertArrayEquals(idx.matches(query, null), matches, query);
+    }
+    assertEquals(111, matches.length); // 12, 120..129, 1200..1299
+    assertEquals(111, idx.count("ST-12"));
+    assertEquals("host-12.example", idx.search("st-12", 1).getFirst().label());
+  }
+}
@@ -0,0 +1,141 @@
+package io.github.lambdaphoenix.simpleterminal.prompt;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.PipedReader;
+import java.io.PipedWriter;
+import java.io.Reader;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class InputSourceTest {
+
+  @Test
+  void lines() throws IOException {
+    InputSource in = InputSource.of("a", "b");
+    assertEquals("a", in.readLine());
+    assertEquals("b", in.readLine(Duration.ZERO));
+    assertNull(in.readLine());
+  }
+
+  @Test
+  void stream() throws IOException {
+    InputSource in = InputSource.of(new ByteArrayInputStream("x\r\ny\n".getBytes()));
+    assertEquals("x", in.readLine());
+    assertEquals("y", in.readLine());
+    assertNull(in.readLine());
+    assertNull(in.readLine());
+  }
+
+  @Test
+  void channel() throws IOException {
+    byte[] bytes = "ä\n".getBytes(StandardCharsets.UTF_8);
+    InputSource in = InputSource.of(Channels.newChannel(new ByteArrayInputStream(bytes)));
+    assertEquals("ä", in.readLine());
+  }
+
+  @Test
+  void timeout() throws IOException {
+    PipedWriter writer = new PipedWriter();
+    InputSource in = InputSource.of(new PipedReader(writer));
+    InterruptedIOException e =
+        assertThrows(InterruptedIOException.class, () -> in.readLine(Duration.ofMillis(20)));
+    assertEquals("Read timed out", e.getMessage());
+    writer.write("late\n");
+    writer.flush();
+    assertEquals("late", in.readLine(Duration.ofSeconds(10)));
+  }
+
+  @Test
+  void cancel() throws Exception {
+    PipedWriter writer = new PipedWriter();
+    InputSource in = InputSource.of(new PipedReader(writer));
+    CompletableFuture<Exception> result = new CompletableFuture<>();
+    Thread reader =
+        Thread.ofVirtual()
+            .start(
+                () -> {
+                  try {
+                    in.readLine();
+                    result.complete(null);
+                  } catch (Exception e) {
+                    result.complete(e);
+                  }
+                });
+    while (reader.getState() != Thread.State.WAITING) Thread.onSpinWait();
+    in.cancel();
+    Exception e = result.get(10, TimeUnit.SECONDS);
+    assertInstanceOf(InterruptedIOException.class, e);
+    assertEquals("Read cancelled", e.getMessage());
+
+    in.cancel();
+    writer.write("next\n");
+    writer.flush();
+    assertEquals("next", in.readLine());
+  }
+
+  @Test
+  void closeWhileReading() throws Exception {
+    PipedWriter writer = new PipedWriter();
+    InputSource in = InputSource.of(new PipedReader(writer));
+    CompletableFuture<Exception> result = new CompletableFuture<>();
+    Thread reader =
+        Thread.ofVirtual()
+            .start(
+                () -> {
+                  try {
+                    in.readLine();
+                    result.complete(null);
+                  } catch (Exception e) {
+                    result.complete(e);
+                  }
+                });
+    while (reader.getState() != Thread.State.WAITING) Thread.onSpinWait();
+    assertTimeoutPreemptively(Duration.ofSeconds(10), in::close);
+    Exception e = result.get(10, TimeUnit.SECONDS);
+    assertInstanceOf(IOException.class, e);
+    assertEquals("Input source closed", e.getMessage());
+
+    IOException later =
+        assertTimeoutPreemptively(
+            Duration.ofSeconds(10), () -> assertThrows(IOException.class, in::readLine));
+    assertEquals("Input source closed", later.getMessage());
+    in.close();
+  }
+
+  @Test
+  void readsOnDemand() throws Exception {
+    AtomicInteger reads = new AtomicInteger();
+    Reader lines =
+        new Reader() {
+          @Override
+          public int read(char[] buf, int off, int len) {
+            String line = reads.incrementAndGet() + "\n";
+            line.getChars(0, line.length(), buf, off);
+            return line.length();
+          }
+
+          @Override
+          public void close() {}
+        };
+    InputSource in = InputSource.of(lines);
+    assertEquals("1", in.readLine());
+    Thread.sleep(50);
+    assertEquals(1, reads.get());
+    assertEquals("2", in.readLine());
+    assertEquals(2, reads.get());
+  }
+
+  @Test
+  void stdin() {
+    assertSame(InputSource.stdin(), InputSource.stdin());
+  }
+}
@@ -0,0 +1,86 @@
+package io.github.lambdaphoenix.simpleterminal.prompt;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class KeyDecoderTest {
+
+  private static List<KeyEvent> decode(String input) throws IOException {
+    KeyDecoder keys =
+        new KeyDecoder(new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)));
+    List<KeyEvent> events = new ArrayList<>();
+    for (KeyEvent e; (e = keys.next()) != null; ) events.add(e);
+    return events;
+  }
+
+  @Test
+  void navigation() throws IOException {
+    assertEquals(
+        List.of(
+            KeyEvent.of(Key.UP),
+            KeyEvent.of(Key.DOWN),
+            KeyEvent.of(Key.RIGHT),
+            KeyEvent.of(Key.LEFT),
+            KeyEvent.of(Key.HOME),
+            KeyEvent.of(Key.END),
+            KeyEvent.of(Key.HOME),
+            KeyEvent.of(Key.END),
+            KeyEvent.of(Key.PAGE_UP),
+            KeyEvent.of(Key.PAGE_DOWN),
+            KeyEvent.of(Key.DELETE),
+            KeyEvent.of(Key.UP),
+            KeyEvent.of(Key.UP)),
+        decode(
+            "\u001B[A\u001B[B\u001B[C\u001B[D\u001B[H\u001B[F\u001B[1~\u001B[4~"
+                + "\u001B[5~\u001B[6~\u001B[3~\u001BOA\u001B[1;5A"));
+  }
+
+  @Test
+  void controlKeys() throws IOException {
+    assertEquals(
+        List.of(
+            KeyEvent.of(Key.ENTER),
+            KeyEvent.of(Key.ENTER),
+            KeyEvent.of(Key.ENTER),
+            KeyEvent.of(Key.CTRL_C),
+            KeyEvent.of(Key.TAB),
+            KeyEvent.of(Key.BACKSPACE)),
+        decode("\r\n\n\r\u0003\t\u007F"));
+  }
+
+  @Test
+  void characters() throws IOException {
+    assertEquals(
+        List.of(KeyEvent.of('a'), KeyEvent.of('ä'), KeyEvent.of('日'), KeyEvent.of(0x1F600)),
+        decode("aä日😀"));
+  }
+
+  @Test
+  void escapeAndUnknownSequences() throws IOException {
+    assertEquals(
+        List.of(
+            KeyEvent.of(Key.ESCAPE), KeyEvent.of('x'), KeyEvent.of('y'), KeyEvent.of(Key.ESCAPE)),
+        decode("\u001Bx\u001B[99~y\u001B"));
+  }
+
+  @Test
+  void splitAcrossReads() throws IOException {
+    byte[] bytes = "\u001B[6~".getBytes(StandardCharsets.US_ASCII);
+    KeyDecoder keys =
+        new KeyDecoder(
+            new ByteArrayInputStream(bytes) {
+              @Override
+              public synchronized int read(byte[] b, int off, int len) {
+                return super.read(b, off, Math.min(len, 1));
+              }
+            });
+    assertEquals(KeyEvent.of(Key.PAGE_DOWN), keys.next());
+    assertNull(keys.next());
+  }
+}
@@ -3,8 +3,18 @@ package io.github.lambdaphoenix.simpleterminal.prompt;
 import static org.junit.jupiter.api.Assertions.*;
 
 import io.github.lambdaphoenix.simpleterminal.core.ConsoleBuilder;
+import io.github.lambdaphoenix.simpleterminal.core.ValidationException;
 import java.io.ByteArrayInputStream;
+import java.io.EOFException;
 import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
+import java.io.StringWriter;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import org.junit.jupiter.api.Test;
 
 class PromptTest {
@@ -27,12 +37,216 @@ class PromptTest {
   @Test
   void testAskInt() {}
 
+  @Test
+  void inputSource() throws IOException {
+    Prompt prompt = new Prompt(new ConsoleBuilder(new StringWriter()), InputSource.of("x", "7"));
+    assertEquals(7, prompt.askInt("Enter number:"));
+    assertNull(prompt.ask("More?"));
+  }
+
+  @Test
+  void timeout() throws IOException {
+    PipedInputStream pipe = new PipedInputStream(new PipedOutputStream());
+    Prompt prompt =
+        new Prompt(new ConsoleBuilder(new StringWriter()), InputSource.of(pipe))
+            .withTimeout(Duration.ofMillis(10));
+    assertEquals(Duration.ofMillis(10), prompt.timeout());
+    assertThrows(InterruptedIOException.class, () -> prompt.ask("Name:"));
+  }
+
   @Test
   void askYesNo() {}
 
+  @Test
+  void batch() throws IOException {
+    StringWriter out = new StringWriter();
+    Answers answers =
+        Answers.of(
+            Map.of(
+                "name", "Ada",
+                "age", "36",
+                "continue", "YES",
+                "color", "Blue",
+                "size", "2",
+                "code", "AB-1",
+                "port", "8080"));
+    Prompt prompt = new Prompt(new ConsoleBuilder(out), InputSource.of()).withAnswers(answers);
+    List<Choice<Integer>> choices = List.of(new Choice<>("Red", 1), new Choice<>("Blue", 2));
+    assertEquals("Ada", prompt.ask("Name:"));
+    assertEquals(36, prompt.askInt("Age:", v -> v > 0, "positive"));
+    assertTrue(prompt.askYesNo("Continue?"));
+    assertEquals(2, prompt.askChoice("Color?", choices));
+    assertEquals(2, prompt.askChoice("Size?", choices));
+    assertEquals("AB-1", prompt.askPattern("Code:", "[A-Z]+-\\d", "bad code"));
+    assertEquals(8080, (int) prompt.askMapped("Port:", Integer::parseInt, "bad port"));
+    assertEquals("", out.toString());
+  }
+
+  @Test
+  void batchFailsFast() {
+    Prompt prompt =
+        new Prompt(new ConsoleBuilder(new StringWriter()), InputSource.of())
+            .withAnswers(Answers.of(Map.of("age", "old", "code", "x")));
+    assertThrows(ValidationException.class, () -> prompt.askInt("Age:"));
+    ValidationException e =
+        assertThrows(ValidationException.class, () -> prompt.askPattern("Code:", "\\d+", "digits"));
+    assertEquals("digits", e.getMessage());
+    assertThrows(ValidationException.class, () -> prompt.ask("Missing:"));
+  }
+
   @Test
   void askChoice() {}
 
+  @Test
+  void askChoiceWithKeys() throws IOException {
+    StringWriter out = new StringWriter();
+    Prompt prompt = new Prompt(new ConsoleBuilder(out), InputSource.of());
+    List<Choice<String>> choices =
+        List.of(new Choice<>("One", "1"), new Choice<>("Two", "2"), new Choice<>("Three", "3"));
+    String keys = "\u001B[B\u001B[B\u001B[B\u001B[A\r";
+    KeyDecoder decoder = new KeyDecoder(new ByteArrayInputStream(keys.getBytes()));
+    assertEquals("2", prompt.askChoice("Pick:", choices, decoder));
+
+    String s = out.toString();
+    assertTrue(s.contains("\u001B[7m> One"));
+    // three moves, two rows each; the third DOWN is clamped and redraws nothing
+    assertEquals(6, s.split("\u001B\\[K", -1).length - 1);
+    assertTrue(s.endsWith("\u001B[2A\r\u001B[7m> Two\u001B[27m\u001B[K\u001B[2B\r"));
+  }
+
+  @Test
+  void askChoiceWithIndex() throws IOException {
+    List<Choice<Integer>> choices = new ArrayList<>();
+    for (int i = 0; i < 1000; i++) choices.add(new Choice<>("item-" + i, i));
+    ChoiceIndex<Integer> index = new ChoiceIndex<>(choices);
+
+    StringWriter out = new StringWriter();
+    Prompt prompt = new Prompt(new ConsoleBuilder(out), InputSource.of());
+    // type "99", backspace, "42", arrow down, enter: matches of "942" are 942 only
+    String keys = "99\u007F42\u001B[B\r";
+    KeyDecoder decoder = new KeyDecoder(new ByteArrayInputStream(keys.getBytes()));
+    assertEquals(942, prompt.askChoice("Item:", index, decoder));
+    assertTrue(out.toString().contains("1000 matches"));
+    assertTrue(out.toString().contains("Item: 942\u001B[K"));
+
+    StringWriter out2 = new StringWriter();
+    prompt = new Prompt(new ConsoleBuilder(out2), InputSource.of());
+    keys = "4\u001B[B\u001B[B\r";
+    decoder = new KeyDecoder(new ByteArrayInputStream(keys.getBytes()));
+    // matches starting a word rank first: 4, 40, 41, ..., then 14, 24, ...
+    assertEquals(41, prompt.askChoice("Item:", index, decoder));
+  }
+
+  @Test
+  void askChoiceWithKeysPlain() throws IOException {
+    StringWriter out = new StringWriter();
+    Prompt prompt = new Prompt(new ConsoleBuilder(out).plain(true), InputSource.of("2"));
+    List<Choice<String>> choices = List.of(new Choice<>("One", "1"), new Choice<>("Two", "2"));
+    KeyDecoder none = new KeyDecoder(new ByteArrayInputStream(new byte[0]));
+    assertEquals("2", prompt.askChoice("Pick:", choices, none));
+    assertTrue(out.toString().contains("  2) Two"));
+    assertFalse(out.toString().contains("\u001B"));
+  }
+
+  @Test
+  void askChoiceWithIndexPlain() throws IOException {
+    List<Choice<Integer>> choices = new ArrayList<>();
+    for (int i = 0; i < 1000; i++) choices.add(new Choice<>("item-" + i, i));
+    ChoiceIndex<Integer> index = new ChoiceIndex<>(choices);
+
+    StringWriter out = new StringWriter();
+    Prompt prompt =
+        new Prompt(new ConsoleBuilder(out).plain(true), InputSource.of("zzz", "942", "1"));
+    KeyDecoder none = new KeyDecoder(new ByteArrayInputStream(new byte[0]));
+    assertEquals(942, prompt.askChoice("Item:", index, none));
+    String s = out.toString();
+    assertTrue(s.contains("1000 matches"));
+    assertTrue(s.contains("  1) item-942"));
+    assertTrue(s.contains("1 matches"));
+    assertTrue(s.contains("Invalid choice"));
+    assertFalse(s.contains("\u001B"));
+  }
+
+  @Test
+  void askChoiceWithIndexBatch() throws IOException {
+    ChoiceIndex<String> index =
+        new ChoiceIndex<>(List.of(new Choice<>("Red", "r"), new Choice<>("Green", "g")));
+    Prompt prompt =
+        new Prompt(new ConsoleBuilder(new StringWriter()))
+            .withAnswers(Answers.of(Map.of("color", "green", "other", "gre")));
+    KeyDecoder none = new KeyDecoder(new ByteArrayInputStream(new byte[0]));
+    assertEquals("g", prompt.askChoice("Color:", index, none));
+    assertThrows(ValidationException.class, () -> prompt.askChoice("Other", index, none));
+  }
+
+  @Test
+  void askChoiceFromSource() throws IOException {
+    List<Integer> fetched = new ArrayList<>();
+    ChoiceSource<Integer> source =
+        (offset, limit) -> {
+          fetched.add(offset);
+          List<Choice<Integer>> page = new ArrayList<>();
+          for (int i = offset; i < Math.min(25, offset + limit); i++) {
+            page.add(new Choice<>("Item " + i, i));
+          }
+          return page;
+        };
+
+    StringWriter out = new StringWriter();
+    Prompt prompt = new Prompt(new ConsoleBuilder(out), InputSource.of("n", "5", "n", "p", "15"));
+    assertEquals(14, prompt.askChoice("Pick:", source));
+    assertEquals(List.of(0, 10, 20, 10), fetched);
+    String s = out.toString();
+    assertTrue(s.contains("  11) Item 10"));
+    assertTrue(s.contains("  [3]"));
+    assertFalse(s.contains("Item 25"));
+    assertTrue(s.contains("Invalid choice"));
+
+    out = new StringWriter();
+    prompt = new Prompt(new ConsoleBuilder(out), InputSource.of("3"));
+    assertEquals(
+        "c",
+        prompt.askChoice(
+            "Pick:",
+            ChoiceSource.of(
+                List.of(new Choice<>("A", "a"), new Choice<>("B", "b"), new Choice<>("C", "c")))));
+    assertTrue(out.toString().contains("  [1/1]"));
+  }
+
+  @Test
+  void askChoiceFromSourceBatch() throws IOException {
+    List<Choice<Integer>> choices = new ArrayList<>();
+    for (int i = 0; i < 35; i++) choices.add(new Choice<>("Item " + i, i));
+    ChoiceSource<Integer> source = ChoiceSource.of(choices);
+    Prompt prompt =
+        new Prompt(new ConsoleBuilder(new StringWriter()))
+            .withAnswers(Answers.of(Map.of("label", "item 31", "number", "23", "bad", "36")));
+    assertEquals(31, prompt.askChoice("Label", source));
+    assertEquals(22, prompt.askChoice("Number", source));
+    assertThrows(ValidationException.class, () -> prompt.askChoice("Bad", source));
+    assertThrows(
+        ValidationException.class,
+        () ->
+            new Prompt(new ConsoleBuilder(new StringWriter()), InputSource.of("1"))
+                .askChoice("Empty", ChoiceSource.of(List.<Choice<String>>of())));
+  }
+
+  @Test
+  void askChoiceWithKeysCancelled() {
+    Prompt prompt = new Prompt(new ConsoleBuilder(new StringWriter()), InputSource.of());
+    List<Choice<String>> choices = List.of(new Choice<>("One", "1"));
+    assertThrows(
+        InterruptedIOException.class,
+        () ->
+            prompt.askChoice(
+                "Pick:", choices, new KeyDecoder(new ByteArrayInputStream(new byte[] {3}))));
+    assertThrows(
+        EOFException.class,
+        () ->
+            prompt.askChoice(
+                "Pick:", choices, new KeyDecoder(new ByteArrayInputStream(new byte[0]))));
+  }
+
   @Test
   void askPattern() {}
 
@@ -0,0 +1,76 @@
+package io.github.lambdaphoenix.simpleterminal.screen;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.github.lambdaphoenix.simpleterminal.ansi.AnsiColor;
+import io.github.lambdaphoenix.simpleterminal.core.ConsoleBuilder;
+import org.junit.jupiter.api.Test;
+
+class ScreenRendererTest {
+
+  @Test
+  void fullFirstFrame() {
+    Screen screen = new Screen(3, 2);
+    screen.text(0, 0, "ab");
+    ConsoleBuilder cb = new ConsoleBuilder();
+    assertEquals(6, new ScreenRenderer().render(screen, cb));
+    assertEquals("\u001B[1;1H\u001B[0mab \u001B[2;1H   ", cb.build());
+  }
+
+  @Test
+  void onlyChanges() {
+    Screen screen = new Screen(10, 3);
+    ScreenRenderer renderer = new ScreenRenderer();
+    ConsoleBuilder cb = new ConsoleBuilder();
+    renderer.render(screen, cb);
+    cb.clear();
+
+    assertEquals(0, renderer.render(screen, cb));
+    assertEquals("", cb.build());
+
+    screen.text(4, 1, "x").color(AnsiColor.RED).text(5, 1, "y").reset().text(2, 2, "z");
+    assertEquals(3, renderer.render(screen, cb));
+    assertEquals("\u001B[2;5H\u001B[0mx\u001B[31my\u001B[3;3H\u001B[0mz", cb.build());
+  }
+
+  @Test
+  void invalidate() {
+    Screen screen = new Screen(2, 2);
+    ScreenRenderer renderer = new ScreenRenderer();
+    ConsoleBuilder cb = new ConsoleBuilder();
+    renderer.render(screen, cb);
+    renderer.invalidate();
+    assertEquals(4, renderer.render(screen, cb));
+  }
+
+  @Test
+  void wide() {
+    Screen screen = new Screen(3, 1);
+    screen.text(0, 0, "日x");
+    ConsoleBuilder cb = new ConsoleBuilder();
+    ScreenRenderer renderer = new ScreenRenderer();
+    assertEquals(3, renderer.render(screen, cb));
+    assertEquals("\u001B[1;1H\u001B[0m日x", cb.build());
+
+    cb.clear();
+    screen.text(0, 0, "ab");
+    assertEquals(2, renderer.render(screen, cb));
+    assertEquals("\u001B[1;1H\u001B[0mab", cb.build());
+  }
+
+  @Test
+  void plainDrawsFullFrames() {
+    Screen screen = new Screen(3, 2);
+    screen.color(AnsiColor.RED).text(0, 0, "日x").reset().text(1, 1, "y");
+    ConsoleBuilder cb = new ConsoleBuilder().plain(true);
+    ScreenRenderer renderer = new ScreenRenderer();
+    String nl = System.lineSeparator();
+    assertEquals(6, renderer.render(screen, cb));
+    assertEquals(6, renderer.render(screen, cb));
+    assertEquals("日x" + nl + " y " + nl + "日x" + nl + " y " + nl, cb.build());
+
+    cb = new ConsoleBuilder();
+    assertEquals(6, renderer.render(screen, cb));
+    assertTrue(cb.build().startsWith("\u001B[1;1H"));
+  }
+}
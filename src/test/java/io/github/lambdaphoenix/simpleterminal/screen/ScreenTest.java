@@ -0,0 +1,85 @@
+package io.github.lambdaphoenix.simpleterminal.screen;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.github.lambdaphoenix.simpleterminal.ansi.AnsiColor;
+import io.github.lambdaphoenix.simpleterminal.ansi.AnsiStyle;
+import io.github.lambdaphoenix.simpleterminal.box.BoxStyle;
+import org.junit.jupiter.api.Test;
+
+class ScreenTest {
+
+  /** Returns the characters of one row as a string. */
+  private static String row(Screen screen, int row) {
+    StringBuilder sb = new StringBuilder();
+    for (int c = 0; c < screen.width(); c++) {
+      int cp = screen.chars[row * screen.width() + c];
+      if (cp != Screen.CONTINUATION) sb.appendCodePoint(cp);
+    }
+    return sb.toString();
+  }
+
+  @Test
+  void text() {
+    Screen screen = new Screen(5, 2);
+    screen.text(3, 1, "abc").text(-1, 0, "xy");
+    assertEquals("y    ", row(screen, 0));
+    assertEquals("   ab", row(screen, 1));
+  }
+
+  @Test
+  void style() {
+    Screen screen = new Screen(3, 1);
+    screen.color(AnsiColor.RED).style(AnsiStyle.BOLD).text(0, 0, "a").reset().text(1, 0, "b");
+    assertEquals(AnsiColor.RED, screen.fgs[0]);
+    assertEquals(Screen.bit(AnsiStyle.BOLD), screen.attrs[0]);
+    assertNull(screen.fgs[1]);
+    assertEquals(0, screen.attrs[1]);
+  }
+
+  @Test
+  void rule() {
+    Screen screen = new Screen(4, 1);
+    screen.rule(0, '=');
+    assertEquals("====", row(screen, 0));
+  }
+
+  @Test
+  void box() {
+    Screen screen = new Screen(9, 5);
+    screen.box(0, 0, "T", "ab", BoxStyle.ASCII);
+    assertEquals("+----+   ", row(screen, 0));
+    assertEquals("| T  |   ", row(screen, 1));
+    assertEquals("+----+   ", row(screen, 2));
+    assertEquals("| ab |   ", row(screen, 3));
+    assertEquals("+----+   ", row(screen, 4));
+  }
+
+  @Test
+  void wide() {
+    Screen screen = new Screen(5, 1);
+    screen.text(0, 0, "日a\u0301本");
+    assertEquals("日a本", row(screen, 0));
+    assertEquals(Screen.CONTINUATION, screen.chars[1]);
+    screen.put(1, 0, 'x').text(4, 0, "日");
+    assertEquals(" xa  ", row(screen, 0));
+  }
+
+  @Test
+  void boxWide() {
+    Screen screen = new Screen(8, 4);
+    screen.box(0, 0, null, "日本\r\nx", BoxStyle.ASCII);
+    assertEquals("+------+", row(screen, 0));
+    assertEquals("| 日本 |", row(screen, 1));
+    assertEquals("| x    |", row(screen, 2));
+    assertEquals("+------+", row(screen, 3));
+  }
+
+  @Test
+  void clear() {
+    Screen screen = new Screen(2, 1);
+    screen.text(0, 0, "ab").clear();
+    assertEquals("  ", row(screen, 0));
+    assertThrows(IllegalArgumentException.class, () -> new Screen(0, 1));
+  }
+}
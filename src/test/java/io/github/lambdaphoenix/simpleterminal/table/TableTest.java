@@ -0,0 +1,114 @@
+package io.github.lambdaphoenix.simpleterminal.table;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.github.lambdaphoenix.simpleterminal.box.BoxStyle;
+import io.github.lambdaphoenix.simpleterminal.core.ConsoleBuilder;
+import java.io.StringWriter;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+
+class TableTest {
+  private static final String NL = System.lineSeparator();
+
+  @Test
+  void render() {
+    String out =
+        new Table("Name", "Qty")
+            .boxStyle(BoxStyle.ASCII)
+            .render(new ConsoleBuilder(), List.of(List.of("apple", 3), List.of("日本", 12)))
+            .build();
+    String expected =
+        "+-------------+"
+            + NL
+            + "| Name  | Qty |"
+            + NL
+            + "+-------------+"
+            + NL
+            + "| apple | 3   |"
+            + NL
+            + "| 日本  | 12  |"
+            + NL
+            + "+-------------+"
+            + NL;
+    assertEquals(expected, out);
+  }
+
+  @Test
+  void sampleAndTruncate() {
+    Table table = new Table("A").boxStyle(BoxStyle.ASCII).sampleSize(1);
+    String out =
+        table.render(new ConsoleBuilder(), Stream.of(List.of("ab"), List.of("abcd"))).build();
+    assertEquals(
+        "+----+" + NL + "| A  |" + NL + "+----+" + NL + "| ab |" + NL + "| a… |" + NL + "+----+"
+            + NL,
+        out);
+  }
+
+  @Test
+  void wrap() {
+    Table table =
+        new Table("A", "B").boxStyle(BoxStyle.ASCII).widths(5, 0).overflow(Table.Overflow.WRAP);
+    String out = table.render(new ConsoleBuilder(), List.of(List.of("ab cd efgh", "x"))).build();
+    String expected =
+        "+-----------+"
+            + NL
+            + "| A     | B |"
+            + NL
+            + "+-----------+"
+            + NL
+            + "| ab cd | x |"
+            + NL
+            + "| efgh  |   |"
+            + NL
+            + "+-----------+"
+            + NL;
+    assertEquals(expected, out);
+  }
+
+  @Test
+  void wrapWideInNarrowColumn() {
+    Table table = new Table("A").boxStyle(BoxStyle.ASCII).widths(1).overflow(Table.Overflow.WRAP);
+    String out = table.render(new ConsoleBuilder(), List.of(List.of("日本x"))).build();
+    assertTrue(out.contains("| 日 |" + NL + "| 本 |" + NL + "| x |" + NL), out);
+    assertFalse(out.contains("…"));
+  }
+
+  @Test
+  void missingCells() {
+    String out =
+        new Table("A", "B")
+            .boxStyle(BoxStyle.ASCII)
+            .render(new ConsoleBuilder(), List.of(List.of("x"), List.of("y", "z", "ignored")))
+            .build();
+    assertTrue(out.contains("| x | " + " " + " |"));
+    assertFalse(out.contains("ignored"));
+  }
+
+  @Test
+  void streamsRowsAfterSample() {
+    StringWriter sink = new StringWriter();
+    ConsoleBuilder cb = new ConsoleBuilder(sink).flushLineThreshold(1);
+    Iterator<List<?>> rows =
+        IntStream.range(0, 10)
+            .<List<?>>mapToObj(
+                i -> {
+                  if (i == 5) assertTrue(sink.toString().contains("| 3 |"));
+                  return List.of(i);
+                })
+            .iterator();
+    new Table("N").boxStyle(BoxStyle.ASCII).sampleSize(2).render(cb, rows);
+    assertTrue(sink.toString().endsWith("| 9 |" + NL + "+---+" + NL));
+  }
+
+  @Test
+  void invalidArguments() {
+    assertThrows(IllegalArgumentException.class, Table::new);
+    assertThrows(IllegalArgumentException.class, () -> new Table("A").widths(1, 2));
+    assertThrows(IllegalArgumentException.class, () -> new Table("A").sampleSize(-1));
+    assertThrows(IllegalArgumentException.class, () -> new Table("A").maxColumnWidth(0));
+  }
+}